@@ -11,5 +11,6 @@ abstract public class Graphs<V> {
     abstract public boolean deleteVertex(V vertex);
     abstract public boolean findVertex(V vertex);
     abstract public Collection<V> verticesNeighbors(V vertex);
+    abstract public Collection<V> getAllVertices();
     abstract public int getVertexCount();
 }
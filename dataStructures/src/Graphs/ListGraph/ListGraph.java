@@ -124,6 +124,18 @@ public class ListGraph<T> extends Graphs<T> {
         return vertices.size();
     }
 
+    /**This method returns all the vertices in the current ListGraph object
+     * in form of a collection. The vertices are in the order that they were
+     * added to the graph. If there are no vertices, an empty collection is
+     * returned
+     *
+     * @return Collection of all vertices in current graph object
+     */
+    @Override
+    public Collection<T> getAllVertices(){
+        return new ArrayList<>(vertices);
+    }
+
     /**This method returns true if vertex is found in the current graph
      * object. It checks if vertex is part of the current ListGraph object by
      * iterating through every vertice present in graph. If vertex is found,
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.MapGraph;
+
+/*This class is the list MapGraph uses to store the neighbors of a vertex.
+ * The neighbors are kept in an array, in the order they were added, so going
+ * through them reads memory one element after the other and each neighbor
+ * only costs one array slot, instead of a whole node as in java.util
+ * LinkedList. Checking whether a vertex is a neighbor has to be fast,
+ * because makeEdge() does it for every edge and verticesPredecessors() does
+ * it for every vertex. For vertices with only a few neighbors, going through
+ * the array is fastest. Once a vertex has more than INDEX_THRESHOLD
+ * neighbors, an open addressing hash index is kept next to the array. Each
+ * slot of the index holds the position of a neighbor in the array plus one,
+ * and 0 for an empty slot, so contains() and indexOf() take constant time.
+ * Removing a neighbor takes its slot out with backward shift deletion, which
+ * moves later slots of the same probe run back into the gap instead of
+ * leaving a tombstone, and then only the slots of the neighbors that moved
+ * down the array are changed, so the index is never rebuilt for it*/
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+class AdjacencyList<V> extends AbstractList<V> implements RandomAccess {
+    /*number of neighbors above which the hash index is used*/
+    private static final int INDEX_THRESHOLD = 8;
+    private static final Object[] EMPTY = {};
+
+    private Object[] items;// neighbors in the order they were added
+    private int size;// number of neighbors
+    private int[] index;// position + 1 of every neighbor, null when small
+
+    /**Default Constructor. No array is made until the first neighbor is
+     * added, since many vertices never get any
+     */
+    AdjacencyList() {
+        items = EMPTY;
+    }
+
+    /**Constructor that makes room for a known number of neighbors
+     *
+     * @param capacity (number of neighbors that will be added)
+     */
+    AdjacencyList(int capacity) {
+        items = capacity == 0 ? EMPTY : new Object[capacity];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(int position) {
+        if (position < 0 || position >= size)
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        return (V) items[position];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(V neighbor) {
+        if (size == items.length)
+            items = Arrays.copyOf(items, Math.max(4, size + (size >> 1)));
+
+        items[size] = neighbor;
+        size++;
+
+        if (index != null) {
+            // keeping the index at most half full
+            if (size * 2 > index.length)
+                rebuildIndex();
+            else
+                indexPosition(size - 1);
+        } else if (size > INDEX_THRESHOLD)
+            rebuildIndex();
+
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object neighbor) {
+        int position = -1;
+
+        if (index != null) {
+            int mask = index.length - 1;
+
+            // probing until the neighbor or an empty slot is found
+            for (int slot = hash(neighbor) & mask; index[slot] != 0
+                    && position == -1; slot = (slot + 1) & mask) {
+                if (equal(items[index[slot] - 1], neighbor))
+                    position = index[slot] - 1;
+            }
+        } else {
+            for (int i = 0; i < size && position == -1; i++) {
+                if (equal(items[i], neighbor))
+                    position = i;
+            }
+        }
+
+        return position;
+    }
+
+    @Override
+    public boolean contains(Object neighbor) {
+        return indexOf(neighbor) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object neighbor) {
+        int position = indexOf(neighbor);
+
+        if (position >= 0)
+            remove(position);
+
+        return position >= 0;
+    }
+
+    @Override
+    public V remove(int position) {
+        V removed = get(position);
+
+        if (index != null && size - 1 > INDEX_THRESHOLD)
+            unindex(position);// before the neighbors move
+        else
+            index = null;// small again, the array is searched
+
+        // shifting the neighbors after it down keeps them in order
+        System.arraycopy(items, position + 1, items, position,
+                size - position - 1);
+        size--;
+        items[size] = null;
+
+        // every neighbor that moved down is one position lower in the index.
+        // A few are found by probing, many by one sequential pass over it.
+        // An index at least twice as big as rebuildIndex() would make is
+        // rebuilt instead, which halves it, so it happens rarely
+        if (index != null && size * 6 < index.length) {
+            rebuildIndex();
+        } else if (index != null && (size - position) * 32 < index.length) {
+            for (int i = position; i < size; i++)
+                index[slotOf(i + 1, i)] = i + 1;
+        } else if (index != null) {
+            // without a branch, since empty and moved slots are mixed
+            // at random, 1 is taken from every slot above position + 1
+            for (int slot = 0; slot < index.length; slot++)
+                index[slot] -= (position + 1 - index[slot]) >>> 31;
+        }
+
+        modCount++;
+        return removed;
+    }
+
+    /**This method removes every neighbor that filter accepts, in a single
+     * pass that moves the kept neighbors down the array, instead of shifting
+     * the array once for every removed neighbor
+     *
+     * @param filter (returns true for neighbors to remove)
+     * @return true if any neighbor was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super V> filter) {
+        int kept = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (!filter.test((V) items[i]))
+                items[kept++] = items[i];
+        }
+
+        boolean removed = kept < size;
+
+        if (removed) {
+            Arrays.fill(items, kept, size, null);
+            size = kept;
+            index = null;
+            if (size > INDEX_THRESHOLD)
+                rebuildIndex();
+            modCount++;
+        }
+
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+        index = null;
+        modCount++;
+    }
+
+    /*This is a private method that makes a new index big enough for the
+     * current neighbors, at most a third full so there is room to grow, and
+     * puts every neighbor in it*/
+    private void rebuildIndex() {
+        int capacity = 16;// always a power of two, so slots can be masked
+        while (capacity < size * 3)
+            capacity <<= 1;
+
+        index = new int[capacity];
+
+        for (int i = 0; i < size; i++)
+            indexPosition(i);
+    }
+
+    /*puts the neighbor at position in the first free slot of the index*/
+    private void indexPosition(int position) {
+        int mask = index.length - 1;
+        int slot = hash(items[position]) & mask;
+
+        while (index[slot] != 0)
+            slot = (slot + 1) & mask;
+
+        index[slot] = position + 1;
+    }
+
+    /*This is a private method that takes the slot of the neighbor at
+     * position out of the index. Every slot after it in the same run that
+     * is allowed to be at the gap is moved back into it, so lookups never
+     * stop early at the gap and no tombstone is needed*/
+    private void unindex(int position) {
+        int mask = index.length - 1;
+        int gap = slotOf(position, position);
+
+        for (int slot = (gap + 1) & mask; index[slot] != 0;
+             slot = (slot + 1) & mask) {
+            int home = hash(items[index[slot] - 1]) & mask;
+
+            // the entry can move back unless its home is after the gap
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                index[gap] = index[slot];
+                gap = slot;
+            }
+        }
+
+        index[gap] = 0;
+    }
+
+    /*returns the slot of the index that holds stored position + 1, for
+     * the neighbor now at position item of the array*/
+    private int slotOf(int stored, int item) {
+        int mask = index.length - 1;
+        int slot = hash(items[item]) & mask;
+
+        while (index[slot] != stored + 1)
+            slot = (slot + 1) & mask;
+
+        return slot;
+    }
+
+    private static int hash(Object neighbor) {
+        // multiplying spreads neighbors with consecutive hash codes, such
+        // as Integer vertices, so they do not form one long probe run that
+        // every removal would have to walk
+        int h = (neighbor == null ? 0 : neighbor.hashCode()) * 0x9E3779B9;
+
+        return h ^ (h >>> 16);// mixes the high bits into the low bits
+    }
+
+    private static boolean equal(Object first, Object second) {
+        return first == null ? second == null : first.equals(second);
+    }
+}
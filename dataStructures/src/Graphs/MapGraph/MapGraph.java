@@ -8,7 +8,9 @@ package Graphs.MapGraph;
  * implemented using two hashMaps. dwGraphVertex and dwGraphEdge.
  * dwGraphVertex is a hashMap that stores the vertices in the graph, and its
  * corresponding neighbors. The neighbors are stored in a list structure
- * so dwGraphVertex has vertex and list pairs in its hashMap. dwGraphEdge
+ * so dwGraphVertex has vertex and list pairs in its hashMap. The list is an
+ * AdjacencyList, which keeps the neighbors in an array and can tell whether
+ * a vertex is a neighbor in constant time. dwGraphEdge
  * is a hashMap that stores all the edges in the graph, and the weight or cost
  * associated with it. dwGraphEdge contains String and Integer pairs stored
  * in the map. The String stored represents a string representation of edges
@@ -20,11 +22,17 @@ package Graphs.MapGraph;
 
 import Graphs.Graphs;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
     /*dwGraphVertex stores all the vertices in the graph and its neighbors*/
@@ -34,6 +42,9 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
      * eight associated with each graph*/
     private Map<String, Integer> dwGraphEdge;
 
+    /*subgraphs with at least this many vertices are extracted in parallel*/
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
     /**Default Constructor that initializes dwGraphVertex and dwGraphEdge.
      * The structure to be used for the project is hashMap so dwGraphVertex
      * will be initialized to a hashMap and dwGraphEdge will also have a
@@ -44,6 +55,17 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
         dwGraphEdge = new HashMap<>();
     }
 
+    /**Private Constructor that sizes dwGraphVertex for a known number of
+     * vertices, so it does not have to grow while a subgraph is copied in
+     *
+     * @param expectedVertices (number of vertices that will be added)
+     */
+    private MapGraph(int expectedVertices) {
+        dwGraphVertex = new HashMap<>(Math.max(16,
+                (int) (expectedVertices / 0.75f) + 1));
+        dwGraphEdge = new HashMap<>();
+    }
+
 
     /** This method adds a new vertex, "dataForVertex" to its current graph
      * object. If dataForVertex already exist as a vertex in the graph, false
@@ -68,7 +90,7 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
         {
             /* vertex is only added if the vertex did not previously exist in
              * the map, "dwGraphVertex"*/
-            dwGraphVertex.put(dataForVertex, new LinkedList<>());
+            dwGraphVertex.put(dataForVertex, new AdjacencyList<>());
             vertexStatus = true;
         }
 
@@ -102,6 +124,7 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
      *
      * @return Collection of all vertices in current graph object
      */
+    @Override
     public Collection<V> getAllVertices() {
 		/* vertexCollection represents collection to be returned. A linkedList
 		object is returned*/
@@ -162,10 +185,10 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
             String edgeToCreate = "edge" + sourceVertex + destVertex;
 
             /* we get the value of the sourceVertex from the graph, i.e. the
-             * LinkedList that belongs to the sourceVertex*/
+             * list that belongs to the sourceVertex*/
             List<V> sourceVertexValue = dwGraphVertex.get(sourceVertex);
 
-            /* adding destVertex to LinkedList of sourceVertex to create an
+            /* adding destVertex to the list of sourceVertex to create an
              * edge or a connection between source and destination vertex. We check
              * to see if an edge already exist between both source and destination
              * vertex. if not, we create an edge*/
@@ -208,15 +231,12 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
             // string representation of how edges are stored in graph
             String vertName = "edge" + sourceVertex + destVertex;
 
-            // iterating through every edge present in the graph
-
-            for (String s : dwGraphEdge.keySet()) {
-                if (vertName.equals(s))// if the edge is found
-                    /*We get the edgeCost of the edge that exist between
-                     * source and destination vertex*/
-                    if (dwGraphEdge.get(vertName) != null)// check if edge exist
-                        weight = dwGraphEdge.get(vertName);
-            }
+            /*We get the edgeCost of the edge that exist between source and
+             * destination vertex straight from the map instead of iterating
+             * through every edge present in the graph*/
+            Integer edgeCost = dwGraphEdge.get(vertName);
+            if (edgeCost != null)// check if edge exist
+                weight = edgeCost;
         }
 
         return weight;
@@ -249,10 +269,10 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
             // if it does, this means there is an edge between them
             if (dwGraphEdge.containsKey(edgeToRemove)) {
                 /*we get the value of the sourceVertex from the graph, i.e. the
-                 * LinkedList that belongs to the sourceVertex*/
+                 * list that belongs to the sourceVertex*/
                 List<V> sourceVertexValue = dwGraphVertex.get(sourceVertex);
                 /*
-                 * removing destVertex from LinkedList of sourceVertex to
+                 * removing destVertex from the list of sourceVertex to
                  * break the connection between source and destination vertex.
                  */
                 sourceVertexValue.remove(destVertex);
@@ -300,9 +320,9 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
 
             // Iterate through all the vertices that have an incoming edge
             for (List<V> neighbor : dwGraphVertex.values()) {
-				/* stores the LinkedList that contains the neighbors of any
+				/* stores the list that contains the neighbors of any
 				 vertex at any point in time*/
-                /* checks if dataForVertex is found in that LinkedList. i.e. if
+                /* checks if dataForVertex is found in that list. i.e. if
                  * dataForVertex is a neighbor of any vertex in the graph*/
                 neighbor.remove(dataForVertex);// removes dataForVertex
             }
@@ -351,18 +371,14 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
             throw new IllegalArgumentException("Null value detected");
 
         // collection to store neighbors/outgoing vertices from dataForVertex
-        Collection<V> adjVertCollection = new LinkedList<>();
-
-        // we check if dataForVertex is actually a vertex in the graph
-        if (!findVertex(dataForVertex))
-            adjVertCollection = null;// null is returned
+        Collection<V> adjVertCollection = null;// null is returned if absent
 
-        else {
-			/*we find the value of dataForVertex(i.e. a linkedList that
-			stores all its neighbors) and add it to adjVertCollection*/
-            List<V> neighbors = dwGraphVertex.get(dataForVertex);
-            adjVertCollection.addAll(neighbors);// adds to the collection
-        }
+        /*we find the value of dataForVertex(i.e. the list that stores all
+         * its neighbors) and copy it into an array backed list, which
+         * is a single array copy*/
+        List<V> neighbors = dwGraphVertex.get(dataForVertex);
+        if (neighbors != null)
+            adjVertCollection = new ArrayList<>(neighbors);
 
         return adjVertCollection;
     }
@@ -385,7 +401,7 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
             throw new IllegalArgumentException("Null value detected");
 
         // collection to store predecessors of the vertex
-        Collection<V> directedEdge = new LinkedList<>();
+        Collection<V> directedEdge = new ArrayList<>();
 
         // we check if destVertex is actually a vertex in the graph
         if (!findVertex(destVertex))
@@ -396,10 +412,10 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
 
             // stores each key while iterating
             for (V key : dwGraphVertex.keySet()) {
-                /* Check the value (i.e. The linkedList that stores every
+                /* Check the value (i.e. The list that stores every
                  * vertex that has an edge with the key) of key.
-                 * Check the linkedList to see if destVertex is in that
-                 * linkedList. This would mean that destVertex is a
+                 * Check the list to see if destVertex is in that
+                 * list. This would mean that destVertex is a
                  * neighbor of the current key and has an
                  * incoming vertex from current key */
                 if (dwGraphVertex.get(key).contains(destVertex))
@@ -420,7 +436,9 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
      * must also be removed from current object graph. The same applies to
      * the edges too. If the vertices added to new graph have edges, they
      * must also be added to the new graph, and corresponding edges in current
-     * object graph should also be removed
+     * object graph should also be removed. The new graph is built with
+     * inducedSubgraph(), and the vertices are then removed from the current
+     * graph in a single pass over it
      *
      * @param verticesForNewGraph (Parameter to get vertices from)
      * @return new graph consisting of some, none or all vertices from old
@@ -431,82 +449,167 @@ public class MapGraph<V extends Comparable<V>> extends Graphs<V> {
         if (verticesForNewGraph == null)
             throw new IllegalArgumentException();
 
-        MapGraph<V> newGraph = new MapGraph<>();// new graph to be returned
-
-        // This collection stores vertices to be removed from current graph
-        Collection<V> verticesToRemove = new LinkedList<>();
-
-        /*
-         * We iterate through all the vertices in the parameter collection to
-         * determine which one to add or not to add to the new graph, and which
-         * one to remove or not remove from old graph
-         */
-        // store each vertex at every iteration
-        for (V vertex : verticesForNewGraph) {
-            /*
-             * first, we check if vertex is in the current graph. This is
-             * necessary because we cannot add a vertex that does not exist to
-             * the new graph, and we cannot remove a vertex that does not exist
-             * from old graph
-             */
-            if (findVertex(vertex)) {
-                newGraph.addVertex(vertex);// adds vertex to new graph
-
-                // NOW, ADD ALL EDGES ASSOCIATED WITH VERTEX TO THE NEW GRAPH
-                /*
-                 * We can achieve this in two-steps. First, we add all the
-                 * vertex's neighbors, and then we add the associated cost of the
-                 * edge
-                 */
+        /* the collection is turned into a hash set once, so checking if a
+         * vertex is part of it does not depend on what kind of collection
+         * was passed in*/
+        Set<V> vertexSet = new HashSet<>(verticesForNewGraph);
+
+        MapGraph<V> newGraph = extractSubgraph(vertexSet,
+                vertexSet.size() >= PARALLEL_THRESHOLD);
 
-                // STEP 1 - Adding all neighbors of vertex
-                // store each vertex at
-                for (V vertexNeighb : verticesNeighbors(vertex)) {
-                    // every iteration
-
-                    /*
-                     * all neighbors of the vertex must be added to new graph
-                     * before we can create an edge. But we must check if that
-                     * neighbor is part of the collection from which we can add
-                     * vertex to the new graph (verticesForNewGraph)
-                     */
-                    if (verticesForNewGraph.contains(vertexNeighb)) {
-                        newGraph.addVertex(vertexNeighb);// adds vertex
-                        // to new graph
-
-                        // STEP 2 - SINCE KNOW THERE IS AN EDGE, THERE MUST
-                        // BE A COST.NOW, FIND THE COST
-                        String edge = "edge" + vertex + vertexNeighb;
-
-                        /* store the cost, so we can add to new graph.
-                         * This would never be null because vertex and
-                         * vertexNeighb have an edge between them. So this
-                         * means a string representation of this concept must
-                         * exist too*/
-                        int weight = dwGraphEdge.get(edge);
-
-                        /* creates an edge in the new graph using current
-                         * vertex, its neighbors and given cost*/
-                        newGraph.makeEdge(vertex, vertexNeighb, weight);
-
-                    }
+        // ----REMOVES THE VERTICES AND EVERY EDGE ASSOCIATED WITH THEM FROM
+        //-----CURRENT GRAPH-------------------------------------------
+        removeVertices(vertexSet);
+
+        return newGraph;
+    }
+
+    /**This method returns a new graph made of the vertices in the parameter
+     * collection, "vertices", that are present in the current graph, and
+     * every edge of the current graph that goes between two of them (the
+     * induced subgraph). Unlike spiltGraph(), the current graph is not
+     * modified. The collection is converted to a hash set once, and the
+     * neighbors and weights of each vertex are copied straight from the
+     * maps of the current graph, instead of going through makeEdge(). Large
+     * collections are extracted in parallel
+     *
+     * @param vertices (vertices to keep in the new graph)
+     * @return induced subgraph of the current graph
+     */
+    public MapGraph<V> inducedSubgraph(Collection<V> vertices) {
+        // checking to make sure we have valid parameters
+        if (vertices == null)
+            throw new IllegalArgumentException();
+
+        return inducedSubgraph(vertices, vertices.size() >= PARALLEL_THRESHOLD);
+    }
+
+    /**This method is the same as inducedSubgraph(vertices), but the caller
+     * decides whether the vertices are copied in parallel or not
+     *
+     * @param vertices (vertices to keep in the new graph)
+     * @param parallel (true to copy vertices on the common fork join pool)
+     * @return induced subgraph of the current graph
+     */
+    public MapGraph<V> inducedSubgraph(Collection<V> vertices,
+                                       boolean parallel) {
+        // checking to make sure we have valid parameters
+        if (vertices == null)
+            throw new IllegalArgumentException();
+
+        return extractSubgraph(new HashSet<>(vertices), parallel);
+    }
+
+    /**This is a private method that builds the induced subgraph of the
+     * vertices in vertexSet. Each vertex is copied on its own, by keeping
+     * the neighbors that are also in vertexSet and looking up the weight of
+     * those edges. This makes the copies independent of each other, so
+     * they can be made in parallel. The copies are then put into the maps
+     * of the new graph one after another, because HashMap is not thread safe
+     *
+     * @param vertexSet (vertices to keep in the new graph)
+     * @param parallel (true to copy vertices in parallel)
+     * @return induced subgraph of the current graph
+     */
+    private MapGraph<V> extractSubgraph(Set<V> vertexSet, boolean parallel) {
+        Stream<V> stream = parallel ? vertexSet.parallelStream()
+                : vertexSet.stream();
+
+        // only vertices that are actually in the current graph are copied
+        List<VertexCopy<V>> copies = stream
+                .filter(dwGraphVertex::containsKey)
+                .map(vertex -> copyVertex(vertex, vertexSet))
+                .collect(Collectors.toList());
+
+        MapGraph<V> newGraph = new MapGraph<>(copies.size());
+
+        for (VertexCopy<V> copy : copies) {
+            newGraph.dwGraphVertex.put(copy.vertex, copy.neighbors);
+
+            for (int i = 0; i < copy.edgeKeys.length; i++)
+                newGraph.dwGraphEdge.put(copy.edgeKeys[i], copy.weights[i]);
+        }
+
+        return newGraph;
+    }
+
+    /**This is a private method that copies a single vertex for
+     * extractSubgraph(). It only reads from the current graph, so it can
+     * be called from several threads at once
+     *
+     * @param vertex (vertex to copy)
+     * @param vertexSet (vertices that are kept in the new graph)
+     * @return the kept neighbors of vertex and the edges going to them
+     */
+    private VertexCopy<V> copyVertex(V vertex, Set<V> vertexSet) {
+        List<V> neighbors = dwGraphVertex.get(vertex);
+        List<V> keptNeighbors = new AdjacencyList<>(neighbors.size());
+        String[] edgeKeys = new String[neighbors.size()];
+        int[] weights = new int[neighbors.size()];
+        int edgeCount = 0;
+
+        for (V neighbor : neighbors) {
+            if (vertexSet.contains(neighbor)) {
+                /* the key is built once and used both to find the weight
+                 * and to store the edge in the new graph*/
+                String edge = "edge" + vertex + neighbor;
+                Integer weight = dwGraphEdge.get(edge);
+
+                keptNeighbors.add(neighbor);
+                if (weight != null) {
+                    edgeKeys[edgeCount] = edge;
+                    weights[edgeCount] = weight;
+                    edgeCount++;
                 }
             }
-
-            // After using vertex, add to the collection of vertices to be
-            // removed from current graph
-            verticesToRemove.add(vertex);
         }
 
-        // ----REMOVES THE VERTEX AND EVERY EDGE ASSOCIATED WITH IT FROM
-        //-----CURRENT GRAPH-------------------------------------------
+        return new VertexCopy<>(vertex, keptNeighbors,
+                Arrays.copyOf(edgeKeys, edgeCount),
+                Arrays.copyOf(weights, edgeCount));
+    }
 
-        for (V v : verticesToRemove)
-            deleteVertex(v);// remove every vertex in
-        // this collection from current
-        // graph
+    /**This is a private method that removes every vertex in vertexSet from
+     * the current graph, along with every edge going in or out of them. It
+     * goes over the graph once, instead of calling deleteVertex() for every
+     * vertex, which would go over the whole graph for each one of them
+     *
+     * @param vertexSet (vertices to remove)
+     */
+    private void removeVertices(Set<V> vertexSet) {
+        for (Map.Entry<V, List<V>> entry : dwGraphVertex.entrySet()) {
+            V vertex = entry.getKey();
+            boolean removingVertex = vertexSet.contains(vertex);
 
-        return newGraph;
+            // outgoing edges of removed vertices and incoming edges to them
+            entry.getValue().removeIf(neighbor -> {
+                boolean remove = removingVertex || vertexSet.contains(neighbor);
+
+                if (remove)
+                    dwGraphEdge.remove("edge" + vertex + neighbor);
+
+                return remove;
+            });
+        }
+
+        dwGraphVertex.keySet().removeAll(vertexSet);
+    }
+
+    /*This private class holds the copy of a single vertex made by
+     * copyVertex(), until it is put into the new graph*/
+    private static class VertexCopy<V> {
+        private final V vertex;
+        private final List<V> neighbors;
+        private final String[] edgeKeys;
+        private final int[] weights;
+
+        private VertexCopy(V vertex, List<V> neighbors, String[] edgeKeys,
+                           int[] weights) {
+            this.vertex = vertex;
+            this.neighbors = neighbors;
+            this.edgeKeys = edgeKeys;
+            this.weights = weights;
+        }
     }
 
     @Override
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Partitioning;
+
+/*This interface represents a strategy for splitting the vertices of a graph
+ * into a number of shards. A partitioner only decides which shard each vertex
+ * belongs to, it does not move any vertex or edge itself. The assignment it
+ * returns is used by ShardedGraph to build one graph per shard and to work
+ * out which edges cross from one shard to another (boundary edges)*/
+
+import Graphs.MapGraph.MapGraph;
+
+import java.util.Map;
+
+public interface GraphPartitioner<V extends Comparable<V>> {
+
+    /**This method assigns every vertex in graph to a shard. The shard of a
+     * vertex is a number between 0 and shardCount - 1. Every vertex in the
+     * graph must be present in the map that is returned
+     *
+     * @param graph (graph whose vertices are to be assigned)
+     * @param shardCount (number of shards to split the graph into)
+     * @return map of every vertex to the shard it belongs to
+     */
+    Map<V, Integer> partition(MapGraph<V> graph, int shardCount);
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Partitioning;
+
+/*This class assigns vertices to shards using the hashCode of each vertex.
+ * It is the cheapest way of partitioning a graph, since it does not look at
+ * any edge in the graph, and it gives shards of about the same size. The
+ * downside is that neighboring vertices will usually end up in different
+ * shards, so a lot of edges become boundary edges*/
+
+import Graphs.MapGraph.MapGraph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class HashPartitioner<V extends Comparable<V>>
+        implements GraphPartitioner<V> {
+
+    @Override
+    public Map<V, Integer> partition(MapGraph<V> graph, int shardCount) {
+        // checking for valid parameters
+        if (graph == null || shardCount <= 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        Map<V, Integer> assignment = new HashMap<>();
+
+        for (V vertex : graph.getAllVertices())
+            assignment.put(vertex, shardFor(vertex, shardCount));
+
+        return assignment;
+    }
+
+    /**This method returns the shard a single vertex hashes to. It is also
+     * used by ShardedGraph to place vertices that are added after the graph
+     * was partitioned. The bits of the hashCode are spread before taking
+     * the remainder, so hashCodes that only differ in the high bits do not
+     * all end up in the same shard
+     *
+     * @param vertex (vertex to find a shard for)
+     * @param shardCount (number of shards available)
+     * @return shard between 0 and shardCount - 1
+     */
+    public static int shardFor(Object vertex, int shardCount) {
+        int hash = vertex.hashCode();
+        hash ^= (hash >>> 16);// mixes the high bits into the low bits
+
+        return Math.floorMod(hash, shardCount);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Partitioning;
+
+/*This class assigns vertices to shards in a way that tries to keep
+ * neighboring vertices in the same shard, while making sure that no shard
+ * gets much bigger than the others. It starts from a range partition and then
+ * runs a few rounds of label propagation. In every round, each vertex looks
+ * at the shards of its neighbors (edges are treated as undirected here) and
+ * moves to the shard that most of its neighbors are in, as long as that shard
+ * still has room. The room in a shard is limited by a capacity which is the
+ * average shard size plus a small allowed imbalance. This is a much simpler
+ * relative of the refinement step of multilevel partitioners such as METIS,
+ * and it cuts far fewer edges than hash partitioning does*/
+
+import Graphs.MapGraph.MapGraph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LabelPropagationPartitioner<V extends Comparable<V>>
+        implements GraphPartitioner<V> {
+    private final int maxRounds;// number of rounds before giving up
+    private final double imbalance;// how much bigger than average a shard can be
+
+    /**Default Constructor. Runs at most 10 rounds and lets a shard become
+     * 5 percent bigger than the average shard size
+     */
+    public LabelPropagationPartitioner() {
+        this(10, 0.05);
+    }
+
+    /**Constructor that sets the number of rounds to run and the imbalance
+     * that is allowed between shards
+     *
+     * @param maxRounds (maximum number of label propagation rounds)
+     * @param imbalance (fraction a shard may exceed the average size by)
+     */
+    public LabelPropagationPartitioner(int maxRounds, double imbalance) {
+        if (maxRounds < 0 || imbalance < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        this.maxRounds = maxRounds;
+        this.imbalance = imbalance;
+    }
+
+    @Override
+    public Map<V, Integer> partition(MapGraph<V> graph, int shardCount) {
+        // checking for valid parameters
+        if (graph == null || shardCount <= 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        /* vertices are numbered by their sorted position, so every round
+         * visits them in the same order and the result is repeatable */
+        List<V> vertices = new ArrayList<>(graph.getAllVertices());
+        Collections.sort(vertices);
+        int vertexCount = vertices.size();
+
+        Map<V, Integer> vertexId = new HashMap<>();
+        for (int i = 0; i < vertexCount; i++)
+            vertexId.put(vertices.get(i), i);
+
+        // undirected adjacency, both outgoing and incoming neighbors
+        List<List<Integer>> adjacency = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++)
+            adjacency.add(new ArrayList<>());
+
+        for (int i = 0; i < vertexCount; i++) {
+            Collection<V> neighbors = graph.verticesNeighbors(vertices.get(i));
+
+            for (V neighbor : neighbors) {
+                int j = vertexId.get(neighbor);
+                // self loops do not tell us anything about where to go
+                if (i != j) {
+                    adjacency.get(i).add(j);
+                    adjacency.get(j).add(i);
+                }
+            }
+        }
+
+        // starting point is a range partition of the sorted vertices
+        int[] shardOf = new int[vertexCount];
+        int[] shardSize = new int[shardCount];
+        for (int i = 0; i < vertexCount; i++) {
+            shardOf[i] = (int) ((long) i * shardCount / vertexCount);
+            shardSize[shardOf[i]]++;
+        }
+
+        int capacity = (int) Math.ceil(
+                (double) vertexCount / shardCount * (1 + imbalance));
+        int[] neighborCount = new int[shardCount];
+        boolean moved = true;
+
+        for (int round = 0; round < maxRounds && moved; round++) {
+            moved = false;
+
+            for (int i = 0; i < vertexCount; i++) {
+                int current = shardOf[i];
+
+                // counts how many neighbors of i sit in each shard
+                for (int j : adjacency.get(i))
+                    neighborCount[shardOf[j]]++;
+
+                /* the current shard wins ties, so vertices only move when
+                 * they gain something by moving */
+                int best = current;
+                for (int s = 0; s < shardCount; s++) {
+                    if (neighborCount[s] > neighborCount[best]
+                            && shardSize[s] < capacity)
+                        best = s;
+                }
+
+                // resetting the counts for the next vertex
+                for (int j : adjacency.get(i))
+                    neighborCount[shardOf[j]] = 0;
+
+                if (best != current) {
+                    shardSize[current]--;
+                    shardSize[best]++;
+                    shardOf[i] = best;
+                    moved = true;
+                }
+            }
+        }
+
+        Map<V, Integer> assignment = new HashMap<>();
+        for (int i = 0; i < vertexCount; i++)
+            assignment.put(vertices.get(i), shardOf[i]);
+
+        return assignment;
+    }
+}
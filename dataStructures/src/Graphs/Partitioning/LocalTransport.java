@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Partitioning;
+
+/*This class is an in-process stand in for a network between shards. Every
+ * shard has two message queues, one that is being filled by senders during
+ * the current round and one that holds the messages delivered in the last
+ * round. exchange() swaps them. The queues are concurrent queues, so workers
+ * for different shards can send to the same shard at the same time*/
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class LocalTransport<M> implements ShardTransport<M> {
+    private List<Queue<M>> outgoing;// messages sent in the current round
+    private List<Queue<M>> delivered;// messages sent in the last round
+
+    /**Constructor that creates empty queues for every shard
+     *
+     * @param shardCount (number of shards that will talk to each other)
+     */
+    public LocalTransport(int shardCount) {
+        if (shardCount <= 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        outgoing = new ArrayList<>(shardCount);
+        delivered = new ArrayList<>(shardCount);
+
+        for (int i = 0; i < shardCount; i++) {
+            outgoing.add(new ConcurrentLinkedQueue<>());
+            delivered.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    @Override
+    public void send(int destShard, M message) {
+        if (message == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        outgoing.get(destShard).add(message);
+    }
+
+    @Override
+    public List<M> receive(int shard) {
+        Queue<M> inbox = delivered.get(shard);
+        List<M> messages = new ArrayList<>(inbox.size());
+
+        // drains the inbox
+        M message;
+        while ((message = inbox.poll()) != null)
+            messages.add(message);
+
+        return messages;
+    }
+
+    @Override
+    public void exchange() {
+        /* anything that was delivered but never received is dropped, the
+         * queues are then swapped so the sent messages become delivered */
+        for (Queue<M> inbox : delivered)
+            inbox.clear();
+
+        List<Queue<M>> temp = delivered;
+        delivered = outgoing;
+        outgoing = temp;
+    }
+
+    @Override
+    public boolean hasPendingMessages() {
+        boolean pending = false;
+
+        for (Queue<M> inbox : delivered) {
+            if (!inbox.isEmpty())
+                pending = true;
+        }
+
+        return pending;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Partitioning;
+
+/*This class assigns vertices to shards by sorting them and cutting the sorted
+ * vertices into shardCount ranges of (almost) the same size. The first range
+ * goes to shard 0, the second to shard 1 and so on. This works well when
+ * vertices that are close to each other in order are also likely to be
+ * connected, for example ids that were handed out in the order the data was
+ * loaded*/
+
+import Graphs.MapGraph.MapGraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RangePartitioner<V extends Comparable<V>>
+        implements GraphPartitioner<V> {
+
+    @Override
+    public Map<V, Integer> partition(MapGraph<V> graph, int shardCount) {
+        // checking for valid parameters
+        if (graph == null || shardCount <= 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        List<V> sortedVertices = new ArrayList<>(graph.getAllVertices());
+        Collections.sort(sortedVertices);
+
+        Map<V, Integer> assignment = new HashMap<>();
+        int vertexCount = sortedVertices.size();
+
+        /* the vertex at position i goes to shard (i * shardCount) / n. This
+         * gives every shard either floor(n/k) or ceil(n/k) vertices */
+        for (int i = 0; i < vertexCount; i++) {
+            int shard = (int) ((long) i * shardCount / vertexCount);
+            assignment.put(sortedVertices.get(i), shard);
+        }
+
+        return assignment;
+    }
+}
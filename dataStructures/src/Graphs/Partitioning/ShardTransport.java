@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Partitioning;
+
+/*This interface represents the way shards of a ShardedGraph talk to each
+ * other. When a traversal running on one shard reaches a boundary edge, it
+ * cannot follow the edge itself because the vertex on the other end lives in
+ * another shard. It sends a message to that shard instead. Messages are
+ * delivered in rounds: a message sent during one round only becomes visible
+ * to the receiving shard after exchange() is called, which is how a network
+ * between machines would behave in a bulk synchronous computation*/
+
+import java.util.List;
+
+public interface ShardTransport<M> {
+
+    /**This method sends a message to a shard. The message is only received
+     * after the next call to exchange()
+     *
+     * @param destShard (shard the message is for)
+     * @param message (message to send)
+     */
+    void send(int destShard, M message);
+
+    /**This method returns and removes all messages that were delivered to a
+     * shard by the last call to exchange()
+     *
+     * @param shard (shard to receive messages for)
+     * @return list of messages delivered to shard, empty if there are none
+     */
+    List<M> receive(int shard);
+
+    /**This method ends the current round. Every message sent since the last
+     * exchange becomes available to receive()
+     */
+    void exchange();
+
+    /**This method checks whether any shard still has messages waiting to be
+     * received
+     *
+     * @return true if there are delivered messages that were not received
+     */
+    boolean hasPendingMessages();
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Partitioning;
+
+/*This class represents a weighted directed graph that is split into shards.
+ * Each shard is a MapGraph that holds the vertices assigned to that shard and
+ * every edge whose source and destination are both in that shard. Edges that
+ * go from a vertex in one shard to a vertex in another shard cannot be stored
+ * in either MapGraph, so every shard also has a boundary edge table. The
+ * boundary edge table of a shard maps each of its vertices to the vertices in
+ * other shards it has an edge to, and the weight of that edge. Unlike
+ * MapGraph.spiltGraph(), no edge is lost when the graph is split. The shard
+ * that a vertex belongs to is decided by a GraphPartitioner when the graph is
+ * built, and by hashing for vertices that are added afterwards*/
+
+import Graphs.Graphs;
+import Graphs.MapGraph.MapGraph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+public class ShardedGraph<V extends Comparable<V>> extends Graphs<V> {
+    // one graph for every shard, holding the edges inside the shard
+    private final List<MapGraph<V>> shards;
+
+    /*for every shard, source vertex -> (destination vertex in another
+     * shard -> weight of the edge)*/
+    private final List<Map<V, Map<V, Integer>>> boundaryEdges;
+
+    // shard that every vertex in the graph belongs to
+    private final Map<V, Integer> vertexShard;
+
+    /**Constructor that creates an empty graph with shardCount shards. Any
+     * vertex added to it is placed by hashing
+     *
+     * @param shardCount (number of shards)
+     */
+    public ShardedGraph(int shardCount) {
+        if (shardCount <= 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        shards = new ArrayList<>(shardCount);
+        boundaryEdges = new ArrayList<>(shardCount);
+        vertexShard = new HashMap<>();
+
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new MapGraph<>());
+            boundaryEdges.add(new HashMap<>());
+        }
+    }
+
+    /**Constructor that splits graph into shardCount shards, using
+     * partitioner to decide which shard every vertex goes to. graph itself
+     * is not modified. Every edge of graph is either copied into the shard
+     * that holds both of its vertices, or into the boundary edge table of
+     * the shard that holds its source vertex
+     *
+     * @param graph (graph to split)
+     * @param partitioner (decides the shard of every vertex)
+     * @param shardCount (number of shards)
+     */
+    public ShardedGraph(MapGraph<V> graph, GraphPartitioner<V> partitioner,
+                        int shardCount) {
+        this(shardCount);
+
+        // checking for valid parameters
+        if (graph == null || partitioner == null)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        Map<V, Integer> assignment = partitioner.partition(graph, shardCount);
+        Collection<V> vertices = graph.getAllVertices();
+
+        // placing every vertex first, so edges can find their shards
+        for (V vertex : vertices) {
+            Integer shard = assignment.get(vertex);
+
+            if (shard == null || shard < 0 || shard >= shardCount)
+                throw new IllegalStateException("Partitioner gave vertex "
+                        + vertex + " an invalid shard: " + shard);
+
+            vertexShard.put(vertex, shard);
+            shards.get(shard).addVertex(vertex);
+        }
+
+        // copying every edge to its shard or to a boundary edge table
+        for (V vertex : vertices) {
+            for (V neighbor : graph.verticesNeighbors(vertex))
+                makeEdge(vertex, neighbor, graph.edgeWeight(vertex, neighbor));
+        }
+    }
+
+    /**This method adds a vertex to the graph. The vertex is placed in the
+     * shard it hashes to. If the vertex already exists, false is returned
+     * without changing anything
+     *
+     * @param vertex (vertex to add)
+     * @return true if vertex was added, false if it already existed
+     */
+    @Override
+    public boolean addVertex(V vertex) {
+        boolean status = false;
+
+        // checks for valid parameters
+        if (vertex == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        if (!findVertex(vertex)) {
+            int shard = HashPartitioner.shardFor(vertex, shards.size());
+            vertexShard.put(vertex, shard);
+            shards.get(shard).addVertex(vertex);
+            status = true;
+        }
+
+        return status;
+    }
+
+    /**This method removes a vertex and every edge going in or out of it,
+     * including boundary edges in other shards
+     *
+     * @param vertex (vertex to remove)
+     * @return true if vertex was removed, false if it did not exist
+     */
+    @Override
+    public boolean deleteVertex(V vertex) {
+        boolean status = false;
+
+        // checks for valid parameters
+        if (vertex == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        if (findVertex(vertex)) {
+            int shard = vertexShard.remove(vertex);
+
+            // edges inside the shard are removed by the shard itself
+            shards.get(shard).deleteVertex(vertex);
+            // outgoing boundary edges
+            boundaryEdges.get(shard).remove(vertex);
+
+            // incoming boundary edges can come from any other shard
+            for (Map<V, Map<V, Integer>> table : boundaryEdges) {
+                for (Map<V, Integer> destinations : table.values())
+                    destinations.remove(vertex);
+
+                table.values().removeIf(Map::isEmpty);
+            }
+
+            status = true;
+        }
+
+        return status;
+    }
+
+    @Override
+    public boolean findVertex(V vertex) {
+        // checks for valid parameters
+        if (vertex == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        return vertexShard.containsKey(vertex);
+    }
+
+    /**This method returns all the neighbors of vertex, both the ones in the
+     * same shard and the ones reached through boundary edges. null is
+     * returned if vertex is not in the graph
+     *
+     * @param vertex (vertex to find its neighbors)
+     * @return Collection of all neighbors of vertex
+     */
+    @Override
+    public Collection<V> verticesNeighbors(V vertex) {
+        // checks for valid parameters
+        if (vertex == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        Collection<V> neighbors = null;
+
+        if (findVertex(vertex)) {
+            int shard = vertexShard.get(vertex);
+            neighbors = new LinkedList<>(
+                    shards.get(shard).verticesNeighbors(vertex));
+
+            Map<V, Integer> remote = boundaryEdges.get(shard).get(vertex);
+            if (remote != null)
+                neighbors.addAll(remote.keySet());
+        }
+
+        return neighbors;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertexShard.size();
+    }
+
+    /**This method adds a directed edge from sourceVertex to destVertex with
+     * the given weight. Missing vertices are created first. If both vertices
+     * are in the same shard the edge is stored in that shard, otherwise it
+     * becomes a boundary edge of the shard of sourceVertex. An existing edge
+     * simply gets its weight changed
+     *
+     * @param sourceVertex (Source vertex of edge to create)
+     * @param destVertex (destination vertex of edge to create)
+     * @param weight (weight associated with edge created)
+     * @return true if edge was created, false if weight is negative
+     */
+    public boolean makeEdge(V sourceVertex, V destVertex, int weight) {
+        boolean status = false;
+
+        // check for valid parameters to prevent null values
+        if (sourceVertex == null || destVertex == null)
+            throw new IllegalArgumentException();
+
+        if (weight >= 0) {
+            addVertex(sourceVertex);
+            addVertex(destVertex);
+
+            int sourceShard = vertexShard.get(sourceVertex);
+            int destShard = vertexShard.get(destVertex);
+
+            if (sourceShard == destShard)
+                shards.get(sourceShard).makeEdge(sourceVertex, destVertex,
+                        weight);
+            else
+                boundaryEdges.get(sourceShard)
+                        .computeIfAbsent(sourceVertex, k -> new HashMap<>())
+                        .put(destVertex, weight);
+
+            status = true;
+        }
+
+        return status;
+    }
+
+    /**This method returns the weight of the edge from sourceVertex to
+     * destVertex, whether it is inside a shard or a boundary edge. -1 is
+     * returned if there is no such edge
+     *
+     * @param sourceVertex (Source vertex of where edge starts)
+     * @param destVertex (destination Vertex of the edge)
+     * @return weight of edge or -1
+     */
+    public int edgeWeight(V sourceVertex, V destVertex) {
+        int weight = -1;
+
+        // check for valid parameters
+        if (sourceVertex == null || destVertex == null)
+            throw new IllegalArgumentException();
+
+        if (findVertex(sourceVertex) && findVertex(destVertex)) {
+            int sourceShard = vertexShard.get(sourceVertex);
+
+            if (sourceShard == vertexShard.get(destVertex))
+                weight = shards.get(sourceShard).edgeWeight(sourceVertex,
+                        destVertex);
+            else {
+                Map<V, Integer> remote =
+                        boundaryEdges.get(sourceShard).get(sourceVertex);
+
+                if (remote != null && remote.containsKey(destVertex))
+                    weight = remote.get(destVertex);
+            }
+        }
+
+        return weight;
+    }
+
+    /**This method removes the edge going from sourceVertex to destVertex
+     *
+     * @param sourceVertex (source vertex from which edge starts)
+     * @param destVertex (destination vertex from which edge ends)
+     * @return true if the edge existed and was removed, false otherwise
+     */
+    public boolean removeEdge(V sourceVertex, V destVertex) {
+        boolean status = false;
+
+        // check for valid parameters
+        if (sourceVertex == null || destVertex == null)
+            throw new IllegalArgumentException();
+
+        if (findVertex(sourceVertex) && findVertex(destVertex)) {
+            int sourceShard = vertexShard.get(sourceVertex);
+
+            if (sourceShard == vertexShard.get(destVertex))
+                status = shards.get(sourceShard).removeEdge(sourceVertex,
+                        destVertex);
+            else {
+                Map<V, Map<V, Integer>> table = boundaryEdges.get(sourceShard);
+                Map<V, Integer> remote = table.get(sourceVertex);
+
+                if (remote != null && remote.remove(destVertex) != null) {
+                    if (remote.isEmpty())
+                        table.remove(sourceVertex);
+                    status = true;
+                }
+            }
+        }
+
+        return status;
+    }
+
+    /**This method returns all the vertices in the graph, from every shard
+     *
+     * @return Collection of all vertices in the graph
+     */
+    @Override
+    public Collection<V> getAllVertices() {
+        return new LinkedList<>(vertexShard.keySet());
+    }
+
+    /**This method returns the number of shards the graph is split into
+     *
+     * @return number of shards
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**This method returns the shard that vertex belongs to, or -1 if vertex
+     * is not in the graph
+     *
+     * @param vertex (vertex to find the shard of)
+     * @return shard of vertex or -1
+     */
+    public int shardOf(V vertex) {
+        // checks for valid parameters
+        if (vertex == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        Integer shard = vertexShard.get(vertex);
+
+        return shard == null ? -1 : shard;
+    }
+
+    /**This method returns the graph that holds the vertices of a shard and
+     * the edges between them. Changing the returned graph directly bypasses
+     * the sharded graph, so it should only be read
+     *
+     * @param shard (shard to return)
+     * @return graph of the shard
+     */
+    public MapGraph<V> getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    /**This method returns the boundary edge table of a shard, which maps
+     * each vertex of the shard to the vertices in other shards it has an
+     * edge to, and the weight of those edges. The returned map cannot be
+     * modified
+     *
+     * @param shard (shard whose boundary edges to return)
+     * @return boundary edge table of shard
+     */
+    public Map<V, Map<V, Integer>> getBoundaryEdges(int shard) {
+        return Collections.unmodifiableMap(boundaryEdges.get(shard));
+    }
+
+    /**This method returns the number of edges that cross from one shard to
+     * another. The lower this number, the better the partitioning
+     *
+     * @return number of boundary edges in all shards
+     */
+    public int getBoundaryEdgeCount() {
+        int count = 0;
+
+        for (Map<V, Map<V, Integer>> table : boundaryEdges) {
+            for (Map<V, Integer> destinations : table.values())
+                count += destinations.size();
+        }
+
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = 0; i < shards.size(); i++) {
+            result.append("Shard ").append(i).append(": ")
+                    .append(shards.get(i)).append(", boundary edges are ")
+                    .append(boundaryEdges.get(i));
+
+            if (i < shards.size() - 1)
+                result.append("\n");
+        }
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Partitioning;
+
+/*This class runs traversals over a ShardedGraph with one worker per shard.
+ * Workers run at the same time on a thread pool and each worker only ever
+ * touches the graph, boundary edge table and visited set of its own shard.
+ * The traversal moves forward in rounds (supersteps). In every round, each
+ * worker first takes in the vertices other shards sent it in the last round,
+ * then expands its frontier one level. Neighbors in the same shard are added
+ * to its next frontier directly, while neighbors on the other end of a
+ * boundary edge are sent as messages to the shard that owns them through a
+ * ShardTransport. The traversal ends when no shard has a frontier and no
+ * messages are waiting to be delivered*/
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ShardedTraverse<V extends Comparable<V>> {
+    private final int threadCount;// number of worker threads to use
+
+    /**Default Constructor. Uses as many threads as there are processors
+     */
+    public ShardedTraverse() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**Constructor that sets the number of worker threads to use. When there
+     * are more shards than threads, some threads work on several shards in
+     * every round
+     *
+     * @param threadCount (number of worker threads)
+     */
+    public ShardedTraverse(int threadCount) {
+        if (threadCount <= 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        this.threadCount = threadCount;
+    }
+
+    /**This method processes the vertices of a sharded graph breadth first,
+     * starting from startVertex, with all shards working in parallel. It
+     * returns the vertices that can be reached from startVertex together
+     * with their level, which is the least number of edges needed to reach
+     * them. A LocalTransport carries the messages between shards
+     *
+     * @param graph (sharded graph to process)
+     * @param startVertex (Vertex to start from)
+     * @return map of every reached vertex to its level, empty if startVertex
+     *          is not in the graph
+     */
+    public Map<V, Integer> BFS(ShardedGraph<V> graph, V startVertex) {
+        // checking for valid parameters
+        if (graph == null || startVertex == null)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        return BFS(graph, startVertex,
+                new LocalTransport<>(graph.getShardCount()));
+    }
+
+    /**This method is the same as BFS(graph, startVertex) but the messages
+     * between shards go through the given transport
+     *
+     * @param graph (sharded graph to process)
+     * @param startVertex (Vertex to start from)
+     * @param transport (carries vertices across boundary edges)
+     * @return map of every reached vertex to its level
+     */
+    public Map<V, Integer> BFS(ShardedGraph<V> graph, V startVertex,
+                               ShardTransport<V> transport) {
+        // checking for valid parameters
+        if (graph == null || startVertex == null || transport == null)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        Map<V, Integer> levels = new HashMap<>();
+
+        if (graph.findVertex(startVertex)) {
+            int shardCount = graph.getShardCount();
+            List<ShardWorker> workers = new ArrayList<>(shardCount);
+
+            for (int i = 0; i < shardCount; i++)
+                workers.add(new ShardWorker(graph, i, transport));
+
+            // the shard of startVertex starts with it in its frontier
+            ShardWorker first = workers.get(graph.shardOf(startVertex));
+            first.levels.put(startVertex, 0);
+            first.frontier.add(startVertex);
+
+            ExecutorService pool = Executors.newFixedThreadPool(
+                    Math.min(threadCount, shardCount));
+
+            try {
+                int level = 0;
+
+                while (hasWork(workers, transport)) {
+                    for (ShardWorker worker : workers)
+                        worker.level = level;
+
+                    // invokeAll waits for every worker, acting as a barrier
+                    for (Future<Void> round : pool.invokeAll(workers))
+                        round.get();
+
+                    transport.exchange();// sent messages are now delivered
+                    level++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Traversal was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Shard worker failed",
+                        e.getCause());
+            } finally {
+                pool.shutdown();
+            }
+
+            for (ShardWorker worker : workers)
+                levels.putAll(worker.levels);
+        }
+
+        return levels;
+    }
+
+    /**This is a private method that checks whether any shard still has a
+     * frontier to expand or messages to take in
+     *
+     * @param workers (worker of every shard)
+     * @param transport (transport used by the workers)
+     * @return true if another round is needed
+     */
+    private boolean hasWork(List<ShardWorker> workers,
+                            ShardTransport<V> transport) {
+        boolean work = transport.hasPendingMessages();
+
+        for (ShardWorker worker : workers) {
+            if (!worker.frontier.isEmpty())
+                work = true;
+        }
+
+        return work;
+    }
+
+    /*This private inner class does the work of one shard in a round. It
+     * keeps the visited vertices of its shard and its current frontier
+     * between rounds*/
+    private class ShardWorker implements Callable<Void> {
+        private final ShardedGraph<V> graph;
+        private final int shard;
+        private final ShardTransport<V> transport;
+        private final Map<V, Integer> levels = new HashMap<>();
+        private List<V> frontier = new ArrayList<>();
+        private int level;// level of the vertices in frontier
+
+        private ShardWorker(ShardedGraph<V> graph, int shard,
+                            ShardTransport<V> transport) {
+            this.graph = graph;
+            this.shard = shard;
+            this.transport = transport;
+        }
+
+        @Override
+        public Void call() {
+            /* vertices sent by other shards in the last round are one level
+             * further than the vertices they were sent from */
+            for (V vertex : transport.receive(shard)) {
+                if (!levels.containsKey(vertex)) {
+                    levels.put(vertex, level);
+                    frontier.add(vertex);
+                }
+            }
+
+            List<V> next = new ArrayList<>();
+            Map<V, Map<V, Integer>> boundary = graph.getBoundaryEdges(shard);
+
+            for (V vertex : frontier) {
+                // neighbors in this shard go straight to the next frontier
+                for (V neighbor : graph.getShard(shard).verticesNeighbors(vertex)) {
+                    if (!levels.containsKey(neighbor)) {
+                        levels.put(neighbor, level + 1);
+                        next.add(neighbor);
+                    }
+                }
+
+                // neighbors in other shards are sent to their shard
+                Map<V, Integer> remote = boundary.get(vertex);
+                if (remote != null) {
+                    for (V neighbor : remote.keySet())
+                        transport.send(graph.shardOf(neighbor), neighbor);
+                }
+            }
+
+            frontier = next;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Pregel;
+
+/*This interface represents the way the PregelEngine runs the work of a
+ * superstep. The engine splits the vertices into chunks and hands one task
+ * per chunk to runAll(), which must not return before every task is done.
+ * That is what makes the end of a superstep a barrier. The static methods
+ * give the executors that come with the engine: one that runs everything on
+ * the calling thread, one that uses a ForkJoinPool and one that starts a
+ * virtual thread per task*/
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+public interface ComputeExecutor extends AutoCloseable {
+
+    /**This method runs every task and only returns after all of them have
+     * finished. If a task throws an exception, it is thrown again from here
+     *
+     * @param tasks (tasks to run)
+     */
+    void runAll(List<Runnable> tasks);
+
+    /**This method returns how many tasks the executor can run at the same
+     * time. The engine uses it to decide how many chunks to make
+     *
+     * @return number of tasks that can run at the same time
+     */
+    int parallelism();
+
+    /**This method releases any thread the executor created. Executors that
+     * use a shared pool do nothing here
+     */
+    @Override
+    default void close() {
+    }
+
+    /**This method returns an executor that runs every task, one after the
+     * other, on the thread that called runAll()
+     *
+     * @return single threaded executor
+     */
+    static ComputeExecutor singleThread() {
+        return new ComputeExecutor() {
+            @Override
+            public void runAll(List<Runnable> tasks) {
+                for (Runnable task : tasks)
+                    task.run();
+            }
+
+            @Override
+            public int parallelism() {
+                return 1;
+            }
+        };
+    }
+
+    /**This method returns an executor that runs tasks on the common
+     * ForkJoinPool
+     *
+     * @return fork join executor
+     */
+    static ComputeExecutor forkJoin() {
+        return forkJoin(ForkJoinPool.commonPool());
+    }
+
+    /**This method returns an executor that runs tasks on the given
+     * ForkJoinPool. The pool is not shut down by close()
+     *
+     * @param pool (pool to run tasks on)
+     * @return fork join executor
+     */
+    static ComputeExecutor forkJoin(ForkJoinPool pool) {
+        if (pool == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        return new ComputeExecutor() {
+            @Override
+            public void runAll(List<Runnable> tasks) {
+                List<ForkJoinTask<?>> forkJoinTasks = new ArrayList<>();
+                for (Runnable task : tasks)
+                    forkJoinTasks.add(ForkJoinTask.adapt(task));
+
+                // invokeAll waits for every task and rethrows failures
+                pool.invoke(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        ForkJoinTask.invokeAll(forkJoinTasks);
+                    }
+                });
+            }
+
+            @Override
+            public int parallelism() {
+                return pool.getParallelism();
+            }
+        };
+    }
+
+    /**This method returns an executor that starts a virtual thread for every
+     * task. Virtual threads only exist from Java 21, so on older runtimes the
+     * executor falls back to a cached pool of platform threads. close()
+     * shuts the executor down
+     *
+     * @return virtual thread executor
+     */
+    static ComputeExecutor virtualThreads() {
+        ExecutorService service;
+
+        try {
+            /* looked up by reflection so the code still compiles and runs on
+             * runtimes that do not have virtual threads */
+            Method factory = Executors.class.getMethod(
+                    "newVirtualThreadPerTaskExecutor");
+            service = (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            service = Executors.newCachedThreadPool();
+        }
+
+        return of(service, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**This method returns an executor that submits tasks to an
+     * ExecutorService. close() shuts the service down
+     *
+     * @param service (service to submit tasks to)
+     * @param parallelism (number of tasks the service can run at once)
+     * @return executor backed by service
+     */
+    static ComputeExecutor of(ExecutorService service, int parallelism) {
+        if (service == null || parallelism <= 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        return new ComputeExecutor() {
+            @Override
+            public void runAll(List<Runnable> tasks) {
+                List<Future<?>> futures = new ArrayList<>(tasks.size());
+                for (Runnable task : tasks)
+                    futures.add(service.submit(task));
+
+                try {
+                    for (Future<?> future : futures)
+                        future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Superstep was interrupted",
+                            e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Vertex program failed",
+                            e.getCause());
+                }
+            }
+
+            @Override
+            public int parallelism() {
+                return parallelism;
+            }
+
+            @Override
+            public void close() {
+                service.shutdown();
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Pregel;
+
+/*This class is a vertex program that finds the weakly connected components
+ * of a graph. Edges are followed in both directions. Every vertex starts
+ * with itself as its label and keeps the smallest label it hears about,
+ * passing it on whenever its label gets smaller. When the run ends, every
+ * vertex is labelled with the smallest vertex in its component*/
+
+public class ConnectedComponents<V extends Comparable<V>>
+        implements VertexProgram<V, V, V> {
+
+    @Override
+    public V initialValue(V vertex) {
+        return vertex;
+    }
+
+    @Override
+    public void compute(VertexContext<V, V, V> context, Iterable<V> messages) {
+        V label = context.getValue();
+        boolean changed = context.superstep() == 0;
+
+        for (V message : messages) {
+            if (message.compareTo(label) < 0) {
+                label = message;
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            context.setValue(label);
+            context.sendToNeighbors(label);
+            context.sendToPredecessors(label);
+        }
+
+        context.voteToHalt();
+    }
+
+    @Override
+    public MessageCombiner<V> combiner() {
+        // only the smallest label matters
+        return (first, second) -> first.compareTo(second) <= 0 ? first : second;
+    }
+}
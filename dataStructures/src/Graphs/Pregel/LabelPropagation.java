@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Pregel;
+
+/*This class is a vertex program that finds communities in a graph by label
+ * propagation. Every vertex starts with itself as its label. In every round,
+ * each vertex takes the label that most of its neighbors (in both
+ * directions) have, picking the smallest one when there is a tie, and tells
+ * its neighbors about it. Vertices that end up with the same label form a
+ * community. The program stops after a fixed number of rounds*/
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class LabelPropagation<V extends Comparable<V>>
+        implements VertexProgram<V, V, V> {
+    private final int rounds;// number of times labels are passed around
+
+    /**Constructor that sets the number of rounds to run
+     *
+     * @param rounds (number of rounds)
+     */
+    public LabelPropagation(int rounds) {
+        if (rounds < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        this.rounds = rounds;
+    }
+
+    @Override
+    public V initialValue(V vertex) {
+        return vertex;
+    }
+
+    @Override
+    public void compute(VertexContext<V, V, V> context, Iterable<V> messages) {
+        Map<V, Integer> labelCount = new HashMap<>();
+        V best = context.getValue();
+        int bestCount = 0;
+
+        for (V label : messages) {
+            int count = labelCount.merge(label, 1, Integer::sum);
+
+            if (count > bestCount
+                    || (count == bestCount && label.compareTo(best) < 0)) {
+                best = label;
+                bestCount = count;
+            }
+        }
+
+        context.setValue(best);
+
+        // the last round only listens, it does not send anything
+        if (context.superstep() < rounds) {
+            context.sendToNeighbors(best);
+            context.sendToPredecessors(best);
+        }
+
+        context.voteToHalt();
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Pregel;
+
+/*This interface represents a way of merging two messages sent to the same
+ * vertex into one. When a vertex program only needs, for example, the
+ * smallest of all the messages it receives, a combiner lets the engine keep
+ * a single message per vertex instead of a list of all of them*/
+
+public interface MessageCombiner<M> {
+
+    /**This method merges two messages going to the same vertex. It must not
+     * depend on the order the messages are given in
+     *
+     * @param first (message already waiting for the vertex)
+     * @param second (message that just arrived for the vertex)
+     * @return message that replaces both of them
+     */
+    M combine(M first, M second);
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Pregel;
+
+/*This class runs vertex programs over a graph, the way Pregel does. Work is
+ * done in supersteps. In every superstep, compute() of the vertex program is
+ * called for every vertex that has not voted to halt, or that received
+ * messages, and the messages sent in one superstep are delivered at the start
+ * of the next one. The run ends when every vertex has halted and there are no
+ * messages left, or when the maximum number of supersteps is reached.
+ *
+ * When an engine is created, the graph is read once: every vertex gets a
+ * number, and its outgoing and incoming neighbors are stored as arrays of
+ * those numbers. After that the engine never calls the graph again, so it
+ * works with any Graphs implementation, and changes made to the graph later
+ * are not seen by the engine. The vertices are split into chunks and every
+ * superstep runs one task per chunk on a ComputeExecutor, first to compute
+ * and then to deliver messages. Each chunk writes the messages it sends into
+ * its own buffers, one for every chunk they are going to, so no locking is
+ * needed in either phase*/
+
+import Graphs.Graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PregelEngine<V> {
+    private final List<V> vertices;// vertex at every number
+    private final Map<V, Integer> vertexId;// number of every vertex
+    private final int[][] outNeighbors;// numbers of outgoing neighbors
+    private final int[][] inNeighbors;// numbers of incoming neighbors
+    private final ComputeExecutor executor;
+    private int superstepCount;// supersteps done by the last run
+
+    /**Constructor that reads graph and runs programs on the common
+     * ForkJoinPool
+     *
+     * @param graph (graph to run vertex programs on)
+     */
+    public PregelEngine(Graphs<V> graph) {
+        this(graph, ComputeExecutor.forkJoin());
+    }
+
+    /**Constructor that reads graph and runs programs on executor
+     *
+     * @param graph (graph to run vertex programs on)
+     * @param executor (runs the chunks of every superstep)
+     */
+    public PregelEngine(Graphs<V> graph, ComputeExecutor executor) {
+        // checking for valid parameters
+        if (graph == null || executor == null)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        this.executor = executor;
+        vertices = new ArrayList<>(graph.getAllVertices());
+        vertexId = new HashMap<>();
+
+        int vertexCount = vertices.size();
+        for (int i = 0; i < vertexCount; i++)
+            vertexId.put(vertices.get(i), i);
+
+        outNeighbors = new int[vertexCount][];
+        int[] inDegree = new int[vertexCount];
+
+        for (int i = 0; i < vertexCount; i++) {
+            Collection<V> neighbors = graph.verticesNeighbors(vertices.get(i));
+            int[] ids = new int[neighbors.size()];
+            int count = 0;
+
+            for (V neighbor : neighbors) {
+                ids[count] = vertexId.get(neighbor);
+                inDegree[ids[count]]++;
+                count++;
+            }
+
+            outNeighbors[i] = ids;
+        }
+
+        // incoming neighbors are the outgoing neighbors turned around
+        inNeighbors = new int[vertexCount][];
+        for (int i = 0; i < vertexCount; i++)
+            inNeighbors[i] = new int[inDegree[i]];
+
+        int[] filled = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            for (int j : outNeighbors[i])
+                inNeighbors[j][filled[j]++] = i;
+        }
+    }
+
+    /**This method runs program until every vertex has halted and no
+     * messages are left
+     *
+     * @param program (vertex program to run)
+     * @return final value of every vertex
+     */
+    public <S, M> Map<V, S> run(VertexProgram<V, S, M> program) {
+        return run(program, Integer.MAX_VALUE);
+    }
+
+    /**This method runs program until every vertex has halted and no
+     * messages are left, or until maxSupersteps supersteps have been done
+     *
+     * @param program (vertex program to run)
+     * @param maxSupersteps (most supersteps to run)
+     * @return final value of every vertex
+     */
+    public <S, M> Map<V, S> run(VertexProgram<V, S, M> program,
+                                int maxSupersteps) {
+        // checking for valid parameters
+        if (program == null || maxSupersteps < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        Run<V, S, M> run = new Run<>(this, program);
+        superstepCount = 0;
+
+        while (superstepCount < maxSupersteps && run.hasWork()) {
+            executor.runAll(run.computeTasks());
+            executor.runAll(run.deliveryTasks());
+            run.superstep++;
+            superstepCount++;
+        }
+
+        Map<V, S> result = new LinkedHashMap<>();
+        for (int i = 0; i < vertices.size(); i++)
+            result.put(vertices.get(i), run.value(i));
+
+        return result;
+    }
+
+    /**This method returns the number of supersteps done by the last run
+     *
+     * @return number of supersteps
+     */
+    public int getSuperstepCount() {
+        return superstepCount;
+    }
+
+    /**This method returns the number of vertices the engine works on
+     *
+     * @return number of vertices
+     */
+    public int getVertexCount() {
+        return vertices.size();
+    }
+
+    /*This class holds the state of a single run of a vertex program. It is
+     * package private so VertexContext can reach it*/
+    static final class Run<V, S, M> {
+        final PregelEngine<V> engine;
+        final VertexProgram<V, S, M> program;
+        final MessageCombiner<M> combiner;
+        final Object[] values;
+        final boolean[] halted;
+        final List<M>[] inbox;// used without a combiner
+        final Object[] combined;// used with a combiner
+        final boolean[] hasCombined;
+        final int[] chunkStart;// first vertex of every chunk, and the end
+        final MessageBuffer[][] outbox;// [sending chunk][receiving chunk]
+        final int chunkCount;
+        int superstep;
+
+        @SuppressWarnings("unchecked")
+        Run(PregelEngine<V> engine, VertexProgram<V, S, M> program) {
+            this.engine = engine;
+            this.program = program;
+            combiner = program.combiner();
+
+            int vertexCount = engine.vertices.size();
+            values = new Object[vertexCount];
+            halted = new boolean[vertexCount];
+            for (int i = 0; i < vertexCount; i++)
+                values[i] = program.initialValue(engine.vertices.get(i));
+
+            if (combiner == null) {
+                inbox = (List<M>[]) new List<?>[vertexCount];
+                combined = null;
+                hasCombined = null;
+            } else {
+                inbox = null;
+                combined = new Object[vertexCount];
+                hasCombined = new boolean[vertexCount];
+            }
+
+            // a few chunks per thread, so uneven chunks even out
+            chunkCount = Math.max(1, Math.min(vertexCount,
+                    engine.executor.parallelism() * 4));
+            chunkStart = new int[chunkCount + 1];
+            for (int c = 0; c <= chunkCount; c++)
+                chunkStart[c] = (int) ((long) c * vertexCount / chunkCount);
+
+            outbox = new MessageBuffer[chunkCount][chunkCount];
+            for (int s = 0; s < chunkCount; s++) {
+                for (int d = 0; d < chunkCount; d++)
+                    outbox[s][d] = new MessageBuffer();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        S value(int vertex) {
+            return (S) values[vertex];
+        }
+
+        /*checks whether any vertex is still active or has messages*/
+        boolean hasWork() {
+            boolean work = false;
+
+            for (int i = 0; i < values.length && !work; i++)
+                work = !halted[i] || hasMessages(i);
+
+            return work;
+        }
+
+        boolean hasMessages(int vertex) {
+            return combiner == null
+                    ? inbox[vertex] != null && !inbox[vertex].isEmpty()
+                    : hasCombined[vertex];
+        }
+
+        /*finds the chunk a vertex is in. There are never more chunks than
+         * vertices, so no chunk is empty and chunk starts are all different*/
+        int chunkOf(int vertex) {
+            int found = Arrays.binarySearch(chunkStart, 0, chunkCount, vertex);
+
+            return found >= 0 ? found : -found - 2;
+        }
+
+        void send(int fromChunk, int target, M message) {
+            if (message == null)
+                throw new IllegalArgumentException("Null value detected");
+
+            outbox[fromChunk][chunkOf(target)].add(target, message);
+        }
+
+        List<Runnable> computeTasks() {
+            List<Runnable> tasks = new ArrayList<>(chunkCount);
+
+            for (int c = 0; c < chunkCount; c++) {
+                int chunk = c;
+                tasks.add(() -> compute(chunk));
+            }
+
+            return tasks;
+        }
+
+        List<Runnable> deliveryTasks() {
+            List<Runnable> tasks = new ArrayList<>(chunkCount);
+
+            for (int c = 0; c < chunkCount; c++) {
+                int chunk = c;
+                tasks.add(() -> deliver(chunk));
+            }
+
+            return tasks;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void compute(int chunk) {
+            VertexContext<V, S, M> context = new VertexContext<>(this, chunk);
+
+            for (int i = chunkStart[chunk]; i < chunkStart[chunk + 1]; i++) {
+                if (!halted[i] || hasMessages(i)) {
+                    Iterable<M> messages;
+
+                    if (combiner == null) {
+                        messages = inbox[i] == null
+                                ? Collections.emptyList() : inbox[i];
+                        inbox[i] = null;
+                    } else if (hasCombined[i]) {
+                        messages = Collections.singletonList((M) combined[i]);
+                        combined[i] = null;
+                        hasCombined[i] = false;
+                    } else
+                        messages = Collections.emptyList();
+
+                    // a message wakes a halted vertex up
+                    halted[i] = false;
+                    context.vertex = i;
+                    program.compute(context, messages);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void deliver(int chunk) {
+            for (MessageBuffer[] sender : outbox) {
+                MessageBuffer buffer = sender[chunk];
+
+                for (int m = 0; m < buffer.size; m++) {
+                    int target = buffer.targets[m];
+                    M message = (M) buffer.messages[m];
+
+                    if (combiner == null) {
+                        if (inbox[target] == null)
+                            inbox[target] = new ArrayList<>(2);
+                        inbox[target].add(message);
+                    } else if (hasCombined[target])
+                        combined[target] = combiner.combine(
+                                (M) combined[target], message);
+                    else {
+                        combined[target] = message;
+                        hasCombined[target] = true;
+                    }
+                }
+
+                buffer.clear();
+            }
+        }
+    }
+
+    /*This class is a growable buffer of messages together with the vertex
+     * each one is going to. It is only ever used by one chunk at a time*/
+    static final class MessageBuffer {
+        int[] targets = new int[8];
+        Object[] messages = new Object[8];
+        int size;
+
+        void add(int target, Object message) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                messages = Arrays.copyOf(messages, size * 2);
+            }
+
+            targets[size] = target;
+            messages[size] = message;
+            size++;
+        }
+
+        void clear() {
+            Arrays.fill(messages, 0, size, null);// lets messages be collected
+            size = 0;
+        }
+    }
+
+    // accessors used by VertexContext
+
+    V vertexAt(int id) {
+        return vertices.get(id);
+    }
+
+    int idOf(V vertex) {
+        Integer id = vertexId.get(vertex);
+
+        if (id == null)
+            throw new IllegalArgumentException("Vertex " + vertex
+                    + " is not in the graph");
+
+        return id;
+    }
+
+    int[] outNeighbors(int id) {
+        return outNeighbors[id];
+    }
+
+    int[] inNeighbors(int id) {
+        return inNeighbors[id];
+    }
+}
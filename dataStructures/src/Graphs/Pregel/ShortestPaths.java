@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Pregel;
+
+/*This class is a vertex program that finds the length of the shortest path
+ * from a source vertex to every other vertex (single source shortest paths).
+ * Edge weights are given by a function, so any graph can be used, for
+ * example MapGraph::edgeWeight. Without a function every edge counts as 1.
+ * Every vertex keeps the shortest distance it has heard of, and tells its
+ * neighbors about it whenever it gets shorter. Vertices that cannot be
+ * reached from the source keep the distance Integer.MAX_VALUE*/
+
+import java.util.function.ToIntBiFunction;
+
+public class ShortestPaths<V> implements VertexProgram<V, Integer, Integer> {
+    private final V source;// vertex the paths start from
+    private final ToIntBiFunction<V, V> edgeWeight;// weight of every edge
+
+    /**Constructor for a graph where every edge has a weight of 1
+     *
+     * @param source (vertex the paths start from)
+     */
+    public ShortestPaths(V source) {
+        this(source, (from, to) -> 1);
+    }
+
+    /**Constructor that takes the weight of every edge from a function.
+     * Weights must not be negative
+     *
+     * @param source (vertex the paths start from)
+     * @param edgeWeight (gives the weight of the edge from one vertex to another)
+     */
+    public ShortestPaths(V source, ToIntBiFunction<V, V> edgeWeight) {
+        if (source == null || edgeWeight == null)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        this.source = source;
+        this.edgeWeight = edgeWeight;
+    }
+
+    @Override
+    public Integer initialValue(V vertex) {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void compute(VertexContext<V, Integer, Integer> context,
+                        Iterable<Integer> messages) {
+        V vertex = context.vertex();
+        int distance = context.superstep() == 0 && vertex.equals(source)
+                ? 0 : Integer.MAX_VALUE;
+
+        for (int message : messages)
+            distance = Math.min(distance, message);
+
+        // neighbors only hear about a distance when it gets shorter
+        if (distance < context.getValue()) {
+            context.setValue(distance);
+
+            for (V neighbor : context.neighbors()) {
+                long throughVertex = (long) distance
+                        + edgeWeight.applyAsInt(vertex, neighbor);
+                context.sendMessage(neighbor,
+                        (int) Math.min(throughVertex, Integer.MAX_VALUE - 1));
+            }
+        }
+
+        context.voteToHalt();
+    }
+
+    @Override
+    public MessageCombiner<Integer> combiner() {
+        return Math::min;// only the shortest distance matters
+    }
+}
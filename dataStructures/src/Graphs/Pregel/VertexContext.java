@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Pregel;
+
+/*This class is what a vertex program sees of the vertex it is running on.
+ * It gives the vertex, its value and its neighbors, and lets the program
+ * send messages and vote to halt. The engine moves one context from vertex
+ * to vertex inside a chunk, so a context must not be kept after compute()
+ * returns*/
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class VertexContext<V, S, M> {
+    private final PregelEngine.Run<V, S, M> run;
+    private final int chunk;// chunk the context works on
+    int vertex;// number of the vertex being computed, set by the engine
+
+    VertexContext(PregelEngine.Run<V, S, M> run, int chunk) {
+        this.run = run;
+        this.chunk = chunk;
+    }
+
+    /**This method returns the vertex being computed
+     *
+     * @return the vertex being computed
+     */
+    public V vertex() {
+        return run.engine.vertexAt(vertex);
+    }
+
+    /**This method returns the number of the current superstep, starting at 0
+     *
+     * @return number of the current superstep, starting at 0
+     */
+    public int superstep() {
+        return run.superstep;
+    }
+
+    /**This method returns the number of vertices in the graph
+     *
+     * @return number of vertices in the graph
+     */
+    public int getVertexCount() {
+        return run.engine.getVertexCount();
+    }
+
+    /**This method returns the current value of the vertex
+     *
+     * @return current value of the vertex
+     */
+    public S getValue() {
+        return run.value(vertex);
+    }
+
+    /**This method changes the value of the vertex
+     *
+     * @param value (new value of the vertex)
+     */
+    public void setValue(S value) {
+        run.values[vertex] = value;
+    }
+
+    /**This method returns the vertices this vertex has an outgoing edge to
+     *
+     * @return vertices this vertex has an outgoing edge to
+     */
+    public List<V> neighbors() {
+        return toVertices(run.engine.outNeighbors(vertex));
+    }
+
+    /**This method returns the vertices that have an outgoing edge to this
+     * vertex
+     *
+     * @return vertices that have an outgoing edge to this vertex
+     */
+    public List<V> predecessors() {
+        return toVertices(run.engine.inNeighbors(vertex));
+    }
+
+    /**This method sends a message to any vertex in the graph. It is
+     * delivered in the next superstep
+     *
+     * @param target (vertex to send the message to)
+     * @param message (message to send)
+     */
+    public void sendMessage(V target, M message) {
+        if (target == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        run.send(chunk, run.engine.idOf(target), message);
+    }
+
+    /**This method sends a message to every vertex this vertex has an
+     * outgoing edge to
+     *
+     * @param message (message to send)
+     */
+    public void sendToNeighbors(M message) {
+        for (int target : run.engine.outNeighbors(vertex))
+            run.send(chunk, target, message);
+    }
+
+    /**This method sends a message to every vertex that has an outgoing edge
+     * to this vertex. Together with sendToNeighbors(), this lets a program
+     * treat the graph as undirected
+     *
+     * @param message (message to send)
+     */
+    public void sendToPredecessors(M message) {
+        for (int target : run.engine.inNeighbors(vertex))
+            run.send(chunk, target, message);
+    }
+
+    /**This method halts the vertex. It is not computed again until it
+     * receives a message
+     */
+    public void voteToHalt() {
+        run.halted[vertex] = true;
+    }
+
+    /*turns vertex numbers back into vertices*/
+    private List<V> toVertices(int[] ids) {
+        List<V> result = new ArrayList<>(ids.length);
+
+        for (int id : ids)
+            result.add(run.engine.vertexAt(id));
+
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.Pregel;
+
+/*This interface represents an algorithm written from the point of view of a
+ * single vertex, to be run by the PregelEngine. The engine calls compute() on
+ * every active vertex in every superstep, with the messages sent to it in
+ * the superstep before. A vertex can change its value, send messages to other
+ * vertices, and vote to halt. A halted vertex is only woken up again when it
+ * receives a message. V is the type of vertex, S the type of value kept for
+ * every vertex and M the type of message*/
+
+public interface VertexProgram<V, S, M> {
+
+    /**This method returns the value a vertex starts with, before the first
+     * superstep
+     *
+     * @param vertex (vertex to give a value to)
+     * @return starting value of vertex
+     */
+    S initialValue(V vertex);
+
+    /**This method is called for every active vertex in every superstep
+     *
+     * @param context (gives access to the vertex, its value and neighbors)
+     * @param messages (messages sent to the vertex in the last superstep)
+     */
+    void compute(VertexContext<V, S, M> context, Iterable<M> messages);
+
+    /**This method returns the combiner used to merge messages going to the
+     * same vertex, or null if every message has to be kept
+     *
+     * @return combiner for messages, or null
+     */
+    default MessageCombiner<M> combiner() {
+        return null;
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Graphs.TriangleCounting;
+
+/*This class counts the triangles in a graph, that is the groups of three
+ * vertices that are all connected to each other, and works out clustering
+ * coefficients from them. Edges are treated as undirected, an edge in either
+ * direction connects two vertices, and self loops are ignored.
+ *
+ * The graph is read once when the counter is created. Every vertex gets a
+ * number and its neighbors are stored as a sorted array of numbers. Each
+ * edge is then pointed from the vertex with the smaller degree to the vertex
+ * with the larger degree (ties broken by number). A triangle u, v, w is found
+ * exactly once, at the vertex it starts from, by intersecting the sorted
+ * forward neighbors of u with those of v, which is a merge of two sorted
+ * arrays instead of a contains() call for every pair of neighbors. Pointing
+ * edges towards high degree vertices keeps the forward arrays short, even for
+ * hubs. Vertices are processed in parallel*/
+
+import Graphs.Graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+public class TriangleCounter<V> {
+    private final List<V> vertices;// vertex at every number
+    private final Map<V, Integer> vertexId;// number of every vertex
+    private final int[][] adjacency;// sorted undirected neighbors
+    private final long[] triangles;// triangles every vertex is part of
+    private final long totalTriangles;// triangles in the whole graph
+
+    /**Constructor that reads graph and counts its triangles in parallel
+     *
+     * @param graph (graph to count triangles in)
+     */
+    public TriangleCounter(Graphs<V> graph) {
+        this(graph, true);
+    }
+
+    /**Constructor that reads graph and counts its triangles
+     *
+     * @param graph (graph to count triangles in)
+     * @param parallel (true to count on the common fork join pool)
+     */
+    public TriangleCounter(Graphs<V> graph, boolean parallel) {
+        // checking for valid parameters
+        if (graph == null)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        vertices = new ArrayList<>(graph.getAllVertices());
+        vertexId = new HashMap<>();
+
+        int vertexCount = vertices.size();
+        for (int i = 0; i < vertexCount; i++)
+            vertexId.put(vertices.get(i), i);
+
+        adjacency = undirectedAdjacency(graph, parallel);
+
+        // forward neighbors: only the ones that come after in degree order
+        int[][] forward = new int[vertexCount][];
+        stream(vertexCount, parallel).forEach(u -> {
+            int[] neighbors = adjacency[u];
+            int[] ahead = new int[neighbors.length];
+            int count = 0;
+
+            for (int v : neighbors) {
+                if (comesBefore(u, v))
+                    ahead[count++] = v;
+            }
+
+            forward[u] = Arrays.copyOf(ahead, count);// still sorted
+        });
+
+        AtomicLongArray counts = new AtomicLongArray(vertexCount);
+        totalTriangles = stream(vertexCount, parallel).mapToLong(u -> {
+            long found = 0;
+
+            for (int v : forward[u]) {
+                int[] a = forward[u];
+                int[] b = forward[v];
+                int i = 0;
+                int j = 0;
+
+                // merging two sorted arrays to find the common neighbors
+                while (i < a.length && j < b.length) {
+                    if (a[i] < b[j])
+                        i++;
+                    else if (a[i] > b[j])
+                        j++;
+                    else {
+                        counts.incrementAndGet(u);
+                        counts.incrementAndGet(v);
+                        counts.incrementAndGet(a[i]);
+                        found++;
+                        i++;
+                        j++;
+                    }
+                }
+            }
+
+            return found;
+        }).sum();
+
+        triangles = new long[vertexCount];
+        for (int i = 0; i < vertexCount; i++)
+            triangles[i] = counts.get(i);
+    }
+
+    /**This method returns the number of triangles in the whole graph
+     *
+     * @return number of triangles
+     */
+    public long triangleCount() {
+        return totalTriangles;
+    }
+
+    /**This method returns the number of triangles vertex is part of, or -1
+     * if vertex is not in the graph
+     *
+     * @param vertex (vertex to count triangles for)
+     * @return number of triangles containing vertex or -1
+     */
+    public long triangleCount(V vertex) {
+        Integer id = idOf(vertex);
+
+        return id == null ? -1 : triangles[id];
+    }
+
+    /**This method returns the number of triangles every vertex is part of
+     *
+     * @return map of every vertex to its number of triangles
+     */
+    public Map<V, Long> triangleCounts() {
+        Map<V, Long> result = new LinkedHashMap<>();
+
+        for (int i = 0; i < vertices.size(); i++)
+            result.put(vertices.get(i), triangles[i]);
+
+        return result;
+    }
+
+    /**This method returns the local clustering coefficient of vertex. This
+     * is the fraction of pairs of neighbors of vertex that are connected to
+     * each other. Vertices with fewer than two neighbors have a coefficient
+     * of 0. -1 is returned if vertex is not in the graph
+     *
+     * @param vertex (vertex to find the coefficient of)
+     * @return local clustering coefficient between 0 and 1, or -1
+     */
+    public double clusteringCoefficient(V vertex) {
+        Integer id = idOf(vertex);
+
+        return id == null ? -1 : localCoefficient(id);
+    }
+
+    /**This method returns the local clustering coefficient of every vertex
+     *
+     * @return map of every vertex to its local clustering coefficient
+     */
+    public Map<V, Double> clusteringCoefficients() {
+        Map<V, Double> result = new LinkedHashMap<>();
+
+        for (int i = 0; i < vertices.size(); i++)
+            result.put(vertices.get(i), localCoefficient(i));
+
+        return result;
+    }
+
+    /**This method returns the average of the local clustering coefficients
+     * of all vertices, or 0 if the graph has no vertices
+     *
+     * @return average local clustering coefficient
+     */
+    public double averageClusteringCoefficient() {
+        double sum = 0;
+
+        for (int i = 0; i < vertices.size(); i++)
+            sum += localCoefficient(i);
+
+        return vertices.isEmpty() ? 0 : sum / vertices.size();
+    }
+
+    /**This method returns the global clustering coefficient (transitivity)
+     * of the graph. This is three times the number of triangles divided by
+     * the number of connected triples, which are paths of two edges. It is
+     * 0 if the graph has no connected triples
+     *
+     * @return global clustering coefficient between 0 and 1
+     */
+    public double globalClusteringCoefficient() {
+        long triples = 0;
+
+        for (int[] neighbors : adjacency)
+            triples += pairs(neighbors.length);
+
+        return triples == 0 ? 0 : 3.0 * totalTriangles / triples;
+    }
+
+    /*This is a private method that builds the sorted undirected neighbors
+     * of every vertex, without duplicates or self loops*/
+    private int[][] undirectedAdjacency(Graphs<V> graph, boolean parallel) {
+        int vertexCount = vertices.size();
+        int[][] outgoing = new int[vertexCount][];
+        int[] degree = new int[vertexCount];
+
+        for (int u = 0; u < vertexCount; u++) {
+            Collection<V> neighbors = graph.verticesNeighbors(vertices.get(u));
+            int[] ids = new int[neighbors.size()];
+            int count = 0;
+
+            for (V neighbor : neighbors) {
+                int v = vertexId.get(neighbor);
+
+                if (v != u) {
+                    ids[count++] = v;
+                    degree[u]++;
+                    degree[v]++;
+                }
+            }
+
+            outgoing[u] = Arrays.copyOf(ids, count);
+        }
+
+        // every edge is put in the arrays of both of its vertices
+        int[][] both = new int[vertexCount][];
+        for (int u = 0; u < vertexCount; u++)
+            both[u] = new int[degree[u]];
+
+        int[] filled = new int[vertexCount];
+        for (int u = 0; u < vertexCount; u++) {
+            for (int v : outgoing[u]) {
+                both[u][filled[u]++] = v;
+                both[v][filled[v]++] = u;
+            }
+        }
+
+        // sorting, then dropping the edges that appeared in both directions
+        stream(vertexCount, parallel).forEach(u -> {
+            int[] ids = both[u];
+            Arrays.sort(ids);
+
+            int unique = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[i - 1])
+                    ids[unique++] = ids[i];
+            }
+
+            both[u] = unique == ids.length ? ids : Arrays.copyOf(ids, unique);
+        });
+
+        return both;
+    }
+
+    /*checks whether u comes before v when vertices are ordered by degree*/
+    private boolean comesBefore(int u, int v) {
+        int du = adjacency[u].length;
+        int dv = adjacency[v].length;
+
+        return du < dv || (du == dv && u < v);
+    }
+
+    private double localCoefficient(int id) {
+        long possible = pairs(adjacency[id].length);
+
+        return possible == 0 ? 0 : (double) triangles[id] / possible;
+    }
+
+    /*number of pairs that can be made out of n things*/
+    private static long pairs(long n) {
+        return n * (n - 1) / 2;
+    }
+
+    private static IntStream stream(int count, boolean parallel) {
+        IntStream range = IntStream.range(0, count);
+
+        return parallel ? range.parallel() : range;
+    }
+
+    private Integer idOf(V vertex) {
+        if (vertex == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        return vertexId.get(vertex);
+    }
+}
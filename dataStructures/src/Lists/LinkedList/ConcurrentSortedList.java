@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+/*This class is a sorted list that many threads can use at the same time
+ * without locks. It is a lock-free skip list: every node has a tower of links
+ * like SortedSkipList, but every link is an AtomicMarkableReference. A node
+ * is added with compareAndSet() on the links before it, bottom level first,
+ * so once it is on level zero it is in the list. A node is removed in two
+ * steps. First the links inside its tower are marked, top level first, which
+ * stops anyone from adding after it. Marking level zero is the moment it
+ * leaves the list. Then it is unlinked, either by the thread that marked it
+ * or by any other thread that walks past it. A thread that loses a
+ * compareAndSet() simply looks for its position again, so no thread ever
+ * waits for another one.
+ * Equal values are allowed. Every node gets a sequence number when it is
+ * added, and equal values are ordered by it, so they stay in the order they
+ * were added and every node has its own position.
+ * search() and valueFrequency() never change a link, so they do not slow
+ * down the producers. Iterating, toString() and length() are weakly
+ * consistent: they see every value that was in the list for the whole walk,
+ * and may or may not see values added or removed during it*/
+package Lists.LinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConcurrentSortedList<T extends Comparable<T>> implements Iterable<T> {
+    /*maximum height of a tower, the same as SortedSkipList*/
+    private static final int MAX_LEVEL = 16;
+
+    private final Node<T> head;// tower of the first links on every level
+    private final AtomicLong sequence;// gives every node a unique number
+    private final LongAdder elemCount;// added minus removed, no contention
+
+    /*A node of the list. A link that is marked means the node it belongs to
+     * is being removed, not the node it points to*/
+    private static final class Node<T> {
+        private final T value;
+        private final long seq;// orders equal values by when they were added
+        private final AtomicMarkableReference<Node<T>>[] next;
+
+        @SuppressWarnings("unchecked")
+        private Node(T value, long seq, int height) {
+            this.value = value;
+            this.seq = seq;
+            next = (AtomicMarkableReference<Node<T>>[])
+                    new AtomicMarkableReference<?>[height];
+
+            for (int i = 0; i < height; i++)
+                next[i] = new AtomicMarkableReference<>(null, false);
+        }
+
+        private int height() {
+            return next.length;
+        }
+    }
+
+    /**Default Constructor for the ConcurrentSortedList. Head is a node with
+     * no value and a full tower*/
+    public ConcurrentSortedList() {
+        head = new Node<>(null, Long.MIN_VALUE, MAX_LEVEL);
+        sequence = new AtomicLong();
+        elemCount = new LongAdder();
+    }
+
+    /**
+     * This method adds newValue to the list in ascending order, after any
+     * values equal to it. It can be called by many threads at the same time
+     *
+     * @param newValue (Value to be added to the list)
+     */
+    public void insertion(T newValue) {
+        // checking if newValue is null and throwing an exception
+        if (newValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        long seq = sequence.getAndIncrement();// bigger than every other node
+        int height = randomHeight();
+        Node<T> temp = new Node<>(newValue, seq, height);
+
+        Node<T>[] preds = levels();
+        Node<T>[] succs = levels();
+
+        // linking level zero, which puts the node in the list
+        while (true) {
+            find(newValue, seq, preds, succs);
+            temp.next[0].set(succs[0], false);
+
+            if (preds[0].next[0].compareAndSet(succs[0], temp, false, false))
+                break;
+        }
+        elemCount.increment();
+
+        // linking the rest of the tower, which only makes searching faster
+        for (int level = 1; level < height; level++) {
+            while (true) {
+                Node<T> current = temp.next[level].getReference();
+
+                /*stopping if the node is already being removed, otherwise
+                 * pointing it at the successor that was just found*/
+                if (temp.next[level].isMarked())
+                    return;
+                if (current != succs[level] && !temp.next[level]
+                        .compareAndSet(current, succs[level], false, false))
+                    continue;
+
+                if (preds[level].next[level].compareAndSet(succs[level], temp,
+                        false, false))
+                    break;
+
+                find(newValue, seq, preds, succs);
+            }
+        }
+    }
+
+    /**This method checks if value is in the list. It only reads links, so
+     * it never has to start again because of other threads
+     *
+     * @param value (element to search for in the list)
+     * @return true if element is found
+     *          false otherwise.
+     */
+    public boolean search(T value) {
+        // checking for valid parameters
+        if (value == null)
+            throw new IllegalArgumentException("Value cannot be null");
+
+        Node<T> current = firstNotLess(value);
+
+        return current != null && current.value.compareTo(value) == 0;
+    }
+
+    /**This method returns the number of times value is in the list
+     *
+     * @param value (Object to check to see if it exists )
+     * @return frequency (number of times that value appears in the list)
+     */
+    public int valueFrequency(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int frequency = 0;
+        Node<T> current = firstNotLess(value);
+
+        // equal values are next to each other on level zero
+        while (current != null && current.value.compareTo(value) == 0) {
+            if (!current.next[0].isMarked())
+                frequency++;
+            current = current.next[0].getReference();
+        }
+
+        return frequency;
+    }
+
+    /**
+     * This method removes every value that is at least fromValue and at
+     * most toValue. Each value is removed on its own, so other threads can
+     * keep adding and removing while this runs. Values added to the range
+     * while it runs may or may not be removed
+     *
+     * @param fromValue (smallest value to remove)
+     * @param toValue   (biggest value to remove)
+     * @return number of values this call removed
+     */
+    public int removeFromTo(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int count = 0;
+        Node<T> current = firstNotLess(fromValue);
+
+        while (current != null && current.value.compareTo(toValue) <= 0) {
+            Node<T> next = current.next[0].getReference();
+
+            if (remove(current))
+                count++;
+
+            current = next;
+        }
+
+        return count;
+    }
+
+    /**This method removes all values from the list, one at a time*/
+    public void clear() {
+        Node<T> current = head.next[0].getReference();
+
+        while (current != null) {
+            Node<T> next = current.next[0].getReference();
+            remove(current);
+            current = next;
+        }
+    }
+
+    /**This method returns the number of values in the list. It is exact
+     * when no other thread is changing the list
+     *
+     * @return number of values in the list
+     */
+    public int length() {
+        return elemCount.intValue();
+    }
+
+    /**This method returns an iterator over the values in ascending order.
+     * It never throws ConcurrentModificationException
+     *
+     * @return weakly consistent iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> nextNode = skipRemoved(head.next[0].getReference());
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public T next() {
+                if (nextNode == null)
+                    throw new NoSuchElementException();
+
+                T value = nextNode.value;
+                nextNode = skipRemoved(nextNode.next[0].getReference());
+
+                return value;
+            }
+        };
+    }
+
+    /**This method returns the values in the list with a space between them,
+     * the same way LinkedList does
+     *
+     * @return String representation of current object
+     */
+    @Override
+    public String toString() {
+        StringBuilder printList = new StringBuilder();
+
+        for (T value : this) {
+            if (printList.length() > 0)
+                printList.append(" ");
+            printList.append(value);
+        }
+
+        return printList.toString();
+    }
+
+    /*returns an array with room for a node on every level*/
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] levels() {
+        return (Node<T>[]) new Node<?>[MAX_LEVEL];
+    }
+
+    /*This is a private method that finds, on every level, the last node
+     * before the position of (value, seq) and the node after it. Marked
+     * nodes met on the way are unlinked, and the search starts again from
+     * head if another thread changed a link first*/
+    private void find(T value, long seq, Node<T>[] preds, Node<T>[] succs) {
+        boolean[] marked = {false};
+
+        retry:
+        while (true) {
+            Node<T> pred = head;
+
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                Node<T> current = pred.next[level].getReference();
+
+                while (current != null) {
+                    Node<T> succ = current.next[level].get(marked);
+
+                    // unlinking nodes that are being removed
+                    while (marked[0]) {
+                        if (!pred.next[level].compareAndSet(current, succ,
+                                false, false))
+                            continue retry;
+
+                        current = succ;
+                        if (current == null)
+                            break;
+                        succ = current.next[level].get(marked);
+                    }
+
+                    if (current == null || !comesBefore(current, value, seq))
+                        break;
+
+                    pred = current;
+                    current = succ;
+                }
+
+                preds[level] = pred;
+                succs[level] = current;
+            }
+
+            return;
+        }
+    }
+
+    /*This is a private method that returns the first node on level zero
+     * that is not being removed and is not less than value. It never
+     * changes a link*/
+    private Node<T> firstNotLess(T value) {
+        boolean[] marked = {false};
+        Node<T> pred = head;
+        Node<T> current = null;
+
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            current = pred.next[level].getReference();
+
+            while (current != null) {
+                Node<T> succ = current.next[level].get(marked);
+
+                // walking past nodes that are being removed
+                while (marked[0] && succ != null) {
+                    current = succ;
+                    succ = current.next[level].get(marked);
+                }
+
+                if (marked[0] || current.value.compareTo(value) >= 0) {
+                    if (marked[0])
+                        current = null;// only removed nodes were left
+                    break;
+                }
+
+                pred = current;
+                current = succ;
+            }
+        }
+
+        return current;
+    }
+
+    /*This is a private method that removes node. The links above level zero
+     * are marked first, then level zero. Only the thread that marks level
+     * zero removes the node, and it returns true*/
+    private boolean remove(Node<T> node) {
+        boolean[] marked = {false};
+
+        for (int level = node.height() - 1; level >= 1; level--) {
+            Node<T> succ = node.next[level].get(marked);
+
+            while (!marked[0]) {
+                node.next[level].compareAndSet(succ, succ, false, true);
+                succ = node.next[level].get(marked);
+            }
+        }
+
+        Node<T> succ = node.next[0].get(marked);
+        while (true) {
+            if (marked[0])
+                return false;// another thread removed it first
+
+            if (node.next[0].compareAndSet(succ, succ, false, true)) {
+                elemCount.decrement();
+
+                // unlinking it from every level
+                Node<T>[] preds = levels();
+                Node<T>[] succs = levels();
+                find(node.value, node.seq, preds, succs);
+
+                return true;
+            }
+
+            succ = node.next[0].get(marked);
+        }
+    }
+
+    /*returns node, or the first node after it that is not being removed*/
+    private Node<T> skipRemoved(Node<T> node) {
+        while (node != null && node.next[0].isMarked())
+            node = node.next[0].getReference();
+
+        return node;
+    }
+
+    /*checks whether node comes before the position of (value, seq)*/
+    private boolean comesBefore(Node<T> node, T value, long seq) {
+        int compared = node.value.compareTo(value);
+
+        return compared < 0 || (compared == 0 && node.seq < seq);
+    }
+
+    /*returns a height between 1 and MAX_LEVEL, where every level is four
+     * times less likely than the one below it*/
+    private static int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt();
+
+        return Math.min(1 + Integer.numberOfTrailingZeros(bits) / 2, MAX_LEVEL);
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+/*This class is a LinkedList of int values that does not box them. There
+ * are no node objects. Instead, slot i of the list is values[i] and next[i],
+ * where next[i] is the slot of the node after it, or NIL at the end. Slot 0
+ * is the dummy head node, the same strategy LinkedList uses.
+ * Removed slots are put on a free list, chained through next[], and reused
+ * by the next insertion. The arrays only grow when every slot is in use, so
+ * once the list has reached its largest size, adding does not allocate
+ * anything, and comparing values is a plain int comparison instead of a
+ * compareTo() call on an Integer.
+ * Fields are protected so SortedIntLinkedList can work on them, the same way
+ * SortedLinkedList extends LinkedList*/
+package Lists.LinkedList;
+
+import java.util.Arrays;
+
+public class IntLinkedList implements Comparable<IntLinkedList> {
+    protected static final int NIL = -1;// next slot of the last node
+    protected static final int HEAD = 0;// slot of the dummy head node
+    private static final int DEFAULT_CAPACITY = 16;
+
+    protected int[] values;// value of every slot
+    protected int[] next;// slot of the following node, or NIL
+    protected int tail;// slot of the last node, HEAD when empty
+    protected int elemCount;// keeps track of size or number of elements
+    private int used;// slots ever handed out, including HEAD
+    private int free;// first slot of the free list, or NIL
+
+    /**
+     * Default Constructor for the IntLinkedList, with room for 16 values
+     * before the arrays grow
+     */
+    public IntLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor that makes room for capacity values, so that adding that
+     * many values never allocates
+     *
+     * @param capacity (number of values to make room for)
+     */
+    public IntLinkedList(int capacity) {
+        // checking for valid parameters
+        if (capacity < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        values = new int[capacity + 1];// one more for the head slot
+        next = new int[capacity + 1];
+        clear();
+    }
+
+    /**
+     * This method adds newValue to the end of the list
+     *
+     * @param newValue (Value to be added to the linked list)
+     */
+    public void insertion(int newValue) {
+        int temp = allocate(newValue);
+
+        next[tail] = temp;// works for the head slot too
+        tail = temp;
+        elemCount++;
+    }
+
+    /**
+     * This method returns the number of values in the list
+     *
+     * @return number of values in the list
+     */
+    public int length() {
+        return elemCount;
+    }
+
+    /**
+     * This method returns the values of the list with a space in between
+     * them, the same way LinkedList does
+     *
+     * @return String representation of current object
+     */
+    @Override
+    public String toString() {
+        StringBuilder printList = new StringBuilder();
+
+        for (int current = next[HEAD]; current != NIL; current = next[current]) {
+            if (current != next[HEAD])
+                printList.append(" ");
+            printList.append(values[current]);
+        }
+
+        return printList.toString();
+    }
+
+    /**
+     * This method removes all values from the list. The arrays are kept, so
+     * the list can be filled again without allocating
+     */
+    public void clear() {
+        next[HEAD] = NIL;
+        tail = HEAD;
+        elemCount = 0;
+        used = 1;
+        free = NIL;
+    }
+
+    /**
+     * This method returns the number of times value is in the list
+     *
+     * @param value (value to count)
+     * @return frequency (number of times that value appears in the list)
+     */
+    public int valueFrequency(int value) {
+        int frequency = 0;
+
+        for (int current = next[HEAD]; current != NIL; current = next[current]) {
+            if (values[current] == value)
+                frequency++;
+        }
+
+        return frequency;
+    }
+
+    /**
+     * This method returns the index of the first occurrence of value, or -1
+     * if it is not present. The first value is at index 0
+     *
+     * @param value (The value to search for and find the position)
+     * @return Index (The index of value to be returned)
+     */
+    public int getIndex(int value) {
+        int index = 0;
+        int current = next[HEAD];
+
+        while (current != NIL && values[current] != value) {
+            current = next[current];
+            index++;
+        }
+
+        return current == NIL ? -1 : index;
+    }
+
+    /**
+     * This method returns the value at index position
+     *
+     * @param position (index of value to return)
+     * @return value that is at index "position"
+     */
+    public int valueAtIndex(int position) {
+        // checking if position can be a valid number to use.
+        if (position < 0 || position > length() - 1)
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        int current = next[HEAD];
+        for (int i = 0; i < position; i++)
+            current = next[current];
+
+        return values[current];
+    }
+
+    /**
+     * This method checks if value is in the list
+     *
+     * @param value (value to search for in the linked list)
+     * @return true if value is found
+     *          false otherwise.
+     */
+    public boolean search(int value) {
+        return getIndex(value) != -1;
+    }
+
+    /**
+     * This method removes all the values from the first occurrence of
+     * fromValue to the first occurrence of toValue that comes at or after
+     * it, with fromValue and toValue included. Nothing is removed if either
+     * is not found. The removed slots go back on the free list
+     *
+     * @param fromValue (value to start removing from)
+     * @param toValue   (value to end removing)
+     */
+    public void removeFromTo(int fromValue, int toValue) {
+        int previous = HEAD;
+
+        // finding the node before the first occurrence of fromValue
+        while (next[previous] != NIL && values[next[previous]] != fromValue)
+            previous = next[previous];
+
+        int end = next[previous];
+        while (end != NIL && values[end] != toValue)
+            end = next[end];
+
+        if (end != NIL)
+            unlink(previous, end);
+    }
+
+    /**
+     * This method removes every value with an odd index
+     */
+    public void removeEveryOther() {
+        int current = next[HEAD];
+
+        while (current != NIL && next[current] != NIL) {
+            int removed = next[current];
+
+            next[current] = next[removed];
+            release(removed);
+            elemCount--;
+
+            if (next[current] == NIL)
+                tail = current;
+            current = next[current];
+        }
+    }
+
+    /**
+     * The compareTo() method compares two lists value by value, and returns
+     * the result of the first pair that is different. If one list runs out
+     * first, the shorter list is the smaller one. 0 is returned if both have
+     * the same values in the same order
+     *
+     * @param otherList (list to compare against)
+     * @return result (negative, zero or positive)
+     */
+    @Override
+    public int compareTo(IntLinkedList otherList) {
+        int result = 0;
+        int current = next[HEAD];
+        int other = otherList.next[HEAD];
+
+        while (result == 0 && current != NIL && other != NIL) {
+            result = Integer.compare(values[current], otherList.values[other]);
+            current = next[current];
+            other = otherList.next[other];
+        }
+
+        if (result == 0)
+            result = Integer.compare(elemCount, otherList.elemCount);
+
+        return result;
+    }
+
+    /*This is a protected method that removes the nodes after previous up to
+     * and including last, and puts their slots back on the free list*/
+    protected void unlink(int previous, int last) {
+        int current = next[previous];
+        next[previous] = next[last];
+
+        if (last == tail)
+            tail = previous;
+
+        while (current != next[previous]) {
+            int following = next[current];
+            release(current);
+            elemCount--;
+            current = following;
+        }
+    }
+
+    /*This is a protected method that returns a slot holding value, taken
+     * from the free list if there is one. The arrays only grow when every
+     * slot is in use*/
+    protected int allocate(int value) {
+        int slot;
+
+        if (free != NIL) {
+            slot = free;
+            free = next[slot];
+        } else {
+            if (used == values.length) {
+                int capacity = Math.max(DEFAULT_CAPACITY, used + (used >> 1));
+                values = Arrays.copyOf(values, capacity);
+                next = Arrays.copyOf(next, capacity);
+            }
+            slot = used++;
+        }
+
+        values[slot] = value;
+        next[slot] = NIL;
+
+        return slot;
+    }
+
+    /*puts slot at the front of the free list*/
+    private void release(int slot) {
+        next[slot] = free;
+        free = slot;
+    }
+}
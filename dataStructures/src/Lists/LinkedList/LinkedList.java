@@ -16,13 +16,100 @@
  * because of the use of inheritance for this project structure*/
 
 package Lists.LinkedList;
+import java.io.IOException;
 import java.lang.IndexOutOfBoundsException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class LinkedList <T extends Comparable<T>> implements
-        Comparable<LinkedList<T>>{
+        Comparable<LinkedList<T>>, Iterable<T> {
     protected Node head;//reference to first element in the object list
     protected Node tail;//reference to last element in the object list
     protected int elemCount;// keeps track of size or number of elements
+    protected int modCount;// number of times the list has been changed
+
+    /*The optional positional index keeps a reference to every STRIDE-th
+     * node, so valueAtIndex() jumps to the node before position and walks at
+     * most STRIDE - 1 links, instead of walking from head. Adding to the end
+     * keeps the index up to date. Any other change only marks it as stale,
+     * and it is rebuilt in one pass the next time it is needed, so a loop
+     * over every index costs O(n) instead of O(n^2)*/
+    private static final int STRIDE = 32;
+    private Node[] checkpoints;// node at every multiple of STRIDE, or null
+    private int checkpointCount;// number of checkpoints in use
+    private boolean checkpointsValid;// false when the list changed
+
+    /*The optional value index maps every value in the list to the number of
+     * times it is in the list and its first node, the way LinkedHashMap keeps
+     * an entry for every key. search() and valueFrequency() then take O(1)
+     * time, and getIndex() knows straight away if a value is missing. The
+     * first node is forgotten when it is removed, or when an equal value is
+     * added in the middle of the list, and is found again by the next
+     * getIndex(). The index uses equals() and hashCode(), so it is only
+     * correct for types whose compareTo() agrees with equals()*/
+    private HashMap<T, Occurrences> valueIndex;// null when not kept
+
+    /*The optional node pool keeps up to poolCapacity removed nodes, chained
+     * through their links, and insertion() takes a node from it before making
+     * a new one. A list that is filled and cleared again and again then
+     * reuses the same nodes instead of leaving them all to the garbage
+     * collector. The pool belongs to the list, because a Node is an inner
+     * class of the list that made it, and lists are not shared between
+     * threads anyway. The counts are protected, so a subclass that pools
+     * its own kind of node keeps them the same way*/
+    private Node pool;// first pooled node, or null
+    protected int pooled;// number of nodes in the pool
+    protected int poolCapacity;// most nodes the pool keeps, 0 when off
+    protected long poolHits;// nodes taken from the pool
+    protected long poolMisses;// nodes made because the pool was empty
+
+    /*The fingerprint is a rolling hash of the values in order: every value
+     * added to the end multiplies it by FINGERPRINT_BASE and adds the mixed
+     * hashCode() of the value, so insertion() keeps it up to date in O(1).
+     * A change anywhere else, such as removeFromTo(), would need the hash of
+     * every value after it, so like the positional index it only marks the
+     * fingerprint as stale, and it is rebuilt in one pass the next time it
+     * is needed. Lists that are compared with many others then pay for the
+     * pass once, and contentEquals() tells most unequal lists apart in O(1)*/
+    private static final long FINGERPRINT_BASE = 0x100000001B3L;
+    private long fingerprint;// rolling hash of the values, if valid
+    private boolean fingerprintValid = true;// false when the list changed
+
+    /*The encoder and buffer writeTo() uses for channels are made the first
+     * time the list is written to a channel and kept, so dumping a list
+     * again and again does not allocate them every time*/
+    private static final int CHANNEL_BUFFER_SIZE = 8192;
+    private CharsetEncoder channelEncoder;// UTF-8, or null until needed
+    private ByteBuffer channelBuffer;// encoded text not written yet
+
+    /*lists shorter than this are sorted on one thread by parallelSort()*/
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    /*spliterators with fewer elements than this are not split any more*/
+    private static final int MIN_SPLIT = 1 << 10;
+
+    /*entry of the value index for one value*/
+    private final class Occurrences {
+        private int count;// number of nodes holding the value
+        private Node first;// first of them, or null if not known
+    }
 
     /**
      * This inner class represents a linked list node. This node class will
@@ -67,6 +154,43 @@ public class LinkedList <T extends Comparable<T>> implements
         elemCount = 0;
     }
 
+    /**
+     * Constructor for a LinkedList that can keep a positional index, at the
+     * cost of one reference for every 32 elements. While the list is only
+     * added to at the end, valueAtIndex() and cursor() walk at most 31
+     * links instead of O(n). Any other change, such as an insertion in the
+     * middle of a SortedLinkedList, makes the next lookup rebuild the index
+     * in one O(n) pass, so lookups are only O(1) amortized over the lookups
+     * made between such changes, and a list changed before every lookup
+     * gains nothing
+     *
+     * @param positionIndex (true to keep the positional index)
+     */
+    public LinkedList(boolean positionIndex) {
+        this(positionIndex, false);
+    }
+
+    /**
+     * Constructor for a LinkedList that can keep a positional index, a
+     * value index, or both. With the value index, search() and
+     * valueFrequency() take O(1) time, at the cost of a hash map entry for
+     * every distinct value
+     *
+     * @param positionIndex (true to keep the positional index)
+     * @param valueIndex (true to keep the value index)
+     */
+    @SuppressWarnings("unchecked")
+    public LinkedList(boolean positionIndex, boolean valueIndex) {
+        this();
+
+        if (positionIndex) {
+            checkpoints = (Node[]) new LinkedList<?>.Node[4];
+            checkpointsValid = true;
+        }
+        if (valueIndex)
+            this.valueIndex = new HashMap<>();
+    }
+
     /**
      * This method adds a new element called newValue to the linked list.
      * newValue is added to the end of the list only without regards for
@@ -82,7 +206,7 @@ public class LinkedList <T extends Comparable<T>> implements
             throw new IllegalArgumentException("null values cannot be added");
         }
 
-        Node temp = new Node(newValue);// creating a new Node to be added
+        Node temp = newNode(newValue);// creating a new Node to be added
 
         // if statement to check if list is empty
         if (elemCount == 0) {// if num of element is 0 & nothing has been added
@@ -94,6 +218,7 @@ public class LinkedList <T extends Comparable<T>> implements
 
         tail = temp;// new node becomes the tail or last element in linked list
         elemCount++;// after adding new node, number of node increases
+        nodeAppended(temp);
     }
 
     /**
@@ -144,6 +269,131 @@ public class LinkedList <T extends Comparable<T>> implements
         return printList.toString();
     }
 
+    /**
+     * This method writes the same text as toString() to out, one element at
+     * a time, so the whole text is never held in memory. out should be
+     * buffered, such as a BufferedWriter or a StringBuilder
+     *
+     * @param out (where the text is written)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeTo(Appendable out) throws IOException {
+        return writeTo(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * This method writes the first limit elements to out, the same way
+     * writeTo(out) does. Every element is written if there are fewer
+     *
+     * @param out   (where the text is written)
+     * @param limit (most elements to write)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeTo(Appendable out, int limit) throws IOException {
+        // checking for valid parameters
+        if (out == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        if (limit < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        int count = Math.min(limit, elemCount);
+        Node current = head.link;
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0)
+                out.append(' ');
+            out.append(String.valueOf(current.value));
+            current = current.link;
+        }
+
+        return count;
+    }
+
+    /**
+     * This method writes the same text as toString() to channel as UTF-8,
+     * the same way writeTo(channel, limit) does
+     *
+     * @param channel (where the text is written, such as a file or socket)
+     * @return number of elements written
+     * @throws IOException if channel fails
+     */
+    public int writeTo(WritableByteChannel channel) throws IOException {
+        return writeTo(channel, Integer.MAX_VALUE);
+    }
+
+    /**
+     * This method writes the first limit elements to channel as UTF-8, the
+     * same way writeTo(out, limit) does. The text is encoded into one 8 KB
+     * buffer that is written to the channel whenever it is full, so memory
+     * use does not depend on the length of the list. The encoder and the
+     * buffer are kept by the list and reused by every call. The channel is
+     * not closed
+     *
+     * @param channel (where the text is written, such as a file or socket)
+     * @param limit   (most elements to write)
+     * @return number of elements written
+     * @throws IOException if channel fails
+     */
+    public int writeTo(WritableByteChannel channel, int limit)
+            throws IOException {
+        // checking for valid parameters
+        if (channel == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        if (limit < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        if (channelBuffer == null) {
+            // bad characters are replaced, the same as a Writer does
+            channelEncoder = StandardCharsets.UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            channelBuffer = ByteBuffer.allocate(CHANNEL_BUFFER_SIZE);
+        }
+        channelBuffer.clear();
+
+        int count = Math.min(limit, elemCount);
+        Node current = head.link;
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                if (!channelBuffer.hasRemaining())
+                    drain(channel);
+                channelBuffer.put((byte) ' ');
+            }
+            encode(String.valueOf(current.value), channel);
+            current = current.link;
+        }
+        drain(channel);
+
+        return count;
+    }
+
+    /*encodes text into the channel buffer, writing the buffer to channel
+     * whenever it is full. Every element is encoded on its own, so the
+     * encoder starts again for each one*/
+    private void encode(String text, WritableByteChannel channel)
+            throws IOException {
+        CharBuffer in = CharBuffer.wrap(text);
+        channelEncoder.reset();
+
+        while (channelEncoder.encode(in, channelBuffer, true).isOverflow())
+            drain(channel);
+        while (channelEncoder.flush(channelBuffer).isOverflow())
+            drain(channel);
+    }
+
+    /*writes everything in the channel buffer to channel and empties it*/
+    private void drain(WritableByteChannel channel) throws IOException {
+        channelBuffer.flip();
+        while (channelBuffer.hasRemaining())
+            channel.write(channelBuffer);
+        channelBuffer.clear();
+    }
+
     /**
      * This method removes all values from the current object list. Remember
      * that head itself is final, so we cannot modify that. We simply just
@@ -157,9 +407,19 @@ public class LinkedList <T extends Comparable<T>> implements
      * have been de-referenced.
      */
     public void clear() {
+        // the nodes go to the pool, as many as it has room for
+        if (elemCount > 0 && head.link != null)
+            recycle(head.link, tail);
+
         tail = head;// changes the tail reference to point directly to head
         head.link = tail;// the head links points to tail
         elemCount = 0;// the length of the linkedList object is reset
+        if (valueIndex != null)
+            valueIndex.clear();
+        positionsChanged();
+
+        fingerprint = 0;// the fingerprint of an empty list is known
+        fingerprintValid = true;
     }
 
     /**
@@ -178,6 +438,10 @@ public class LinkedList <T extends Comparable<T>> implements
             throw new IllegalArgumentException("Value cannot be null");
         }
 
+        // the value index already knows the answer
+        if (valueIndex != null)
+            return indexedFrequency(value);
+
         int frequency = 0;// counts number of time value appears
         Node current = head.link;// current is set to first node in list
 
@@ -200,10 +464,10 @@ public class LinkedList <T extends Comparable<T>> implements
      * current object list, and it returns -1 if it is not present. This method
      * treats the first position in the list to start as 0 instead of 1. This
      * means that when compared to the total number of values in the list, the
-     * index will always be one less. This method finds the index
-     * by checking if it exists first. if it does, then the method loops
-     * through the current object list and finds the position of where
-     * the value is in the object list.
+     * index will always be one less. This method loops through the current
+     * object list once and stops at the first node holding value. With the
+     * value index, a missing value is found without looping, and a known
+     * first node is found by comparing references instead of values.
      *
      * @param value (The value to search for and find the position)
      * @return Index (The index of value to be returned)
@@ -217,33 +481,28 @@ public class LinkedList <T extends Comparable<T>> implements
         int index = 0;// to keep track of element position
         Node current = head.link;// current points to first element in the
         // current object list
+        Occurrences found = valueIndex == null ? null : valueIndex.get(value);
 
-        /*
-         * before looping, it checks if the value does not occur in the current
-         * linkedList object
-         */
-        if (valueFrequency(value) == 0)
-            index = -1;
-        else // if it occurs or is present in the list
-        {
-
-            //checking before loop if value is fist element (efficiency)
-            if (current.value.compareTo(value)==0) {
-                return index;
+        if (valueIndex != null && found == null)
+            index = -1;// the value index knows it is not in the list
+        else if (found != null && found.first != null) {
+            // walking to a known node only compares references
+            while (current != found.first) {
+                current = current.link;
+                index++;
             }
-
-            //checking if it is last element
-            else if (tail.value.compareTo(value) == 0) {
-                index = elemCount - 1;//set index to length - 1;
-            } else {
-			/* This loop quits when it reaches the end of the list, or
-			when it finds the element,Value, in the list*/
-                while (current != tail.link && current.value.compareTo(value) != 0)
-                {
-                    current = current.link;
-                    index++;// index will keep increasing till it finds value
-                }
+        } else {
+            /* This loop quits when it reaches the end of the list, or when it
+             * finds the element, value, so the list is only walked once*/
+            while (index < elemCount && current.value.compareTo(value) != 0) {
+                current = current.link;
+                index++;// index will keep increasing till it finds value
             }
+
+            if (index == elemCount)
+                index = -1;// value is not present in the list
+            else if (found != null)
+                found.first = current;// remembered for next time
         }
 
         return index;
@@ -263,26 +522,602 @@ public class LinkedList <T extends Comparable<T>> implements
         if (position < 0 || position > length() - 1)
             throw new IndexOutOfBoundsException("Invalid Position");
 
-        T value = null;// create a value reference
-        Node current = head.link;// reference to element in first position
+        return nodeAtIndex(position).value;
+    }
 
-        // checking if position is at the beginning
-        if (position == 0) {
-            value = current.value;// returns element in the first position
+    /**
+     * This method returns a cursor that starts at the first element
+     *
+     * @return cursor over the list
+     */
+    public Cursor cursor() {
+        return cursor(0);
+    }
+
+    /**
+     * This method returns a cursor whose first call to next() returns the
+     * element at index position. Finding the start position costs the same
+     * as valueAtIndex(), after that every next() call is O(1), so reading
+     * the elements from some index onwards does not search for each one
+     *
+     * @param position (index of the first element the cursor returns)
+     * @return cursor over the list starting at position
+     */
+    public Cursor cursor(int position) {
+        // position can be one past the end, for a cursor with nothing left
+        if (position < 0 || position > length())
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        return new Cursor(position == elemCount ? null : nodeAtIndex(position),
+                position);
+    }
+
+    /**
+     * This inner class moves through the list one element at a time and
+     * knows the index of the element it returns next. Changing the list
+     * while a cursor is in use makes the cursor throw
+     * ConcurrentModificationException
+     */
+    public class Cursor implements Iterator<T> {
+        private Node current;// node next() returns
+        private int nextIndex;// index of current
+        private final int expectedModCount;// modCount when it was made
+
+        private Cursor(Node current, int nextIndex) {
+            this.current = current;
+            this.nextIndex = nextIndex;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * This method checks if there are more elements after the cursor
+         *
+         * @return true if next() can be called
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex < elemCount;
+        }
+
+        /**
+         * This method returns the next element and moves past it
+         *
+         * @return next element in the list
+         */
+        @Override
+        public T next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            T value = current.value;
+            current = current.link;
+            nextIndex++;
+
+            return value;
+        }
+
+        /**
+         * This method returns the index of the element next() returns
+         *
+         * @return index of the next element
+         */
+        public int nextIndex() {
+            return nextIndex;
+        }
+    }
+
+    /**
+     * This method returns an iterator over the list from the first element
+     * to the last. It is a cursor, so it fails fast if the list is changed
+     *
+     * @return iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return cursor();
+    }
+
+    /**
+     * This method returns a spliterator over the list. It knows its exact
+     * size, and splits in half by finding the middle node with
+     * nodeAfter(), which jumps through the positional index when the list
+     * keeps one. Without the index, the middle is found by walking half of
+     * the links, so lists made with the positional index split best
+     *
+     * @return spliterator over the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        // rebuilding a stale index now, so splits on other threads only read
+        if (checkpoints != null && !checkpointsValid)
+            rebuildCheckpoints();
+
+        return new NodeSpliterator(elemCount == 0 ? null : head.link, 0,
+                elemCount, modCount);
+    }
+
+    /**
+     * This method returns a sequential stream of the elements of the list
+     *
+     * @return stream of the elements in order
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * This method returns a parallel stream of the elements of the list
+     *
+     * @return parallel stream of the elements
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * This protected method returns the characteristics of the spliterator.
+     * Lists that keep their elements sorted add SORTED
+     *
+     * @return characteristics of the spliterator
+     */
+    protected int spliteratorCharacteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.NONNULL;
+    }
+
+    /**
+     * This protected method returns the node steps links after from, where
+     * from is the node at index fromIndex. With the positional index the
+     * node is found from the closest checkpoint, otherwise by walking.
+     * Subclasses with a faster way of finding a position override it
+     *
+     * @param from (node to start from)
+     * @param fromIndex (index of from)
+     * @param steps (number of links to move forward)
+     * @return node at index fromIndex + steps
+     */
+    protected Node nodeAfter(Node from, int fromIndex, int steps) {
+        if (checkpoints != null && checkpointsValid)
+            return nodeAtIndex(fromIndex + steps);
+
+        Node current = from;
+        for (int i = 0; i < steps; i++)
+            current = current.link;
+
+        return current;
+    }
+
+    /**
+     * This inner class is the spliterator of the list. It covers remaining
+     * nodes starting at current, which is at index. Every split gives the
+     * first half to a new spliterator and keeps the second half
+     */
+    private class NodeSpliterator implements Spliterator<T> {
+        private Node current;// next node to return
+        private int index;// index of current
+        private int remaining;// number of nodes left to return
+        private final int expectedModCount;// modCount when it was made
+
+        private NodeSpliterator(Node current, int index, int remaining,
+                                int expectedModCount) {
+            this.current = current;
+            this.index = index;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);// required by Spliterator
+            if (remaining == 0)
+                return false;
+            // a node of a changed list may be in the node pool already
+            checkForModification();
+
+            T value = current.value;
+            current = current.link;
+            index++;
+            remaining--;
+            action.accept(value);
+
+            checkForModification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+
+            // local copies keep the loop out of the fields
+            Node node = current;
+            for (int i = 0; i < remaining; i++) {
+                // checked before every value, since the nodes of a changed
+                // list can be recycled, with no value and a link into the pool
+                checkForModification();
+                action.accept(node.value);
+                node = node.link;
+            }
+
+            index += remaining;
+            remaining = 0;
+            current = node;
+
+            checkForModification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining < MIN_SPLIT * 2)
+                return null;
+
+            int half = remaining / 2;
+            NodeSpliterator prefix = new NodeSpliterator(current, index, half,
+                    expectedModCount);
+
+            current = nodeAfter(current, index, half);
+            index += half;
+            remaining -= half;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return spliteratorCharacteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            if (hasCharacteristics(Spliterator.SORTED))
+                return null;// natural order
+
+            throw new IllegalStateException();
+        }
+
+        private void checkForModification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * This protected method returns the node at index position, which must
+     * be a valid index. With the positional index it starts from the
+     * closest checkpoint, otherwise from head. Subclasses with a faster way
+     * of finding a position override it
+     *
+     * @param position (index of node to return)
+     * @return node at index position
+     */
+    protected Node nodeAtIndex(int position) {
+        if (position == elemCount - 1)
+            return tail;// no need to walk to the last node
+
+        Node current;
+        int steps;
+
+        if (checkpoints != null) {
+            if (!checkpointsValid)
+                rebuildCheckpoints();
+
+            current = checkpoints[position / STRIDE];
+            steps = position % STRIDE;
         } else {
-            /*Loop that checks for the index of each value in the current
-             * object list is the same as the position. If that index is found,
-             * the loop quits and the value at that index is returned
-             */
-
-            while (current != tail.link &&
-                    getIndex(current.value) != position) {
-                current = current.link;// current points to the next element
-                value = current.value;// value at current is stored
+            current = head.link;
+            steps = position;
+        }
+
+        for (int i = 0; i < steps; i++)
+            current = current.link;
+
+        return current;
+    }
+
+    /**
+     * This protected method must be called after node has been added as
+     * the new tail, once elemCount includes it. Adding to the end keeps the
+     * positional index up to date
+     *
+     * @param node (node that was added to the end)
+     */
+    protected void nodeAppended(Node node) {
+        modCount++;
+        indexValue(node, true);
+
+        if (fingerprintValid)
+            fingerprint = fingerprint * FINGERPRINT_BASE + spread(node.value);
+
+        int position = elemCount - 1;
+        if (checkpointsValid && position % STRIDE == 0) {
+            if (checkpointCount == checkpoints.length)
+                checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
+
+            checkpoints[checkpointCount++] = node;
+        }
+    }
+
+    /**
+     * This protected method must be called after any change other than
+     * adding to the end, such as adding in the middle or removing. The
+     * positional index is rebuilt the next time it is needed
+     */
+    protected void positionsChanged() {
+        modCount++;
+        checkpointsValid = false;
+        fingerprintValid = false;
+    }
+
+    /**
+     * This protected method must be called after node has been added
+     * anywhere but the end, once elemCount includes it. It updates the value
+     * index and marks the positional index as stale
+     *
+     * @param node (node that was added)
+     */
+    protected void nodeInserted(Node node) {
+        indexValue(node, false);
+        positionsChanged();
+    }
+
+    /**
+     * This protected method must be called for every node that is removed.
+     * It only updates the value index, so positionsChanged() must still be
+     * called once for the whole removal
+     *
+     * @param node (node that was removed)
+     */
+    protected void nodeRemoved(Node node) {
+        if (valueIndex != null) {
+            Occurrences found = valueIndex.get(node.value);
+
+            if (--found.count == 0)
+                valueIndex.remove(node.value);
+            else if (found.first == node)
+                found.first = null;// the next occurrence is not known
+        }
+    }
+
+    /**
+     * This method turns the node pool on, off, or changes how many nodes it
+     * keeps. Nodes removed by clear(), removeFromTo(), removeEveryOther()
+     * and removeRange() go to the pool until it has capacity nodes, and
+     * insertion() takes nodes from it. A capacity of 0 turns the pool off
+     * and lets the pooled nodes be collected
+     *
+     * @param capacity (most nodes the pool keeps)
+     */
+    public void setNodePoolCapacity(int capacity) {
+        // checking for valid parameters
+        if (capacity < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        poolCapacity = capacity;
+        while (pooled > capacity) {
+            pool = pool.link;
+            pooled--;
+        }
+    }
+
+    /**
+     * This method returns the number of nodes in the pool right now
+     *
+     * @return number of pooled nodes
+     */
+    public int pooledNodes() {
+        return pooled;
+    }
+
+    /**
+     * This method returns the number of nodes insertion() took from the pool
+     * since it was turned on
+     *
+     * @return number of pool hits
+     */
+    public long poolHits() {
+        return poolHits;
+    }
+
+    /**
+     * This method returns the number of nodes that had to be made while the
+     * pool was on, because it was empty
+     *
+     * @return number of pool misses
+     */
+    public long poolMisses() {
+        return poolMisses;
+    }
+
+    /**
+     * This method returns the share of new nodes that came from the pool,
+     * between 0 and 1. It is 0 if no node was needed while the pool was on
+     *
+     * @return pool hit rate
+     */
+    public double poolHitRate() {
+        long requests = poolHits + poolMisses;
+
+        return requests == 0 ? 0 : (double) poolHits / requests;
+    }
+
+    /**
+     * This protected method returns a node holding value, taken from the
+     * pool if there is one
+     *
+     * @param value (value of the node)
+     * @return node with value and no link
+     */
+    protected Node newNode(T value) {
+        if (pool == null) {
+            if (poolCapacity > 0)
+                poolMisses++;
+            return new Node(value);
+        }
+
+        Node node = pool;
+        pool = node.link;
+        pooled--;
+        poolHits++;
+
+        node.value = value;
+        node.link = null;
+        return node;
+    }
+
+    /**
+     * This protected method puts the nodes from first to last, following
+     * their links, in the pool, until it is full. It must only be called
+     * once the nodes are no longer in the list and nodeRemoved() was called
+     * for them
+     *
+     * @param first (first removed node)
+     * @param last  (last removed node)
+     */
+    protected void recycle(Node first, Node last) {
+        Node current = first;
+
+        while (pooled < poolCapacity) {
+            Node following = current.link;
+
+            current.value = null;// lets the value be collected
+            current.link = pool;
+            pool = current;
+            pooled++;
+
+            if (current == last)
+                break;
+            current = following;
+        }
+    }
+
+    /**
+     * This protected method returns the number of times value is in the
+     * list using the value index. It must only be called when
+     * hasValueIndex() is true
+     *
+     * @param value (value to count)
+     * @return number of times value is in the list
+     */
+    protected int indexedFrequency(T value) {
+        Occurrences found = valueIndex.get(value);
+
+        return found == null ? 0 : found.count;
+    }
+
+    /**
+     * This protected method checks if the value index is kept, so that
+     * subclasses can use it instead of walking the list
+     *
+     * @return true if the value index is kept
+     */
+    protected boolean hasValueIndex() {
+        return valueIndex != null;
+    }
+
+    /*adds node to the value index. A node added at the end can only become
+     * the first node of its value if the value was not in the list yet*/
+    private void indexValue(Node node, boolean atEnd) {
+        if (valueIndex != null) {
+            Occurrences found = valueIndex.get(node.value);
+
+            if (found == null) {
+                found = new Occurrences();
+                found.first = node;
+                valueIndex.put(node.value, found);
+            } else if (!atEnd)
+                found.first = null;// it may now come before the first one
+
+            found.count++;
+        }
+    }
+
+    /**
+     * This protected method is for lists whose values are in ascending
+     * order. It returns a node to start walking from when looking for the
+     * last node whose value is less than value (or not greater, when
+     * inclusive is true). With the positional index, this is the last
+     * checkpoint that qualifies, found by binary search, so the walk is at
+     * most STRIDE links. Without it, or when no checkpoint qualifies, it is
+     * head
+     *
+     * @param value (value being looked for)
+     * @param inclusive (true if nodes equal to value also qualify)
+     * @return node to start walking from
+     */
+    protected Node sortedStart(T value, boolean inclusive) {
+        int index = sortedStartIndex(value, inclusive);
+
+        return index < 0 ? head : checkpoints[index / STRIDE];
+    }
+
+    /**
+     * This protected method finds the same node as sortedStart(), but
+     * returns its index instead, or -1 when it is head
+     *
+     * @param value (value being looked for)
+     * @param inclusive (true if nodes equal to value also qualify)
+     * @return index of the node to start walking from, or -1 for head
+     */
+    protected int sortedStartIndex(T value, boolean inclusive) {
+        int index = -1;
+
+        if (checkpoints != null && elemCount > 0) {
+            if (!checkpointsValid)
+                rebuildCheckpoints();
+
+            int low = 0;
+            int high = checkpointCount - 1;
+
+            // finding the last checkpoint that comes before value
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int compared = checkpoints[middle].value.compareTo(value);
+
+                if (compared < 0 || (compared == 0 && inclusive)) {
+                    index = middle * STRIDE;
+                    low = middle + 1;
+                } else
+                    high = middle - 1;
             }
         }
 
-        return value;
+        return index;
+    }
+
+    /*mixes the hashCode() of value into 64 bits, so values whose hash codes
+     * are close do not give fingerprints that are close*/
+    private static long spread(Object value) {
+        long hash = value.hashCode() * 0x9E3779B97F4A7C15L;
+
+        return hash ^ (hash >>> 32);
+    }
+
+    /*This is a private method that walks the list once and records every
+     * STRIDE-th node*/
+    @SuppressWarnings("unchecked")
+    private void rebuildCheckpoints() {
+        int needed = (elemCount + STRIDE - 1) / STRIDE;
+
+        if (checkpoints.length < needed || checkpoints.length > needed * 4 + 4)
+            checkpoints = (Node[]) new LinkedList<?>.Node[Math.max(4, needed)];
+        else
+            Arrays.fill(checkpoints, null);// lets removed nodes be collected
+
+        Node current = head.link;
+        for (int i = 0; i < elemCount; i++) {
+            if (i % STRIDE == 0)
+                checkpoints[i / STRIDE] = current;
+            current = current.link;
+        }
+
+        checkpointCount = needed;
+        checkpointsValid = true;
     }
 
     /**
@@ -308,7 +1143,9 @@ public class LinkedList <T extends Comparable<T>> implements
         Node current = head.link;// points to the first Node in the list
         Node previous = head;// points to the dummyHeadNode, which is null
 
-        Node begin = new Node();
+        /*begin is the node before fromValue, which is head when fromValue is
+         * the first element, so it stays null until fromValue is found*/
+        Node begin = null;
         Node end = null;
         int indexBegin = -1;// tracks index of begin node. This is accessed
         // directly using indexOfValue()
@@ -321,14 +1158,14 @@ public class LinkedList <T extends Comparable<T>> implements
         while (current != tail.link && end == null)
         {
             // finding the first occurrence of fromValue
-            if (current.value.equals(fromValue) && begin.value == null)
+            if (current.value.equals(fromValue) && begin == null)
             {
                 begin = previous;// begin points to fromValue
                 indexBegin = getIndex(current.value) ;//gets the index
             }
 
             // finding the first occurrence of toValue
-            if (current.value.equals(toValue) && begin.value != null)
+            if (current.value.equals(toValue) && begin != null)
             {
 				/*end points to the node after toValue,
 				 because toValue has to also be removed*/
@@ -346,13 +1183,24 @@ public class LinkedList <T extends Comparable<T>> implements
 
         /*if begin or end is null, then fromValue or toValue was not found We
          * also use index to find number of elements removed*/
-        if (begin.value != null && end != null)
+        if (begin != null && end != null)
         {
 
 			/* since index is always one less than length, we add one
 			to find actual number of element removed*/
             count = (indexEnd - indexBegin) + 1;
+
+            // the removed nodes are taken out of the value index
+            for (Node removed = begin.link; removed != end.link;
+                 removed = removed.link)
+                nodeRemoved(removed);
+
+            Node first = begin.link;// first removed node
             begin.link = end.link;// removes all values between begin and end
+            if (end == tail)
+                tail = begin;// the last values were removed
+            recycle(first, end);
+            positionsChanged();
         }
 
 
@@ -372,61 +1220,89 @@ public class LinkedList <T extends Comparable<T>> implements
      * elements in the same order, but one list has a longer length than the
      * other: a negative integer is returned if the current object list is
      * shorter, and a positive integer otherwise.
+     * The walk stops at the first pair of elements that differ, so lists
+     * that differ early are compared in a few steps whatever their length
      *
      * @return result (value that defines how result are related to each other
      * when compared
      */
     @Override
     public int compareTo(LinkedList<T> otherList) {
-        int result = 0;// keeps track of how they compare to each other
+        if (otherList == this)
+            return 0;
 
         /*These nodes help to keep track of the current node in the current
          * linkedList object and in another linkedList object*/
         Node current = head.link;
         Node otherListCurrent = otherList.head.link;
+        int common = Math.min(elemCount, otherList.elemCount);
 
-        // looping through both of the Linked objects at the same time
-        while (current != tail.link &&
-                otherListCurrent != otherList.tail.link) {
-            if (result == 0)// result is 0 if they are equal.
-            {
-                // comparing the data in current object to another object
-
-                if ((current.value.compareTo(otherListCurrent.value)) < 0) {
-                    result = -1;// negative integer if current object is less
-                }
-                else if ((current.value.compareTo(otherListCurrent.value)) > 0)
-                {
-                    result = 1;// positive if current object is greater
-                }
-
-                /*this checks if they are equal and current list is shorter
-                 * and if the current list reaches the tail first before
-                 * the other list being compared*/
-                else if ((current.value.compareTo(otherListCurrent.value)) == 0
-                        && current.link == tail.link &&
-                        otherListCurrent.link != otherList.tail.link)
-                {
-                    result = -1;// result becomes negative
-                }
-
-                /*this checks if they are equal and current list is longer and
-                 * if the other list being compared, reaches the tail first
-                 * before the current list*/
-                else if ((current.value.compareTo(otherListCurrent.value)) == 0
-                        && current.link != tail.link &&
-                        otherListCurrent.link == otherList.tail.link) {
-                    result = 1;
-                }
-                // else if it is equal...result remains unchanged and returns 0
-            }
+        // looping through both of the Linked objects until one differs
+        for (int i = 0; i < common; i++) {
+            int compared = current.value.compareTo(otherListCurrent.value);
+
+            if (compared != 0)
+                return compared < 0 ? -1 : 1;
 
             // changes current to point to next node in the respective objects
             current = current.link;
             otherListCurrent = otherListCurrent.link;
         }
 
-        return result;
+        // one list is the start of the other, so the shorter one is less
+        return Integer.compare(elemCount, otherList.elemCount);
+    }
+
+    /**
+     * This method checks if otherList has the same values as the current
+     * list, in the same order. Lists of different lengths or with different
+     * fingerprints are told apart without walking them, so only lists that
+     * are most likely equal are compared element by element. Like the value
+     * index, the fingerprint uses hashCode(), so it is only correct for
+     * types whose compareTo() agrees with equals()
+     *
+     * @param otherList (list to compare with)
+     * @return true if both lists have the same values in the same order
+     *          false otherwise.
+     */
+    public boolean contentEquals(LinkedList<T> otherList) {
+        // checking for valid parameters
+        if (otherList == null)
+            throw new IllegalArgumentException("Value cannot be null");
+
+        if (otherList == this)
+            return true;
+        if (elemCount != otherList.elemCount ||
+                fingerprint() != otherList.fingerprint())
+            return false;
+
+        return compareTo(otherList) == 0;
+    }
+
+    /**
+     * This method returns a hash of the values of the list in order. Lists
+     * with the same values in the same order have the same fingerprint, so
+     * lists with different fingerprints are different. It takes O(1) time
+     * after adding to the end, and one pass over the list after any other
+     * change
+     *
+     * @return fingerprint of the values in the list
+     */
+    public long fingerprint() {
+        if (!fingerprintValid) {
+            long hash = 0;
+            Node current = head.link;
+
+            for (int i = 0; i < elemCount; i++) {
+                hash = hash * FINGERPRINT_BASE + spread(current.value);
+                current = current.link;
+            }
+
+            fingerprint = hash;
+            fingerprintValid = true;
+        }
+
+        return fingerprint;
     }
 
     /**This method removes element in every other node starting from the
@@ -435,21 +1311,25 @@ public class LinkedList <T extends Comparable<T>> implements
      * that all elements with odd numbered index are removed from the current
      * objList.*/
     public void removeEveryOther() {
-        Node current = head.link,prev = null;
-        int count = 0;// method similar to indexing
-
-        while(current != null){
-            /*checks if count is at and even number and removes the element.*/
-            if(count % 2 != 0) {
-                prev.link = current.link;
-                tail = prev;// the value of tail is always reset until loop ends
-                elemCount--;
-            }
+        // every node current points to is kept
+        Node current = elemCount == 0 ? null : head.link;
+
+        /*each pass removes the node after current, then moves to the node
+         * after the removed one*/
+        while (current != null && current.link != null) {
+            Node removed = current.link;
+
+            current.link = removed.link;
+            nodeRemoved(removed);
+            if (removed == tail)
+                tail = current;// the last element was removed
+            elemCount--;
+            recycle(removed, removed);
 
-            prev = current;
             current = current.link;
-            count++;// count increase  at every iteration of while loop
         }
+
+        positionsChanged();
     }
 
     /**This method searches the current linked list object for a specific value,
@@ -470,6 +1350,10 @@ public class LinkedList <T extends Comparable<T>> implements
         if (value == null)
             throw new IllegalArgumentException();
 
+        // the value index already knows the answer
+        if (valueIndex != null)
+            return valueIndex.containsKey(value);
+
         boolean found = false;
         Node current = head.link;// node is set to begin at first element
 
@@ -478,14 +1362,14 @@ public class LinkedList <T extends Comparable<T>> implements
          also be searched for in a separate condition, but since the
          iteration in the else block would go through the first element,
          there is no need for that*/
-        if(tail != null && tail.value.compareTo(value) == 0) {
+        if(elemCount > 0 && tail.value.compareTo(value) == 0) {
             return true;
         }
 
         else {
         /*Iterates through every element in the linked list. The loop quits
         after the element is found*/
-            while (current != null && !found) {
+            while (elemCount > 0 && current != null && !found) {
                 // compares current element with parameter
                 if (current.value.compareTo(value) == 0)
                     found = true;
@@ -497,4 +1381,175 @@ public class LinkedList <T extends Comparable<T>> implements
 
         return found;
     }
+
+    /**This method sorts the list in ascending order, keeping equal values
+     * in the order they were in. It is a bottom-up merge sort that relinks
+     * the existing nodes, so no node is made or copied. Nodes are taken one
+     * at a time and merged into runs of 1, 2, 4, 8... nodes, the way a
+     * binary counter adds one, and the runs are merged together at the end.
+     * This takes O(n log n) time and only an array of 64 run references*/
+    public void sort() {
+        if (elemCount > 1) {
+            head.link = sortChain(head.link, elemCount);
+            sorted();
+        }
+    }
+
+    /**This method sorts the list like sort(), on the common ForkJoinPool*/
+    public void parallelSort() {
+        parallelSort(ForkJoinPool.commonPool());
+    }
+
+    /**This method sorts the list like sort(), using the threads of pool.
+     * The list is cut into one piece for each thread (four times more, so
+     * threads that finish early can take more), the pieces are sorted at the
+     * same time and then merged in pairs, also at the same time, until one
+     * list is left. Short lists are sorted on the calling thread
+     *
+     * @param pool (pool whose threads sort the list)
+     */
+    public void parallelSort(ForkJoinPool pool) {
+        // checking for valid parameters
+        if (pool == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        if (elemCount < PARALLEL_SORT_THRESHOLD) {
+            sort();
+            return;
+        }
+
+        int pieces = Math.max(2, Math.min(pool.getParallelism() * 4,
+                elemCount / (PARALLEL_SORT_THRESHOLD / 4)));
+        @SuppressWarnings("unchecked")
+        Node[] starts = (Node[]) new LinkedList<?>.Node[pieces];
+        int[] counts = new int[pieces];
+
+        // cutting the list into pieces that end with a null link
+        Node current = head.link;
+        for (int i = 0; i < pieces; i++) {
+            counts[i] = elemCount / pieces + (i < elemCount % pieces ? 1 : 0);
+            starts[i] = current;
+
+            for (int j = 1; j < counts[i]; j++)
+                current = current.link;
+
+            Node last = current;
+            current = current.link;
+            last.link = null;
+        }
+
+        head.link = pool.invoke(new SortTask(starts, counts, 0, pieces));
+        sorted();
+    }
+
+    /*This inner class sorts the pieces from low to high, splitting the work
+     * in two until one piece is left, and merges the two sorted halves*/
+    private class SortTask extends RecursiveTask<Node> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node[] starts;// first node of every piece
+        private final int[] counts;// number of nodes in every piece
+        private final int low;// first piece of this task
+        private final int high;// one past the last piece of this task
+
+        private SortTask(Node[] starts, int[] counts, int low, int high) {
+            this.starts = starts;
+            this.counts = counts;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected Node compute() {
+            if (high - low == 1)
+                return sortChain(starts[low], counts[low]);
+
+            int middle = (low + high) >>> 1;
+            SortTask left = new SortTask(starts, counts, low, middle);
+            left.fork();
+            Node right = new SortTask(starts, counts, middle, high).compute();
+
+            // the left pieces came first, so they go first on ties
+            return merge(left.join(), right);
+        }
+    }
+
+    /*This is a private method that sorts count nodes starting at first,
+     * whose last link is null or the rest of the list, and returns the first
+     * node of the sorted chain, which ends with a null link*/
+    @SuppressWarnings("unchecked")
+    private Node sortChain(Node first, int count) {
+        Node[] runs = (Node[]) new LinkedList<?>.Node[64];// run of 2^i at i
+        Node current = first;
+
+        for (int i = 0; i < count; i++) {
+            Node run = current;
+            current = current.link;
+            run.link = null;
+
+            // like adding one to a binary counter, merging equal sized runs
+            int size = 0;
+            while (runs[size] != null) {
+                run = merge(runs[size], run);// older run first, for ties
+                runs[size] = null;
+                size++;
+            }
+            runs[size] = run;
+        }
+
+        Node result = null;
+        for (Node run : runs) {
+            if (run != null)
+                result = result == null ? run : merge(run, result);
+        }
+
+        return result;
+    }
+
+    /*This is a private method that merges two sorted chains that end with
+     * a null link. Nodes of first go before equal nodes of second*/
+    private Node merge(Node first, Node second) {
+        Node result;
+
+        if (second.value.compareTo(first.value) < 0) {
+            result = second;
+            second = second.link;
+        } else {
+            result = first;
+            first = first.link;
+        }
+
+        Node last = result;
+        while (first != null && second != null) {
+            if (second.value.compareTo(first.value) < 0) {
+                last.link = second;
+                second = second.link;
+            } else {
+                last.link = first;
+                first = first.link;
+            }
+            last = last.link;
+        }
+        last.link = first != null ? first : second;
+
+        return result;
+    }
+
+    /*This is a private method that finds the new tail after sorting, and
+     * tells the indexes that nodes moved. Equal values keep their order, but
+     * the first node of a value may now be a different one*/
+    private void sorted() {
+        Node current = head.link;
+
+        while (current.link != null)
+            current = current.link;
+        tail = current;
+
+        if (valueIndex != null) {
+            for (Occurrences found : valueIndex.values())
+                found.first = null;
+        }
+
+        positionsChanged();
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+/*This class is an IntLinkedList that keeps its values in ascending order,
+ * the same way SortedLinkedList does for LinkedList. Because the values are
+ * in order, searching stops as soon as a bigger value is reached*/
+package Lists.LinkedList;
+
+public class SortedIntLinkedList extends IntLinkedList {
+
+    /**Default Constructor for the SortedIntLinkedList*/
+    public SortedIntLinkedList() {
+        super();
+    }
+
+    /**Constructor that makes room for capacity values
+     *
+     * @param capacity (number of values to make room for)
+     */
+    public SortedIntLinkedList(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * This method adds newValue in ascending order. Equal primitive values
+     * cannot be told apart, so adding a value that is not smaller than the
+     * last one, runs of duplicates included, goes straight to the tail in
+     * O(1) time
+     *
+     * @param newValue (Value to be added to the linked list)
+     */
+    @Override
+    public void insertion(int newValue) {
+        int prev = HEAD;
+
+        if (elemCount > 0 && values[tail] <= newValue)
+            prev = tail;
+        else {
+            // moving to the last node with a smaller value
+            while (next[prev] != NIL && values[next[prev]] < newValue)
+                prev = next[prev];
+        }
+
+        int temp = allocate(newValue);// may replace the arrays
+        next[temp] = next[prev];
+        next[prev] = temp;
+
+        if (next[temp] == NIL)
+            tail = temp;
+        elemCount++;
+    }
+
+    /**
+     * This method returns the number of times value is in the list, stopping
+     * at the first bigger value
+     *
+     * @param value (value to count)
+     * @return frequency (number of times that value appears in the list)
+     */
+    @Override
+    public int valueFrequency(int value) {
+        int frequency = 0;
+        int current = firstNotLess(value);
+
+        while (current != NIL && values[current] == value) {
+            frequency++;
+            current = next[current];
+        }
+
+        return frequency;
+    }
+
+    /**
+     * This method returns the index of the first occurrence of value, or -1
+     * if it is not present, stopping at the first bigger value
+     *
+     * @param value (The value to search for and find the position)
+     * @return Index (The index of value to be returned)
+     */
+    @Override
+    public int getIndex(int value) {
+        int index = 0;
+        int current = next[HEAD];
+
+        while (current != NIL && values[current] < value) {
+            current = next[current];
+            index++;
+        }
+
+        return current != NIL && values[current] == value ? index : -1;
+    }
+
+    /**
+     * This method removes all the values from the first occurrence of
+     * fromValue to the first occurrence of toValue, both included. Nothing
+     * is removed if either is not in the list or toValue is smaller than
+     * fromValue
+     *
+     * @param fromValue (value to start removing from)
+     * @param toValue   (value to end removing)
+     */
+    @Override
+    public void removeFromTo(int fromValue, int toValue) {
+        int previous = HEAD;
+
+        while (next[previous] != NIL && values[next[previous]] < fromValue)
+            previous = next[previous];
+
+        int end = next[previous];
+        if (end == NIL || values[end] != fromValue || toValue < fromValue)
+            return;
+
+        while (end != NIL && values[end] < toValue)
+            end = next[end];
+
+        if (end != NIL && values[end] == toValue)
+            unlink(previous, end);
+    }
+
+    /*returns the first node whose value is not less than value, or NIL*/
+    private int firstNotLess(int value) {
+        int current = next[HEAD];
+
+        while (current != NIL && values[current] < value)
+            current = next[current];
+
+        return current;
+    }
+}
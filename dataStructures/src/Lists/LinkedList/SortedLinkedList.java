@@ -11,6 +11,14 @@ Simi Ojeyomi*/
  * LinkedList class*/
 package Lists.LinkedList;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+
 
 public class SortedLinkedList<T extends Comparable<T>>
         extends LinkedList<T> {
@@ -22,6 +30,25 @@ public class SortedLinkedList<T extends Comparable<T>>
         super();//calls superclass constructor
     }
 
+    /**Constructor for a SortedLinkedList that can keep a positional index,
+     * so valueAtIndex() does not walk from head
+     *
+     * @param positionIndex (true to keep the positional index)
+     */
+    public SortedLinkedList(boolean positionIndex) {
+        super(positionIndex);
+    }
+
+    /**Constructor for a SortedLinkedList that can keep a positional index,
+     * a value index, or both
+     *
+     * @param positionIndex (true to keep the positional index)
+     * @param valueIndex (true to keep the value index)
+     */
+    public SortedLinkedList(boolean positionIndex, boolean valueIndex) {
+        super(positionIndex, valueIndex);
+    }
+
     @Override
     /*
      * This method adds a new element called newValue to the linked list.
@@ -40,7 +67,7 @@ public class SortedLinkedList<T extends Comparable<T>>
         /*Prev node is created to keep track of the node before current*/
         Node prev = head;// prev points to head
         Node current = head.link;// points to the current node in the list
-        Node temp = new Node(newValue);// creating a new node based on newValue
+        Node temp = newNode(newValue);// creating a new node based on newValue
 
         // if statement to check if list is empty
         if (elemCount == 0) {
@@ -73,6 +100,12 @@ public class SortedLinkedList<T extends Comparable<T>>
 
         elemCount++;// elemCount increases by one. This is also used
         // to keep track of length
+
+        // only adding after the tail keeps the positional index valid
+        if (temp == tail)
+            nodeAppended(temp);
+        else
+            nodeInserted(temp);
     }
 
     @Override
@@ -90,6 +123,10 @@ public class SortedLinkedList<T extends Comparable<T>>
             throw new IllegalArgumentException("Value cannot be null");
         }
 
+        // the value index already knows the answer
+        if (hasValueIndex())
+            return indexedFrequency(value);
+
         int frequency = 0;// counts number of time value appears
         Node current = head.link;// current is set to first node in list
 
@@ -107,62 +144,404 @@ public class SortedLinkedList<T extends Comparable<T>>
         return frequency;
     }
     @Override
+    /*This method returns the index of the first occurrence of value, or -1
+     * if it is not in the list. Since the values are in order, the walk
+     * starts from sortedStartIndex(), which is found by binary search over
+     * the positional index when the list keeps one, and stops at the first
+     * value that is not less than value instead of at the end of the list
+     *
+     * @param value (The value to search for and find the position)
+     * @return Index (The index of value to be returned)
+     */
+    public int getIndex(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        // the value index knows straight away if value is missing
+        if (hasValueIndex() && indexedFrequency(value) == 0)
+            return -1;
+
+        int start = sortedStartIndex(value, false);
+        Node current = (start < 0 ? head : nodeAtIndex(start)).link;
+        int index = start + 1;// index of current
+
+        // stopping at the first value that is not less than value
+        while (index < elemCount && current.value.compareTo(value) < 0) {
+            current = current.link;
+            index++;
+        }
+
+        if (index == elemCount || current.value.compareTo(value) != 0)
+            index = -1;// value is not present in the list
+
+        return index;
+    }
+
+    @Override
+    /*This method removes all the values from the first occurrence of
+     * fromValue to the first occurrence of toValue, both included. Since the
+     * values are in order, toValue is looked for only after fromValue, and
+     * the removed values are counted while walking to it, so the list is
+     * only walked once
+     *
+     * @param fromValue (value to start removing from)
+     * @param toValue   (value to end removing)
+     */
     public void removeFromTo(T fromValue, T toValue) {
         // check if fromValue and toValue are parameters that are valid
         if (fromValue == null || toValue == null) {
             throw new IllegalArgumentException("Value cannot be null");
         }
 
-        /*Count variable counts the number of removed element.
-         * i.e. number of elements between fromValue and toValue */
-        int count = 0;
-        Node current = head.link;// points to the first Node in the list
-        Node previous = head;// points to the dummyHeadNode, which is null
+        if (elemCount == 0)
+            return;// nothing to remove
 
-        Node begin = new Node();
-        Node end = null;
-        int indexBegin = 0;// tracks index of begin node. This is accessed
-        //directly using indexOfValue()
+        Node previous = head;// node before the first occurrence of fromValue
+        while (previous.link != null &&
+                previous.link.value.compareTo(fromValue) < 0)
+            previous = previous.link;
 
+        Node end = previous.link;// becomes the first occurrence of toValue
+        if (end == null || !end.value.equals(fromValue))
+            return;// fromValue was not found
 
-        int indexEnd = 0;
+        int count = 1;// number of elements removed
+        while (end.link != null && end.value.compareTo(toValue) < 0) {
+            end = end.link;
+            count++;
+        }
 
-        while (current != tail.link
-                && current.value.compareTo(toValue) <= 0)
-        {
-            // finding the first occurrence of fromValue
-            if (current.value.equals(fromValue))
-            {
-                begin = previous;// begin points to fromValue
-                indexBegin = getIndex(current.value);//gets the index
+        /*if toValue was not found, or is smaller than fromValue, nothing
+         * is removed*/
+        if (end.value.equals(toValue)) {
+            // the removed nodes are taken out of the value index
+            for (Node removed = previous.link; removed != end.link;
+                 removed = removed.link)
+                nodeRemoved(removed);
+
+            Node first = previous.link;// first removed node
+            previous.link = end.link;// removes all values between them
+            if (end == tail)
+                tail = previous;// the last values were removed
+            recycle(first, end);
+
+            elemCount = elemCount - count;//updating the length
+            positionsChanged();
+        }
+    }
+
+    /**
+     * This method adds every value in values to the list. The values are
+     * sorted first, then merged into the list in one walk from head, so
+     * adding m values to a list of n costs O(m log m + n) instead of the
+     * O(n * m) of calling insertion() for each. Like insertion(), every
+     * value goes before the values already in the list that are equal to it
+     *
+     * @param values (values to add to the list)
+     */
+    @SuppressWarnings("unchecked")
+    public void insertAll(Collection<? extends T> values) {
+        Object[] batch = sortedBatch(values);
+
+        Node prev = head;// last node before the next value
+        Node current = elemCount == 0 ? null : head.link;
+
+        for (Object value : batch) {
+            T newValue = (T) value;
+
+            // the batch is sorted, so prev never has to move back
+            while (current != null && current.value.compareTo(newValue) < 0) {
+                prev = current;
+                current = current.link;
             }
 
-            // finding the first occurrence of toValue
-            if (current.value.equals(toValue)
-                    && previous.value.compareTo(current.value) < 0)
-            {
-					/*end points to the node after toValue,
-					 because toValue has to also be removed*/
-                end = current.link;
-                indexEnd = getIndex(current.value);//gets the index
+            Node temp = newNode(newValue);
+            link(prev, temp, current);
+            prev = temp;
+        }
+    }
+
+    /**
+     * This method moves every value of otherList into this list, in order,
+     * and leaves otherList empty. The nodes of otherList are linked into
+     * this list instead of being copied, so no node is made and the cost is
+     * O(n + m). Values already in this list come before equal values from
+     * otherList
+     *
+     * @param otherList (sorted list whose values are moved into this one)
+     */
+    public void mergeFrom(SortedLinkedList<T> otherList) {
+        // checking for valid parameters
+        if (otherList == null)
+            throw new IllegalArgumentException("Value cannot be null");
+        if (otherList == this)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        Node prev = head;// last node before the next moved node
+        Node current = elemCount == 0 ? null : head.link;
+        Node incoming = otherList.elemCount == 0 ? null : otherList.head.link;
+
+        while (incoming != null) {
+            // values of this list that are not bigger stay in front
+            while (current != null &&
+                    current.value.compareTo(incoming.value) <= 0) {
+                prev = current;
+                current = current.link;
             }
-            previous = current;// previous points to the current node
-            current = current.link;// current points to next node in
-            //the list
+
+            Node following = incoming.link;// next node of otherList
+            link(prev, incoming, current);
+            prev = incoming;
+            incoming = following;
         }
 
+        // its nodes now belong to this list, so clear() must not pool them
+        otherList.head.link = null;
+        otherList.clear();
+    }
 
-        /*if begin or end is null, then fromValue or toValue was not found.
-         * We also use index to find number of elements removed*/
-        if (begin.value != null && end != null)
-        {
+    /**This method does nothing, since the values are always in order*/
+    @Override
+    public void sort() {
+        // already sorted
+    }
 
-				/* since index is always one less than length, we add one
-				to find actual number of element removed*/
-            count = (indexEnd - indexBegin) + 1;
-            begin.link = end;// removes all values between begin and end
+    /**This method does nothing, since the values are always in order
+     *
+     * @param pool (pool that is not needed)
+     */
+    @Override
+    public void parallelSort(ForkJoinPool pool) {
+        // checking for valid parameters
+        if (pool == null)
+            throw new IllegalArgumentException("Null value detected");
+    }
+
+    /**This method adds SORTED to the spliterator characteristics, so
+     * streams know the elements are in natural order
+     *
+     * @return characteristics of the spliterator
+     */
+    @Override
+    protected int spliteratorCharacteristics() {
+        return super.spliteratorCharacteristics() | Spliterator.SORTED;
+    }
+
+    /*This is a protected method that copies values into an array, checks
+     * that none of them is null and sorts it*/
+    protected Object[] sortedBatch(Collection<? extends T> values) {
+        // checking for valid parameters
+        if (values == null)
+            throw new IllegalArgumentException("Value cannot be null");
+
+        Object[] batch = values.toArray();
+        for (Object value : batch) {
+            if (value == null)
+                throw new IllegalArgumentException("Value cannot be null");
         }
 
-        super.elemCount = super.elemCount - count;//updating the length
+        Arrays.sort(batch);// already sorted batches take one pass
+
+        return batch;
+    }
+
+    /*links node between prev and current, where current is null at the end
+     * of the list, and updates the tail, the count and the indexes*/
+    private void link(Node prev, Node node, Node current) {
+        prev.link = node;
+        node.link = current;
+        elemCount++;
+
+        if (current == null) {
+            tail = node;
+            nodeAppended(node);
+        } else
+            nodeInserted(node);
+    }
+
+    /**
+     * This method returns the values that are at least fromValue and at
+     * most toValue, in order, without removing them. Nothing is copied: each
+     * iterator finds the first value when it is made, then follows the links
+     * and stops after toValue, so reading k values costs the time to find
+     * the first one plus k. Changing the list while iterating makes the
+     * iterator throw ConcurrentModificationException
+     *
+     * @param fromValue (smallest value to return)
+     * @param toValue   (biggest value to return)
+     * @return values from fromValue to toValue
+     */
+    public Iterable<T> range(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        return () -> new RangeIterator(fromValue, toValue);
+    }
+
+    /**
+     * This method returns the number of values that are at least fromValue
+     * and at most toValue
+     *
+     * @param fromValue (smallest value to count)
+     * @param toValue   (biggest value to count)
+     * @return number of values from fromValue to toValue
+     */
+    public int countInRange(T fromValue, T toValue) {
+        int count = 0;
+
+        for (Iterator<T> values = range(fromValue, toValue).iterator();
+             values.hasNext(); values.next())
+            count++;
+
+        return count;
+    }
+
+    /**
+     * This method returns the biggest value that is not greater than value,
+     * or null if there is none
+     *
+     * @param value (value to look for)
+     * @return biggest value not greater than value, or null
+     */
+    public T floor(T value) {
+        // checking for valid parameters
+        if (value == null)
+            throw new IllegalArgumentException("Value cannot be null");
+
+        return lastBefore(value, true).value;// head holds null
+    }
+
+    /**
+     * This method returns the smallest value that is not less than value,
+     * or null if there is none
+     *
+     * @param value (value to look for)
+     * @return smallest value not less than value, or null
+     */
+    public T ceiling(T value) {
+        // checking for valid parameters
+        if (value == null)
+            throw new IllegalArgumentException("Value cannot be null");
+
+        Node after = nextOf(lastBefore(value, false));
+
+        return after == null ? null : after.value;
+    }
+
+    /**
+     * This method removes every value that is at least fromValue and at
+     * most toValue. Unlike removeFromTo(), the two values do not have to be
+     * in the list. The values are unlinked in one step once the last one is
+     * found
+     *
+     * @param fromValue (smallest value to remove)
+     * @param toValue   (biggest value to remove)
+     * @return number of values removed
+     */
+    public int removeRange(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        Node previous = lastBefore(fromValue, false);
+        Node last = previous;// last node that is removed
+        int count = 0;
+
+        while (nextOf(last) != null && last.link.value.compareTo(toValue) <= 0) {
+            last = last.link;
+            nodeRemoved(last);
+            count++;
+        }
+
+        if (count > 0) {
+            Node first = previous.link;// first removed node
+            previous.link = last.link;
+            if (last == tail)
+                tail = previous;// the last values were removed
+            recycle(first, last);
+
+            elemCount = elemCount - count;
+            positionsChanged();
+        }
+
+        return count;
+    }
+
+    /**
+     * This protected method returns the last node whose value is less than
+     * value, or not greater than value when inclusive is true, and head if
+     * there is none. The walk starts from sortedStart(), so it is short when
+     * the positional index is kept. Subclasses with a faster search override
+     * it, and all the range methods use it
+     *
+     * @param value (value to look for)
+     * @param inclusive (true if nodes equal to value also count)
+     * @return last node before value, or head
+     */
+    protected Node lastBefore(T value, boolean inclusive) {
+        Node current = sortedStart(value, inclusive);
+
+        while (nextOf(current) != null) {
+            int compared = current.link.value.compareTo(value);
+
+            if (compared > 0 || (compared == 0 && !inclusive))
+                break;
+            current = current.link;
+        }
+
+        return current;
+    }
+
+    /*returns the node after node, or null at the end. An empty list may
+     * have head linked to itself, so the count is checked first*/
+    private Node nextOf(Node node) {
+        return elemCount == 0 ? null : node.link;
+    }
+
+    /**
+     * This inner class walks the values of a range. It finds the first one
+     * when it is made and stops at the first value bigger than the end
+     */
+    private class RangeIterator implements Iterator<T> {
+        private Node nextNode;// node next() returns, or null
+        private final T toValue;// biggest value returned
+        private final int expectedModCount;// modCount when it was made
+
+        private RangeIterator(T fromValue, T toValue) {
+            this.toValue = toValue;
+            expectedModCount = modCount;
+            nextNode = nextOf(lastBefore(fromValue, false));
+            skipPastEnd();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (nextNode == null)
+                throw new NoSuchElementException();
+
+            T value = nextNode.value;
+            nextNode = nextNode.link;
+            skipPastEnd();
+
+            return value;
+        }
+
+        /*ends the range once a value bigger than toValue is reached*/
+        private void skipPastEnd() {
+            if (nextNode != null && nextNode.value.compareTo(toValue) > 0)
+                nextNode = null;
+        }
     }
 }
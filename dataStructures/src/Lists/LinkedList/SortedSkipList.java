@@ -0,0 +1,667 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+/*This class is a SortedLinkedList that is also a skip list. Every node still
+ * has its link to the next node, so the list can be walked from head to tail
+ * exactly like a SortedLinkedList, and methods such as toString() and
+ * compareTo() are inherited unchanged. On top of that, every node gets a
+ * tower of forward links of a random height. A link on level i skips over
+ * nodes that are lower than i, so searching starts on the highest level and
+ * drops down a level whenever the next node would go past the value being
+ * looked for. This makes insertion, search, valueFrequency() and getIndex()
+ * take expected O(log n) time instead of O(n).
+ * Every forward link also stores its width, which is the number of level
+ * zero steps it skips. Adding the widths on the way down gives the index of
+ * a node, so valueAtIndex() and getIndex() are O(log n) as well.
+ * Heights are chosen so that a quarter of the nodes on a level also appear
+ * on the next one, which keeps the extra links per node small.
+ * The node pool keeps removed nodes in one chain per tower height, so a
+ * pooled node is only reused for a tower of the same height and the
+ * heights keep the same random spread*/
+package Lists.LinkedList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SortedSkipList<T extends Comparable<T>>
+        extends SortedLinkedList<T> {
+    /*maximum height of a tower. With a quarter of the nodes going up every
+     * level, 16 levels are enough for about four billion elements*/
+    private static final int MAX_LEVEL = 16;
+    /*insertAll() uses insertion() when the list is this many times longer
+     * than the batch, instead of linking every node again*/
+    private static final int SMALL_BATCH = 32;
+
+    private int level;// number of levels currently used by any tower
+    @SuppressWarnings("unchecked")
+    private final SkipNode[] pools = (SkipNode[])
+            new SortedSkipList<?>.SkipNode[MAX_LEVEL];// pooled nodes by height
+
+    /**
+     * This inner class is a node with a tower of forward links. forward[0]
+     * is always the same node as link, the higher entries skip ahead. The
+     * width of a link is the number of positions it moves forward. When a
+     * link is null, its width is the distance to one past the last element
+     */
+    private class SkipNode extends Node {
+        private final SkipNode[] forward;// next node on every level
+        private final int[] width;// positions skipped on every level
+
+        @SuppressWarnings("unchecked")
+        private SkipNode(T value, int height) {
+            super(value);
+            forward = (SkipNode[]) new SortedSkipList<?>.SkipNode[height];
+            width = new int[height];
+        }
+    }
+
+    /**Default Constructor for the SortedSkipList. The dummy head node is
+     * replaced by one with a full tower, so every level starts from it
+     */
+    public SortedSkipList() {
+        super();
+        head = new SkipNode(null, MAX_LEVEL);
+        clear();
+    }
+
+    /**
+     * This method adds newValue to the list in ascending order, before any
+     * values equal to it. The position is found by going down the towers,
+     * remembering on every level the last node before newValue and its
+     * index, so that the links and widths around the new node can be fixed
+     *
+     * @param newValue (Value to be added to the linked list)
+     */
+    @Override
+    public void insertion(T newValue) {
+        // checking if newValue is null and throwing an exception
+        if (newValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        @SuppressWarnings("unchecked")
+        SkipNode[] update = (SkipNode[]) new SortedSkipList<?>.SkipNode[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];// position of update on every level
+        SkipNode current = skipHead();
+
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+
+            while (current.forward[i] != null &&
+                    current.forward[i].value.compareTo(newValue) < 0) {
+                rank[i] += current.width[i];
+                current = current.forward[i];
+            }
+            update[i] = current;
+        }
+
+        int height = randomHeight();
+
+        // new levels start at head, which is at position 0
+        for (int i = level; i < height; i++) {
+            update[i] = skipHead();
+            rank[i] = 0;
+        }
+        if (height > level)
+            level = height;
+
+        SkipNode temp = takeNode(newValue, height);
+
+        for (int i = 0; i < level; i++) {
+            if (i < height) {
+                /*the new node sits at position rank[0] + 1, so it splits the
+                 * link of update[i] in two*/
+                temp.forward[i] = update[i].forward[i];
+                update[i].forward[i] = temp;
+                temp.width[i] = update[i].width[i] - (rank[0] - rank[i]);
+                update[i].width[i] = rank[0] - rank[i] + 1;
+            } else
+                update[i].width[i]++;// the link now skips one more node
+        }
+
+        // keeping the plain links the same as level zero
+        temp.link = temp.forward[0];
+        update[0].link = temp;
+
+        if (temp.link == null)
+            tail = temp;// a bigger value than the tail was added
+
+        elemCount++;
+        positionsChanged();
+    }
+
+    /**This method checks if value is in the list by going down the towers
+     * to the first node that is not less than value
+     *
+     * @param value (element to search for in the linked list)
+     * @return true if element is found
+     *          false otherwise.
+     */
+    @Override
+    public boolean search(T value) {
+        // checking for valid parameters
+        if (value == null)
+            throw new IllegalArgumentException();
+
+        int index = countLess(value, false);
+
+        return index < elemCount && valueAtIndex(index).compareTo(value) == 0;
+    }
+
+    /**This method returns the number of times value is in the list. Since
+     * equal values are next to each other, this is the number of values
+     * less than or equal to value minus the number of values less than it
+     *
+     * @param value (Object to check to see if it exists )
+     * @return frequency (number of times that value appears in the list)
+     */
+    @Override
+    public int valueFrequency(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        return countLess(value, true) - countLess(value, false);
+    }
+
+    /**This method returns the index of the first occurrence of value, or -1
+     * if it is not in the list. The index of the first occurrence is the
+     * number of values less than it
+     *
+     * @param value (The value to search for and find the position)
+     * @return Index (The index of value to be returned)
+     */
+    @Override
+    public int getIndex(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int index = countLess(value, false);
+
+        if (index == elemCount || valueAtIndex(index).compareTo(value) != 0)
+            index = -1;
+
+        return index;
+    }
+
+    /**This method returns the value at index position by going down the
+     * towers and adding up the widths of the links it follows
+     *
+     * @param position (index of element to return)
+     * @return element that is at index "position"
+     */
+    @Override
+    public T valueAtIndex(int position) {
+        // checking if position can be a valid number to use.
+        if (position < 0 || position > length() - 1)
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        return nodeAt(position + 1).value;
+    }
+
+    /**
+     * This method removes all the values from the first occurrence of
+     * fromValue to the first occurrence of toValue, both included. Nothing
+     * is removed if either value is not in the list or if toValue comes
+     * before fromValue. Every level is cut once around the removed nodes,
+     * so this takes O(log n) time plus the number of nodes removed
+     *
+     * @param fromValue (value to start removing from)
+     * @param toValue   (value to end removing)
+     */
+    @Override
+    public void removeFromTo(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int begin = getIndex(fromValue);
+        int end = getIndex(toValue);
+
+        if (begin != -1 && end != -1 && begin <= end)
+            removePositions(begin + 1, end + 1);
+    }
+
+    /**This method removes every element with an odd index. The kept
+     * nodes are linked again with their own towers in one pass, and the
+     * removed ones go to the pool if it is on*/
+    @Override
+    public void removeEveryOther() {
+        Relinker relinker = new Relinker();
+        Node current = head.link;
+
+        for (int i = 0; current != null; i++) {
+            Node following = current.link;
+
+            if (i % 2 == 0)
+                relinker.add((SkipNode) current);
+            else
+                recycle(current, current);
+            current = following;
+        }
+
+        relinker.finish();
+    }
+
+    /**This method removes all values from the list, leaving head with a
+     * tower of empty links. The nodes go to the pool if it is on*/
+    @Override
+    public void clear() {
+        if (head.link != null)
+            recycle(head.link, tail);
+
+        SkipNode first = skipHead();
+
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            first.forward[i] = null;
+            first.width[i] = 1;// one past the last element of an empty list
+        }
+
+        head.link = null;
+        tail = head;
+        elemCount = 0;
+        level = 1;
+        positionsChanged();
+    }
+
+    /**This method turns the node pool on, off, or changes how many nodes it
+     * keeps, the same as for a LinkedList. The pool holds nodes of every
+     * tower height together, up to capacity, and the tallest towers are
+     * let go first when the capacity is lowered
+     *
+     * @param capacity (most nodes the pool keeps)
+     */
+    @Override
+    public void setNodePoolCapacity(int capacity) {
+        // checking for valid parameters
+        if (capacity < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        for (int i = MAX_LEVEL - 1; i >= 0 && pooled > capacity; i--) {
+            while (pools[i] != null && pooled > capacity) {
+                pools[i] = (SkipNode) pools[i].link;
+                pooled--;
+            }
+        }
+
+        super.setNodePoolCapacity(capacity);
+    }
+
+    /**This method puts the nodes from first to last in the chain of the
+     * pool for their tower height, until the pool is full. Their towers are
+     * emptied, so pooled nodes do not keep nodes of the list alive
+     *
+     * @param first (first removed node)
+     * @param last  (last removed node)
+     */
+    @Override
+    protected void recycle(Node first, Node last) {
+        Node current = first;
+
+        while (pooled < poolCapacity) {
+            Node following = current.link;
+            SkipNode node = (SkipNode) current;
+            int height = node.forward.length;
+
+            node.value = null;// lets the value be collected
+            Arrays.fill(node.forward, null);
+            node.link = pools[height - 1];
+            pools[height - 1] = node;
+            pooled++;
+
+            if (current == last)
+                break;
+            current = following;
+        }
+    }
+
+    /**This method returns the node at index position using the widths of
+     * the links, so cursors also start in O(log n) time
+     *
+     * @param position (index of node to return)
+     * @return node at index position
+     */
+    @Override
+    protected Node nodeAtIndex(int position) {
+        return nodeAt(position + 1);
+    }
+
+    /**This method adds every value in values to the list. A batch that is
+     * small next to the list is added with insertion(), which only touches
+     * O(log n) nodes for each value. A bigger batch is sorted and merged
+     * with the nodes already in the list, which keep their towers and are
+     * linked again in one pass, so this costs O(m log m + n)
+     *
+     * @param values (values to add to the list)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void insertAll(Collection<? extends T> values) {
+        Object[] batch = sortedBatch(values);
+
+        if ((long) batch.length * SMALL_BATCH < elemCount) {
+            for (Object value : batch)
+                insertion((T) value);
+            return;
+        }
+
+        Relinker relinker = new Relinker();
+        Node current = head.link;
+
+        // new values go before equal ones, the same as insertion()
+        for (Object value : batch) {
+            T newValue = (T) value;
+
+            while (current != null && current.value.compareTo(newValue) < 0) {
+                Node following = current.link;
+                relinker.add((SkipNode) current);
+                current = following;
+            }
+            relinker.add(takeNode(newValue, randomHeight()));
+        }
+
+        while (current != null) {
+            Node following = current.link;
+            relinker.add((SkipNode) current);
+            current = following;
+        }
+
+        relinker.finish();
+    }
+
+    /**This method moves every value of otherList into this list and leaves
+     * otherList empty. The nodes of both lists are linked again in one pass,
+     * which costs O(n + m). Nodes of a skip list keep their towers, so no
+     * node is made when otherList is a SortedSkipList, and only the values
+     * of a plain SortedLinkedList get new nodes with towers
+     *
+     * @param otherList (sorted list whose values are moved into this one)
+     */
+    @Override
+    public void mergeFrom(SortedLinkedList<T> otherList) {
+        // checking for valid parameters
+        if (otherList == null)
+            throw new IllegalArgumentException("Value cannot be null");
+        if (otherList == this)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        Relinker relinker = new Relinker();
+        Node current = head.link;
+        Node incoming = otherList.elemCount == 0 ? null : otherList.head.link;
+
+        while (current != null || incoming != null) {
+            // values of this list that are not bigger stay in front
+            if (incoming == null || (current != null &&
+                    current.value.compareTo(incoming.value) <= 0)) {
+                Node following = current.link;
+                relinker.add((SkipNode) current);
+                current = following;
+            } else {
+                Node following = incoming.link;
+                relinker.add(incoming instanceof SortedSkipList<?>.SkipNode
+                        ? (SkipNode) incoming
+                        : takeNode(incoming.value, randomHeight()));
+                incoming = following;
+            }
+        }
+
+        relinker.finish();
+
+        // its nodes now belong to this list, so clear() must not pool them
+        otherList.head.link = null;
+        otherList.clear();
+    }
+
+    /**This method returns the number of values from fromValue to toValue
+     * in O(log n) time, from the number of values before each end
+     *
+     * @param fromValue (smallest value to count)
+     * @param toValue   (biggest value to count)
+     * @return number of values from fromValue to toValue
+     */
+    @Override
+    public int countInRange(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        return Math.max(0, countLess(toValue, true) - countLess(fromValue, false));
+    }
+
+    /**This method removes every value from fromValue to toValue. Every
+     * level is cut once, so this takes O(log n) time plus the number of
+     * values removed
+     *
+     * @param fromValue (smallest value to remove)
+     * @param toValue   (biggest value to remove)
+     * @return number of values removed
+     */
+    @Override
+    public int removeRange(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int first = countLess(fromValue, false) + 1;// positions start at 1
+        int last = countLess(toValue, true);
+
+        if (last >= first)
+            removePositions(first, last);
+
+        return Math.max(0, last - first + 1);
+    }
+
+    /**This method finds the last node before value by going down the
+     * towers, so floor(), ceiling() and range() take O(log n) time to find
+     * where they start
+     *
+     * @param value (value to look for)
+     * @param inclusive (true if nodes equal to value also count)
+     * @return last node before value, or head
+     */
+    @Override
+    protected Node lastBefore(T value, boolean inclusive) {
+        SkipNode current = skipHead();
+
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.forward[i] != null) {
+                int compared = current.forward[i].value.compareTo(value);
+
+                if (compared > 0 || (compared == 0 && !inclusive))
+                    break;
+                current = current.forward[i];
+            }
+        }
+
+        return current;
+    }
+
+    /**This method finds a node from its index using the widths of the
+     * links, so spliterators split in O(log n) time
+     *
+     * @param from (node to start from)
+     * @param fromIndex (index of from)
+     * @param steps (number of links to move forward)
+     * @return node at index fromIndex + steps
+     */
+    @Override
+    protected Node nodeAfter(Node from, int fromIndex, int steps) {
+        return nodeAt(fromIndex + steps + 1);
+    }
+
+    /*This is a private method that returns the number of values less than
+     * value, or less than or equal to it when inclusive is true. This is
+     * also the index of the first value that is not counted*/
+    private int countLess(T value, boolean inclusive) {
+        SkipNode current = skipHead();
+        int count = 0;
+
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.forward[i] != null) {
+                int compared = current.forward[i].value.compareTo(value);
+
+                if (compared > 0 || (compared == 0 && !inclusive))
+                    break;
+
+                count += current.width[i];
+                current = current.forward[i];
+            }
+        }
+
+        return count;
+    }
+
+    /*This is a private method that returns the node at position, where the
+     * first element is at position 1 and head is at position 0*/
+    private SkipNode nodeAt(int position) {
+        SkipNode current = skipHead();
+        int traversed = 0;
+
+        for (int i = level - 1; i >= 0 && traversed != position; i--) {
+            while (current.forward[i] != null &&
+                    traversed + current.width[i] <= position) {
+                traversed += current.width[i];
+                current = current.forward[i];
+            }
+        }
+
+        return current;
+    }
+
+    /*This is a private method that removes the nodes from position first to
+     * position last, both included. On every level the last node before
+     * first is linked to the first node after last*/
+    private void removePositions(int first, int last) {
+        int removed = last - first + 1;
+        SkipNode current = skipHead();
+        int rank = 0;
+        SkipNode firstRemoved = null;// removed nodes, found on level zero
+        SkipNode lastRemoved = null;
+
+        for (int i = level - 1; i >= 0; i--) {
+            // finding the last node before first on this level
+            while (current.forward[i] != null &&
+                    rank + current.width[i] < first) {
+                rank += current.width[i];
+                current = current.forward[i];
+            }
+
+            // skipping over every node that is removed
+            SkipNode after = current.forward[i];
+            int width = current.width[i];
+            if (i == 0)
+                firstRemoved = after;
+            while (after != null && rank + width <= last) {
+                width += after.width[i];
+                lastRemoved = after;
+                after = after.forward[i];
+            }
+
+            current.forward[i] = after;
+            current.width[i] = width - removed;
+        }
+
+        current.link = current.forward[0];
+        if (current.link == null)
+            tail = current;
+        recycle(firstRemoved, lastRemoved);
+
+        // levels that are empty now are no longer used
+        while (level > 1 && skipHead().forward[level - 1] == null)
+            level--;
+
+        elemCount -= removed;
+        positionsChanged();
+    }
+
+    /*This is a private class that links nodes again one after the other,
+     * in the order they are given, keeping the tower of every node. last
+     * holds the last node added on every level and lastRank its position,
+     * so every node is linked in O(height) time. The nodes must be read
+     * from their old links before they are added, since add() changes the
+     * link of the node before them*/
+    private class Relinker {
+        @SuppressWarnings("unchecked")
+        private final SkipNode[] last =
+                (SkipNode[]) new SortedSkipList<?>.SkipNode[MAX_LEVEL];
+        private final int[] lastRank = new int[MAX_LEVEL];
+        private int count;// number of nodes added
+        private int height = 1;// tallest tower added
+
+        private Relinker() {
+            Arrays.fill(last, skipHead());
+        }
+
+        /*adds node after the nodes added before it*/
+        private void add(SkipNode node) {
+            int nodeHeight = node.forward.length;
+
+            count++;
+            last[0].link = node;
+            for (int i = 0; i < nodeHeight; i++) {
+                last[i].forward[i] = node;
+                last[i].width[i] = count - lastRank[i];
+                last[i] = node;
+                lastRank[i] = count;
+            }
+
+            height = Math.max(height, nodeHeight);
+        }
+
+        /*ends every level after the last node added, which becomes the
+         * tail, so links left from before are cut*/
+        private void finish() {
+            for (int i = 0; i < MAX_LEVEL; i++) {
+                last[i].forward[i] = null;
+                last[i].width[i] = count + 1 - lastRank[i];
+            }
+
+            last[0].link = null;
+            tail = last[0];
+            elemCount = count;
+            level = height;
+            positionsChanged();
+        }
+    }
+
+    /*returns a node with value and a tower of height, taken from the pool
+     * if it has one of that height*/
+    private SkipNode takeNode(T value, int height) {
+        SkipNode node = pools[height - 1];
+
+        if (node == null) {
+            if (poolCapacity > 0)
+                poolMisses++;
+            return new SkipNode(value, height);
+        }
+
+        pools[height - 1] = (SkipNode) node.link;
+        pooled--;
+        poolHits++;
+
+        node.value = value;
+        node.link = null;
+        return node;
+    }
+
+    /*returns a height between 1 and MAX_LEVEL, where every level is four
+     * times less likely than the one below it*/
+    private static int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        int height = 1 + Integer.numberOfTrailingZeros(bits) / 2;
+
+        return Math.min(height, MAX_LEVEL);
+    }
+
+    private SkipNode skipHead() {
+        return (SkipNode) head;
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+/*This class is a linked list that stores up to CHUNK_SIZE elements in every
+ * node, in an array, instead of one. It has the same operations as
+ * LinkedList and keeps elements in the order they were added.
+ * A LinkedList node costs an object header, a value reference and a link
+ * for every element, and going from one element to the next means reading a
+ * new node that can be anywhere in memory. Here a node is one array of
+ * references read one after the other, so walking the list is mostly
+ * walking arrays, and there is one node header and link for every
+ * CHUNK_SIZE elements instead of one for each.
+ * After a removal, the node it happened in is merged with the nodes after
+ * it while they fit in one, so the memory saving does not disappear after
+ * many removals*/
+package Lists.LinkedList;
+
+public class UnrolledLinkedList<T extends Comparable<T>>
+        implements Comparable<UnrolledLinkedList<T>> {
+    /*number of elements a node can hold. 64 references fill a few cache
+     * lines, and keep shifting inside a node cheap*/
+    private static final int CHUNK_SIZE = 64;
+
+    private Chunk head;// first node, never null
+    private Chunk tail;// last node, where new elements are added
+    private int elemCount;// keeps track of size or number of elements
+
+    /*A node of the list. items[0] to items[count - 1] are the elements*/
+    private static final class Chunk {
+        private final Object[] items = new Object[CHUNK_SIZE];
+        private int count;// number of elements in this node
+        private Chunk link;// next node in the list
+    }
+
+    /**
+     * Default Constructor for the UnrolledLinkedList. It starts with one
+     * empty node, so head and tail are never null
+     */
+    public UnrolledLinkedList() {
+        clear();
+    }
+
+    /**
+     * This method adds newValue to the end of the list. A new node is only
+     * made when the last one is full
+     *
+     * @param newValue (Value to be added to the linked list)
+     */
+    public void insertion(T newValue) {
+        // checking if newValue is null and throwing an exception
+        if (newValue == null) {
+            throw new IllegalArgumentException("null values cannot be added");
+        }
+
+        if (tail.count == CHUNK_SIZE) {
+            tail.link = new Chunk();
+            tail = tail.link;
+        }
+
+        tail.items[tail.count++] = newValue;
+        elemCount++;
+    }
+
+    /**
+     * This method returns the number of elements in the list
+     *
+     * @return number of elements in the list
+     */
+    public int length() {
+        return elemCount;
+    }
+
+    /**
+     * This method returns the elements of the list with a space in between
+     * them, the same way LinkedList does
+     *
+     * @return String representation of current object
+     */
+    @Override
+    public String toString() {
+        StringBuilder printList = new StringBuilder();
+
+        for (Chunk current = head; current != null; current = current.link) {
+            for (int i = 0; i < current.count; i++) {
+                if (printList.length() > 0)
+                    printList.append(" ");
+                printList.append(current.items[i]);
+            }
+        }
+
+        return printList.toString();
+    }
+
+    /**
+     * This method removes all values from the list, leaving one empty node
+     */
+    public void clear() {
+        head = new Chunk();
+        tail = head;
+        elemCount = 0;
+    }
+
+    /**
+     * This method returns the number of times value is in the list, using
+     * compareTo() to check if values are the same
+     *
+     * @param value (Object to check to see if it exists )
+     * @return frequency (number of times that value appears in the list)
+     */
+    @SuppressWarnings("unchecked")
+    public int valueFrequency(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int frequency = 0;
+
+        for (Chunk current = head; current != null; current = current.link) {
+            Object[] items = current.items;
+
+            for (int i = 0; i < current.count; i++) {
+                if (((T) items[i]).compareTo(value) == 0)
+                    frequency++;
+            }
+        }
+
+        return frequency;
+    }
+
+    /**
+     * This method returns the index of the first occurrence of value, or -1
+     * if it is not present. The first element is at index 0
+     *
+     * @param value (The value to search for and find the position)
+     * @return Index (The index of value to be returned)
+     */
+    @SuppressWarnings("unchecked")
+    public int getIndex(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int index = -1;
+        int skipped = 0;// elements in the nodes already checked
+
+        for (Chunk current = head; current != null && index == -1;
+             current = current.link) {
+            for (int i = 0; i < current.count && index == -1; i++) {
+                if (((T) current.items[i]).compareTo(value) == 0)
+                    index = skipped + i;
+            }
+            skipped += current.count;
+        }
+
+        return index;
+    }
+
+    /**
+     * This method returns the value at index position. Whole nodes are
+     * skipped using their counts, so only one node in CHUNK_SIZE is read
+     *
+     * @param position (index of element to return)
+     * @return element that is at index "position"
+     */
+    @SuppressWarnings("unchecked")
+    public T valueAtIndex(int position) {
+        // checking if position can be a valid number to use.
+        if (position < 0 || position > length() - 1)
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        Chunk current = head;
+        while (position >= current.count) {
+            position -= current.count;
+            current = current.link;
+        }
+
+        return (T) current.items[position];
+    }
+
+    /**
+     * This method checks if value is in the list
+     *
+     * @param value (element to search for in the linked list)
+     * @return true if element is found
+     *          false otherwise.
+     */
+    public boolean search(T value) {
+        // checking for valid parameters
+        if (value == null)
+            throw new IllegalArgumentException();
+
+        return getIndex(value) != -1;
+    }
+
+    /**
+     * This method removes all the values from the first occurrence of
+     * fromValue to the first occurrence of toValue that comes at or after
+     * it, with fromValue and toValue included. Nothing is removed if either
+     * is not found
+     *
+     * @param fromValue (value to start removing from)
+     * @param toValue   (value to end removing)
+     */
+    @SuppressWarnings("unchecked")
+    public void removeFromTo(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        Chunk beforeBegin = null;// node before begin, null if begin is head
+        Chunk previous = null;// node before current
+        Chunk begin = null;// node holding fromValue
+        int beginOffset = -1;// position of fromValue in begin
+        Chunk end = null;// node holding toValue
+        int endOffset = -1;
+        int removed = 0;// elements from fromValue to toValue
+
+        for (Chunk current = head; current != null && end == null;
+             previous = current, current = current.link) {
+            for (int i = 0; i < current.count && end == null; i++) {
+                T value = (T) current.items[i];
+
+                if (begin == null && value.equals(fromValue)) {
+                    beforeBegin = previous;
+                    begin = current;
+                    beginOffset = i;
+                }
+                if (begin != null) {
+                    removed++;
+                    if (value.equals(toValue)) {
+                        end = current;
+                        endOffset = i;
+                    }
+                }
+            }
+        }
+
+        if (end == null)
+            return;// fromValue or toValue was not found
+
+        if (begin == end) {
+            // the range is inside one node, the rest of it moves down
+            shiftDown(begin, endOffset + 1, beginOffset);
+        } else {
+            // begin keeps what is before the range, end what is after it
+            clearFrom(begin, beginOffset);
+            shiftDown(end, endOffset + 1, 0);
+            begin.link = end;// the nodes in between are dropped
+        }
+
+        elemCount -= removed;
+        mergeWithNext(beforeBegin, begin);
+    }
+
+    /**
+     * This method removes every element with an odd index. The kept
+     * elements are moved down into as few nodes as possible in one pass,
+     * and the nodes left empty at the end are dropped
+     */
+    public void removeEveryOther() {
+        Chunk writer = head;// node the next kept element goes to
+        int written = 0;// elements in writer so far
+        int index = 0;// index of the element being read
+
+        for (Chunk reader = head; reader != null; reader = reader.link) {
+            int count = reader.count;
+
+            for (int i = 0; i < count; i++, index++) {
+                if (index % 2 == 0) {
+                    if (written == CHUNK_SIZE) {
+                        writer.count = written;
+                        writer = writer.link;// never ahead of reader
+                        written = 0;
+                    }
+                    writer.items[written++] = reader.items[i];
+                }
+            }
+        }
+
+        clearFrom(writer, written);
+        writer.link = null;
+        tail = writer;
+        elemCount = (elemCount + 1) / 2;
+    }
+
+    /**
+     * The compareTo() method compares two lists element by element, and
+     * returns the result of the first pair that is different. If one list
+     * runs out first, the shorter list is the smaller one. 0 is returned if
+     * both have the same elements in the same order
+     *
+     * @param otherList (list to compare against)
+     * @return result (negative, zero or positive)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int compareTo(UnrolledLinkedList<T> otherList) {
+        int result = 0;
+        Chunk current = head;
+        Chunk other = otherList.head;
+        int i = 0;
+        int j = 0;
+
+        while (result == 0 && current != null && other != null) {
+            if (i == current.count) {
+                current = current.link;
+                i = 0;
+            } else if (j == other.count) {
+                other = other.link;
+                j = 0;
+            } else {
+                result = Integer.signum(((T) current.items[i++])
+                        .compareTo((T) other.items[j++]));
+            }
+        }
+
+        if (result == 0)
+            result = Integer.compare(elemCount, otherList.elemCount);
+
+        return result;
+    }
+
+    /*moves the elements of chunk from position from onwards down to
+     * position to, and clears the slots left behind*/
+    private void shiftDown(Chunk chunk, int from, int to) {
+        int moved = chunk.count - from;
+
+        System.arraycopy(chunk.items, from, chunk.items, to, moved);
+        clearFrom(chunk, to + moved);
+    }
+
+    /*drops the elements of chunk from position onwards*/
+    private void clearFrom(Chunk chunk, int position) {
+        for (int i = position; i < chunk.count; i++)
+            chunk.items[i] = null;// lets the removed values be collected
+        chunk.count = position;
+    }
+
+    /*This is a private method that merges chunk and the node after it while
+     * both together fit in one node, and unlinks chunk from previous, the
+     * node before it, if it is still empty. Head is never unlinked, so the
+     * list always has a node. This keeps nodes from staying almost empty
+     * after removals*/
+    private void mergeWithNext(Chunk previous, Chunk chunk) {
+        Chunk next = chunk.link;
+
+        while (next != null && chunk.count + next.count <= CHUNK_SIZE) {
+            System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+            chunk.count += next.count;
+            chunk.link = next.link;
+            next = chunk.link;
+        }
+
+        if (chunk.count == 0 && previous != null) {
+            previous.link = chunk.link;
+            chunk = previous;// the node before it may now be the tail
+        }
+
+        if (chunk.link == null)
+            tail = chunk;
+    }
+}
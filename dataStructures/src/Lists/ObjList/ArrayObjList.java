@@ -0,0 +1,560 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.ObjList;
+
+/*This class has the same methods as ObjList, but keeps the objects in one
+array used as a ring, instead of a node for every object. The first object
+is at items[head], and the rest follow it, going back to items[0] after the
+last slot. Adding an object only writes one slot, so a list that is filled
+and emptied again and again does not make any garbage once the array is big
+enough, and going through the list reads the array in order.
+Because the end of the array joins its beginning, moving objects from the
+front of the list to the back does not copy them when the array is full, it
+only moves head. Otherwise only the shorter side of the list is moved, and
+moveLastToBegin() always moves one object.
+The length of the array is always a power of two, so finding the slot of an
+index is an and instead of a division*/
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ArrayObjList implements Iterable<Object> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] items;// slots of the ring, null when not in use
+    private int head;// slot of the first object
+    private int objCount;// counts number of objects in ArrayObjList
+    private int modCount;// changes whenever objects are added or removed
+
+    // iterator over the objects, from the first to the last
+    private class ArrayObjIterator implements Iterator<Object> {
+        private int next = 0;// index of the object next() returns
+        private int lastReturned = -1;// index of the last object returned
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < objCount;
+        }
+
+        @Override
+        public Object next() throws NoSuchElementException {
+            checkForModification();
+
+            if (next >= objCount)
+                throw new NoSuchElementException();
+
+            lastReturned = next++;
+            return items[slot(lastReturned)];
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            //next() must be called before every remove()
+            if (lastReturned == -1)
+                throw new IllegalStateException();
+            checkForModification();
+
+            removeRange(lastReturned, lastReturned + 1);
+            next = lastReturned;// the objects after it moved down by one
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForModification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**Default Constructor for the ArrayObjList, with room for 16 objects
+     * before the array grows*/
+    public ArrayObjList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**Constructor that makes room for at least capacity objects, so that
+     * adding that many objects never allocates
+     *
+     * @param capacity (number of objects to make room for)
+     */
+    public ArrayObjList(int capacity) {
+        // checking for valid parameters
+        if (capacity < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        int length = DEFAULT_CAPACITY;
+        while (length < capacity)
+            length <<= 1;
+
+        items = new Object[length];
+        head = 0;
+        objCount = 0;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new ArrayObjIterator();
+    }
+
+    /**This method returns a spliterator over the arrayObjList. It knows its
+     * exact size and splits in half without walking, since every index can
+     * be found directly
+     *
+     * @return spliterator over the arrayObjList
+     */
+    @Override
+    public Spliterator<Object> spliterator() {
+        return new RingSpliterator(0, objCount, modCount);
+    }
+
+    /**This method returns a sequential stream of the objects in the
+     * arrayObjList
+     *
+     * @return stream of the objects in order
+     */
+    public Stream<Object> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**This method returns a parallel stream of the objects in the
+     * arrayObjList
+     *
+     * @return parallel stream of the objects
+     */
+    public Stream<Object> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // spliterator over the objects from index origin up to, not including, fence
+    private class RingSpliterator implements Spliterator<Object> {
+        private int origin;// index of the next object to return
+        private final int fence;// index after the last object to return
+        private final int expectedModCount;
+
+        private RingSpliterator(int origin, int fence, int expectedModCount) {
+            this.origin = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            if (origin >= fence)
+                return false;
+
+            Object item = items[slot(origin++)];
+            checkForModification();
+            action.accept(item);
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Object> action) {
+            Object[] ring = items;
+            int mask = ring.length - 1;
+
+            for (int i = origin; i < fence; i++)
+                action.accept(ring[(head + i) & mask]);
+
+            origin = fence;
+            checkForModification();
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            int middle = (origin + fence) >>> 1;
+
+            if (middle <= origin)
+                return null;
+
+            RingSpliterator prefix = new RingSpliterator(origin, middle,
+                    expectedModCount);
+            origin = middle;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+        private void checkForModification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**This method appends newObject to the end of the arrayObjList. The
+     * array is only replaced, by one twice as long, when every slot is in use
+     *
+     * @param newObject (object to be added)
+     */
+    public void insertion(Object newObject) {
+        if (newObject == null)
+            throw new IllegalArgumentException("Object to be added, cannot be null");
+
+        if (objCount == items.length)
+            grow();
+
+        items[slot(objCount)] = newObject;
+        objCount++;// increase length because element is added
+        modCount++;
+    }
+
+    /**This method returns the number element that are present at anytime in
+     * the current arrayObjList
+     *
+     * @return length of arrayObjList
+     */
+    public int length() {
+        return objCount;
+    }
+
+    /**This method prints all the element in the current arrayObjList, with
+     * space between them, the same way ObjList does
+     *
+     * @return String representation of all element in the arrayObjList
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = 0; i < objCount; i++)
+            result.append(i > 0 ? " " : "").append(items[slot(i)]);
+
+        return result.toString();
+    }
+
+    /**This method is the same as the toString() method, only that it starts
+     * from the last element and prints backwards
+     *
+     * @return String representation of arrayObjList in reverse.
+     */
+    public String toStringReversal() {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = objCount - 1; i >= 0; i--)
+            result.append(i < objCount - 1 ? " " : "").append(items[slot(i)]);
+
+        return result.toString();
+    }
+
+    /**This method writes the same text as toString() to out, one element
+     * at a time, the same way ObjList does
+     *
+     * @param out (where the text is written)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeTo(Appendable out) throws IOException {
+        return writeTo(out, Integer.MAX_VALUE);
+    }
+
+    /**This method writes the first limit elements to out
+     *
+     * @param out   (where the text is written)
+     * @param limit (most elements to write)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeTo(Appendable out, int limit) throws IOException {
+        return write(out, limit, false);
+    }
+
+    /**This method writes the same text as toStringReversal() to out, one
+     * element at a time
+     *
+     * @param out (where the text is written)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeReversedTo(Appendable out) throws IOException {
+        return writeReversedTo(out, Integer.MAX_VALUE);
+    }
+
+    /**This method writes the last limit elements to out, starting from the
+     * last one
+     *
+     * @param out   (where the text is written)
+     * @param limit (most elements to write)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeReversedTo(Appendable out, int limit) throws IOException {
+        return write(out, limit, true);
+    }
+
+    /**This method writes the first limit elements to channel as UTF-8,
+     * through one 8 KB buffer. The channel is not closed
+     *
+     * @param channel (where the text is written, such as a file or socket)
+     * @param limit   (most elements to write)
+     * @return number of elements written
+     * @throws IOException if channel fails
+     */
+    public int writeTo(WritableByteChannel channel, int limit)
+            throws IOException {
+        return writeToChannel(channel, limit, false);
+    }
+
+    /**This method writes the last limit elements to channel as UTF-8,
+     * starting from the last one, through one 8 KB buffer. The channel is
+     * not closed
+     *
+     * @param channel (where the text is written, such as a file or socket)
+     * @param limit   (most elements to write)
+     * @return number of elements written
+     * @throws IOException if channel fails
+     */
+    public int writeReversedTo(WritableByteChannel channel, int limit)
+            throws IOException {
+        return writeToChannel(channel, limit, true);
+    }
+
+    /*writes up to limit elements to out with spaces between them, from the
+     * first forwards or from the last backwards*/
+    private int write(Appendable out, int limit, boolean reversed)
+            throws IOException {
+        // checking for valid parameters
+        if (out == null)
+            throw new IllegalArgumentException("Invalid object detected");
+        if (limit < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        int count = Math.min(limit, objCount);
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0)
+                out.append(' ');
+            out.append(String.valueOf(items[slot(reversed ? objCount - 1 - i : i)]));
+        }
+
+        return count;
+    }
+
+    /*writes to channel through an encoding writer that is flushed, but not
+     * closed, since closing it would close the channel*/
+    private int writeToChannel(WritableByteChannel channel, int limit,
+                               boolean reversed) throws IOException {
+        // checking for valid parameters
+        if (channel == null)
+            throw new IllegalArgumentException("Invalid object detected");
+
+        Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8);
+        int written = write(out, limit, reversed);
+        out.flush();
+
+        return written;
+    }
+
+    /**
+     * This method removes every element that is greater than the parameter
+     * boundary, leaving the rest in the same order, the same way ObjList
+     * does. The elements that are kept are moved down over the removed ones
+     * in a single pass. All the elements must be integers. If one is not,
+     * ClassCastException is thrown, and the list keeps the elements removed
+     * before it, and every element from it onwards
+     *
+     * @param boundary parameter to compare and serve as filter
+     */
+    public void intFilter(int boundary) {
+        int kept = 0;// elements kept so far
+        int scanned = 0;// elements looked at so far
+
+        try {
+            for (; scanned < objCount; scanned++) {
+                Object item = items[slot(scanned)];
+
+                if ((Integer) item <= boundary)
+                    items[slot(kept++)] = item;
+            }
+        } finally {
+            // after an exception, the elements not looked at yet are moved
+            // down behind the kept ones, so none is lost or repeated
+            int count = kept;
+            for (int i = scanned; i < objCount; i++)
+                items[slot(count++)] = items[slot(i)];
+
+            if (count < objCount) {
+                clearSlots(count, objCount);
+                objCount = count;
+                modCount++;
+            }
+        }
+    }
+
+    /**
+     * This method makes the element at index numNodes the new head of the
+     * list, and moves all the elements before it to the back, keeping their
+     * order, the same way ObjList does. When the array is full, only head
+     * moves. Otherwise the shorter of the two parts is moved across the
+     * empty slots. This method uses zero indexing
+     *
+     * @param numNodes (The index at which to make the new head of the list)
+     */
+    public void makeNewList(int numNodes) {
+        // must be a valid position in arrayObjList to change the head
+        if (numNodes > 0 && numNodes < objCount)
+            rotate(numNodes);
+    }
+
+    /**This method moves the last element to the beginning. Only that one
+     * element is moved*/
+    public void moveLastToBegin() {
+        if (objCount > 1)
+            rotate(objCount - 1);
+    }
+
+    /**
+     * This method removes the elements from the first occurrence of x up to
+     * the first occurrence of y at or after it, both included, the same way
+     * ObjList does. If x and y are equal, only that element is removed.
+     * Nothing is removed if either is not found. The shorter side of the
+     * list is moved to close the gap
+     *
+     * @param x (position to begin removing)
+     * @param y (position to stop removing)
+     */
+    public void removeFromTo(Object x, Object y) {
+        // checking for valid parameters
+        if (x == null || y == null)
+            throw new IllegalArgumentException("Invalid object detected");
+
+        int begin = 0;
+        while (begin < objCount && !items[slot(begin)].equals(x))
+            begin++;
+
+        int end = begin;
+        while (end < objCount && !items[slot(end)].equals(y))
+            end++;
+
+        // both positions must be found to be able to do any kind of removal
+        if (end < objCount)
+            removeRange(begin, end + 1);
+    }
+
+    /**This method clears the arrayObjList and removes every element in it.
+     * The slots are set to null so the objects can be collected, and the
+     * array is kept for the next insertions
+     */
+    public void clear() {
+        clearSlots(0, objCount);
+        head = 0;
+        objCount = 0;// resets length of current arrayObjList
+        modCount++;
+    }
+
+    /**This method searches the entire current arrayObjList for the
+     * parameter, "value". If value is found, true is returned, otherwise,
+     * false is returned
+     *
+     * @param value (object to search for in current arrayObjList)
+     * @return true if object is found
+     *          false otherwise
+     */
+    public boolean search(Object value) {
+        boolean found = false;
+
+        for (int i = 0; i < objCount && !found; i++)
+            found = items[slot(i)].equals(value);
+
+        return found;
+    }
+
+    /*returns the slot of the element at index*/
+    private int slot(int index) {
+        return (head + index) & (items.length - 1);
+    }
+
+    /*This is a private method that moves the first count elements to the
+     * back, keeping the order of both parts. When the array is full the
+     * back of the list is just before head, so moving head is enough*/
+    private void rotate(int count) {
+        int mask = items.length - 1;
+
+        if (objCount == items.length) {
+            head = (head + count) & mask;
+        } else if (count <= objCount - count) {
+            // moving the front part to the free slots after the last element
+            for (int i = 0; i < count; i++) {
+                items[slot(objCount)] = items[head];
+                items[head] = null;
+                head = (head + 1) & mask;
+            }
+        } else {
+            // moving the back part to the free slots before head
+            for (int i = count; i < objCount; i++) {
+                int last = slot(objCount - 1);
+
+                head = (head - 1) & mask;
+                items[head] = items[last];
+                items[last] = null;
+            }
+        }
+
+        modCount++;
+    }
+
+    /*This is a private method that removes the elements from index from up
+     * to, not including, index to. The elements before from are moved up
+     * when there are fewer of them than after to, otherwise the elements
+     * after to are moved down*/
+    private void removeRange(int from, int to) {
+        int removed = to - from;
+
+        if (from < objCount - to) {
+            for (int i = from - 1; i >= 0; i--)
+                items[slot(i + removed)] = items[slot(i)];
+
+            clearSlots(0, removed);
+            head = slot(removed);
+        } else {
+            for (int i = to; i < objCount; i++)
+                items[slot(i - removed)] = items[slot(i)];
+
+            clearSlots(objCount - removed, objCount);
+        }
+
+        objCount -= removed;
+        modCount++;
+    }
+
+    /*sets the slots of the elements from index from up to, not including,
+     * index to, to null so the objects can be collected*/
+    private void clearSlots(int from, int to) {
+        for (int i = from; i < to; i++)
+            items[slot(i)] = null;
+    }
+
+    /*replaces the array with one twice as long, with head at slot 0*/
+    private void grow() {
+        Object[] larger = new Object[items.length << 1];
+        int front = items.length - head;// elements from head to the end
+
+        System.arraycopy(items, head, larger, 0, front);
+        System.arraycopy(items, 0, larger, front, head);
+
+        items = larger;
+        head = 0;
+    }
+}
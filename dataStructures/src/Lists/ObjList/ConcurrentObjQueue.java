@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.ObjList;
+
+/*This class is a queue of objects that many threads can add to and take from
+ * at the same time without locks. It is the queue of Michael and Scott: a
+ * singly linked list with a dummy node at the head, like LinkedList, where
+ * head and tail are only changed with compareAndSet().
+ * insertion() links the new node after the last node with compareAndSet() on
+ * its link, which is the moment the object is in the queue, then tries to
+ * move tail to it. poll() moves head to the node after it with
+ * compareAndSet(), and that node becomes the new dummy. tail may be one node
+ * behind for a moment, so any thread that finds it behind moves it forward
+ * before doing anything else, and no thread ever waits for another one.
+ * A node that leaves the queue is linked to itself, so it does not keep the
+ * nodes after it alive, and an iterator that finds such a node starts again
+ * from head. Iterating, toString() and length() are weakly consistent: they
+ * never throw ConcurrentModificationException, they see every object that
+ * was in the queue for the whole walk, and may or may not see objects added
+ * or taken during it. length() walks the whole queue.
+ * The links of the nodes are changed through field updaters, so a node is
+ * only one object and not one object and an AtomicReference*/
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+public class ConcurrentObjQueue implements Iterable<Object> {
+
+    // private inner Node class. data is null only in the dummy node
+    private static final class Node {
+        private volatile Object data;// stores actual content of data
+        private volatile Node link;// next node, or the node itself once taken
+
+        private Node(Object data) {
+            this.data = data;
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater<Node, Node> LINK =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "link");
+    private static final AtomicReferenceFieldUpdater<ConcurrentObjQueue, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentObjQueue.class,
+                    Node.class, "head");
+    private static final AtomicReferenceFieldUpdater<ConcurrentObjQueue, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentObjQueue.class,
+                    Node.class, "tail");
+
+    private volatile Node head;// dummy node, before the first object
+    private volatile Node tail;// last node, or one node before it
+
+    /**Default Constructor for the ConcurrentObjQueue. Head and tail are the
+     * same dummy node*/
+    public ConcurrentObjQueue() {
+        head = tail = new Node(null);
+    }
+
+    /**
+     * This method adds newObject to the end of the queue. It can be called
+     * by many threads at the same time
+     *
+     * @param newObject (Object to be added to the queue)
+     */
+    public void insertion(Object newObject) {
+        if (newObject == null)
+            throw new IllegalArgumentException("Object to be added, cannot be null");
+
+        Node newNode = new Node(newObject);
+
+        while (true) {
+            Node last = tail;
+            Node next = last.link;
+
+            if (last != tail)
+                continue;// tail moved while it was read
+
+            if (next == null) {
+                // the object is in the queue once this succeeds
+                if (LINK.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);
+                    return;
+                }
+            } else {
+                // tail is behind, so it is moved forward first
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * This method takes the first object out of the queue and returns it,
+     * or returns null if the queue is empty. It can be called by many
+     * threads at the same time, and every object is returned only once
+     *
+     * @return first object of the queue, or null
+     */
+    public Object poll() {
+        while (true) {
+            Node first = head;
+            Node last = tail;
+            Node next = first.link;
+
+            if (first != head)
+                continue;// head moved while it was read
+
+            if (next == null)
+                return null;
+
+            if (first == last) {
+                // tail is behind the object that is about to be taken
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+
+            // the data is read before head moves, since the node that
+            // becomes the dummy no longer keeps it afterwards
+            Object data = next.data;
+            if (HEAD.compareAndSet(this, first, next)) {
+                next.data = null;
+                LINK.lazySet(first, first);
+                return data;
+            }
+        }
+    }
+
+    /**
+     * This method returns the first object of the queue without taking it
+     * out, or null if the queue is empty
+     *
+     * @return first object of the queue, or null
+     */
+    public Object peek() {
+        while (true) {
+            Node current = first();
+
+            if (current == null)
+                return null;
+
+            Object data = current.data;
+            if (data != null)
+                return data;
+        }
+    }
+
+    /**
+     * This method checks if the queue has no objects
+     *
+     * @return true if there is no object in the queue
+     *          false otherwise.
+     */
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    /**This method returns the number of objects in the queue. It walks the
+     * whole queue, so it takes longer the more objects there are, and the
+     * number can be out of date by the time it is returned
+     *
+     * @return length of the queue
+     */
+    public int length() {
+        int count = 0;
+
+        for (Node current = withData(first()); current != null;
+             current = withData(successor(current))) {
+            if (++count == Integer.MAX_VALUE)
+                break;
+        }
+
+        return count;
+    }
+
+    /**This method returns a weakly consistent iterator over the objects of
+     * the queue, from the first to the last. remove() is not supported,
+     * objects only leave through poll()
+     *
+     * @return iterator over the queue
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            // node next() returns, and its data, read when it was found so
+            // hasNext() and next() always agree
+            private Node nextNode;
+            private Object nextData;
+
+            {
+                advance(first());
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public Object next() {
+                if (nextNode == null)
+                    throw new NoSuchElementException();
+
+                Object data = nextData;
+                advance(successor(nextNode));
+
+                return data;
+            }
+
+            // moves to the first node from current onwards that has data,
+            // skipping objects taken in the meantime
+            private void advance(Node current) {
+                for (nextNode = current; nextNode != null;
+                     nextNode = successor(nextNode)) {
+                    nextData = nextNode.data;
+                    if (nextData != null)
+                        return;
+                }
+            }
+        };
+    }
+
+    /**This method prints all the objects of the queue, with a space between
+     * them, the same way ObjList does
+     *
+     * @return String representation of the queue
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        for (Object data : this)
+            result.append(result.length() > 0 ? " " : "").append(data);
+
+        return result.toString();
+    }
+
+    /*returns the first node after the dummy, or null if there is none. Its
+     * data can already be null if it was taken in the meantime*/
+    private Node first() {
+        while (true) {
+            Node first = head;
+            Node next = first.link;
+
+            // a dummy linked to itself was taken after head was read
+            if (next != first)
+                return next;
+        }
+    }
+
+    /*returns the first node from current onwards that still has its data*/
+    private Node withData(Node current) {
+        while (current != null && current.data == null)
+            current = successor(current);
+
+        return current;
+    }
+
+    /*returns the node after current, or the first node if current has
+     * already been taken*/
+    private Node successor(Node current) {
+        Node next = current.link;
+
+        return next == current ? first() : next;
+    }
+}
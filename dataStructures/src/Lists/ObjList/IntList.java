@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.ObjList;
+
+/*This class is a list of int values kept in one int array, for the places
+where ObjList is only used to hold integers. ObjList.intFilter() has to
+cast every object to Integer and unbox it, fails on anything that is not an
+Integer, and unlinks the nodes one at a time. Here the values are never
+boxed, and filtering is done in one pass over the array.
+The filtering methods compact the array in place without branching on the
+result: every value is written to the next free position, and that
+position only moves forward when the value is kept. The loop is the same
+for every value, so it does not depend on the processor guessing which
+values are kept. The loop is not turned into vector instructions, since
+the position every value is written to depends on the values before it*/
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+public class IntList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;// values[0] to values[count - 1] are the list
+    private int count;// number of values in the list
+
+    /**Default Constructor for the IntList, with room for 16 values before
+     * the array grows*/
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**Constructor that makes room for capacity values, so that adding that
+     * many values never allocates
+     *
+     * @param capacity (number of values to make room for)
+     */
+    public IntList(int capacity) {
+        // checking for valid parameters
+        if (capacity < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        values = new int[capacity];
+        count = 0;
+    }
+
+    /**This method adds newValue to the end of the intList
+     *
+     * @param newValue (value to be added)
+     */
+    public void insertion(int newValue) {
+        if (count == values.length)
+            values = Arrays.copyOf(values,
+                    Math.max(DEFAULT_CAPACITY, count + (count >> 1)));
+
+        values[count++] = newValue;
+    }
+
+    /**This method returns the number of values in the intList
+     *
+     * @return length of intList
+     */
+    public int length() {
+        return count;
+    }
+
+    /**This method returns the value at index position
+     *
+     * @param position (index of value to return)
+     * @return value that is at index "position"
+     */
+    public int valueAtIndex(int position) {
+        // checking if position can be a valid number to use.
+        if (position < 0 || position > count - 1)
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        return values[position];
+    }
+
+    /**This method searches the intList for value
+     *
+     * @param value (value to search for)
+     * @return true if value is found
+     *          false otherwise
+     */
+    public boolean search(int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**This method removes every value from the intList. The array is kept
+     * for the next insertions*/
+    public void clear() {
+        count = 0;
+    }
+
+    /**This method prints all the values in the intList with space between
+     * them, the same way ObjList does
+     *
+     * @return String representation of all values in the intList
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = 0; i < count; i++)
+            result.append(i > 0 ? " " : "").append(values[i]);
+
+        return result.toString();
+    }
+
+    /**This method is the same as the toString() method, only that it prints
+     * backwards
+     *
+     * @return String representation of intList in reverse.
+     */
+    public String toStringReversal() {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = count - 1; i >= 0; i--)
+            result.append(i < count - 1 ? " " : "").append(values[i]);
+
+        return result.toString();
+    }
+
+    /**This method returns a copy of the values in the intList
+     *
+     * @return array holding the values in order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, count);
+    }
+
+    /**This method returns a stream of the values in the intList
+     *
+     * @return stream of the values in order
+     */
+    public IntStream stream() {
+        return Arrays.stream(values, 0, count);
+    }
+
+    /**
+     * This method removes every value that is greater than boundary, leaving
+     * the rest in the same order, the same way ObjList.intFilter() does.
+     * Whether a value is kept is worked out with arithmetic instead of an if
+     * statement, so the loop has no branch that depends on the values
+     *
+     * @param boundary parameter to compare and serve as filter
+     */
+    public void intFilter(int boundary) {
+        int[] array = values;
+        int kept = 0;
+
+        for (int i = 0; i < count; i++) {
+            int value = array[i];
+
+            array[kept] = value;
+            // 1 when value <= boundary, taken from the sign of value - boundary - 1
+            kept += (int) (((long) value - boundary - 1) >>> 63);
+        }
+
+        count = kept;
+    }
+
+    /**This method returns a new intList holding the values that match
+     * condition, in the same order. This intList is not changed
+     *
+     * @param condition (test a value must pass to be in the result)
+     * @return intList of the values that match condition
+     */
+    public IntList filter(IntPredicate condition) {
+        // checking for valid parameters
+        if (condition == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        int[] array = values;
+        int[] result = new int[count];
+        int kept = 0;
+
+        for (int i = 0; i < count; i++) {
+            int value = array[i];
+
+            result[kept] = value;
+            kept += condition.test(value) ? 1 : 0;
+        }
+
+        IntList filtered = new IntList(0);
+        filtered.values = kept < count ? Arrays.copyOf(result, kept) : result;
+        filtered.count = kept;
+
+        return filtered;
+    }
+
+    /**This method removes every value that matches condition, leaving the
+     * rest in the same order. The kept values are moved down over the
+     * removed ones in a single pass
+     *
+     * @param condition (test a value must pass to be removed)
+     * @return number of values removed
+     */
+    public int removeIf(IntPredicate condition) {
+        // checking for valid parameters
+        if (condition == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        int[] array = values;
+        int kept = 0;
+
+        for (int i = 0; i < count; i++) {
+            int value = array[i];
+
+            array[kept] = value;
+            kept += condition.test(value) ? 0 : 1;
+        }
+
+        int removed = count - kept;
+        count = kept;
+
+        return removed;
+    }
+
+    /**This method moves every value that matches condition to the front of
+     * the intList, and the others after them. Both parts keep the order
+     * they had. Every value is written to both parts, and only the position
+     * of the part it belongs to moves forward
+     *
+     * @param condition (test a value must pass to be in the front part)
+     * @return number of values that match, which is the index where the
+     *          second part starts
+     */
+    public int partition(IntPredicate condition) {
+        // checking for valid parameters
+        if (condition == null)
+            throw new IllegalArgumentException("Null value detected");
+
+        int[] array = values;
+        int[] rejected = new int[count];// values of the second part
+        int matched = 0;
+        int others = 0;
+
+        for (int i = 0; i < count; i++) {
+            int value = array[i];
+            int match = condition.test(value) ? 1 : 0;
+
+            array[matched] = value;
+            rejected[others] = value;
+            matched += match;
+            others += 1 - match;
+        }
+
+        System.arraycopy(rejected, 0, array, matched, others);
+
+        return matched;
+    }
+}
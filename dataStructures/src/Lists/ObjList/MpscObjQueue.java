@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.ObjList;
+
+/*This class is a queue of objects that many threads can add to at the same
+ * time, but only one thread takes from. It is the queue of Dmitry Vyukov.
+ * When there is only one consumer, taking an object needs no compareAndSet()
+ * at all, and adding one needs a single getAndSet() on tail, which never
+ * fails and never has to be tried again, so it is cheaper than
+ * ConcurrentObjQueue when many producers feed one worker.
+ * insertion() swaps the new node into tail, then links the node that was
+ * tail before to it. Between these two steps the new node is not reachable
+ * from head yet, so poll() can return null for a moment although an object
+ * was added, and objects added after it are not reachable either until the
+ * link is made. poll() only moves head, which no other thread changes.
+ * Only one thread may call poll() and peek(), or they have to be guarded by
+ * a lock. Any thread can add and iterate. Iterating, toString() and length()
+ * are weakly consistent: they never throw ConcurrentModificationException,
+ * they see every object that was in the queue for the whole walk, and may or
+ * may not see objects added or taken during it*/
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+public class MpscObjQueue implements Iterable<Object> {
+
+    // private inner Node class. data is null only in the dummy node
+    private static final class Node {
+        private volatile Object data;// stores actual content of data
+        private volatile Node link;// next node
+
+        private Node(Object data) {
+            this.data = data;
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater<Node, Node> LINK =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "link");
+    private static final AtomicReferenceFieldUpdater<MpscObjQueue, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(MpscObjQueue.class,
+                    Node.class, "tail");
+
+    private volatile Node head;// dummy node, only changed by the consumer
+    private volatile Node tail;// last node added
+
+    /**Default Constructor for the MpscObjQueue. Head and tail are the same
+     * dummy node*/
+    public MpscObjQueue() {
+        head = tail = new Node(null);
+    }
+
+    /**
+     * This method adds newObject to the end of the queue. It can be called
+     * by many threads at the same time
+     *
+     * @param newObject (Object to be added to the queue)
+     */
+    public void insertion(Object newObject) {
+        if (newObject == null)
+            throw new IllegalArgumentException("Object to be added, cannot be null");
+
+        Node newNode = new Node(newObject);
+        Node previous = TAIL.getAndSet(this, newNode);
+
+        // the node is reachable from head from here on
+        LINK.lazySet(previous, newNode);
+    }
+
+    /**
+     * This method takes the first object out of the queue and returns it,
+     * or returns null if the queue is empty or the first object is still
+     * being linked. Only the consumer thread may call it
+     *
+     * @return first object of the queue, or null
+     */
+    public Object poll() {
+        Node first = head;
+        Node next = first.link;
+
+        if (next == null)
+            return null;
+
+        // next becomes the dummy, and gives its data to the caller
+        Object data = next.data;
+        next.data = null;
+        head = next;
+
+        return data;
+    }
+
+    /**
+     * This method returns the first object of the queue without taking it
+     * out, or null if there is none. Only the consumer thread may call it
+     *
+     * @return first object of the queue, or null
+     */
+    public Object peek() {
+        Node next = head.link;
+
+        return next == null ? null : next.data;
+    }
+
+    /**
+     * This method checks if the queue has no objects. An object that is
+     * still being linked is not counted
+     *
+     * @return true if there is no object in the queue
+     *          false otherwise.
+     */
+    public boolean isEmpty() {
+        return head.link == null;
+    }
+
+    /**This method returns the number of objects in the queue. It walks the
+     * whole queue, so it takes longer the more objects there are, and the
+     * number can be out of date by the time it is returned
+     *
+     * @return length of the queue
+     */
+    public int length() {
+        int count = 0;
+
+        for (Node current = head.link; current != null; current = current.link) {
+            if (current.data != null && ++count == Integer.MAX_VALUE)
+                break;
+        }
+
+        return count;
+    }
+
+    /**This method returns a weakly consistent iterator over the objects of
+     * the queue, from the first to the last. remove() is not supported,
+     * objects only leave through poll()
+     *
+     * @return iterator over the queue
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            // node next() returns, and its data, read when it was found so
+            // hasNext() and next() always agree
+            private Node nextNode;
+            private Object nextData;
+
+            {
+                advance(head.link);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public Object next() {
+                if (nextNode == null)
+                    throw new NoSuchElementException();
+
+                Object data = nextData;
+                advance(nextNode.link);
+
+                return data;
+            }
+
+            // moves to the first node from current onwards that has data.
+            // Nodes the consumer has taken still link forward, so a walk
+            // that falls behind head only skips them
+            private void advance(Node current) {
+                for (nextNode = current; nextNode != null;
+                     nextNode = nextNode.link) {
+                    nextData = nextNode.data;
+                    if (nextData != null)
+                        return;
+                }
+            }
+        };
+    }
+
+    /**This method prints all the objects of the queue, with a space between
+     * them, the same way ObjList does
+     *
+     * @return String representation of the queue
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        for (Object data : this)
+            result.append(result.length() > 0 ? " " : "").append(data);
+
+        return result.toString();
+    }
+}
@@ -13,9 +13,21 @@ stacks, etc. The implementation of ObjList is much similar to linked-list.
 An understanding of Linked List is necessary  in order to understand how this
 class functions*/
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;// This exception class is used in
 // iterator for next method
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 // ObjList class implements iterable
 public class ObjList implements Iterable<Object> {
@@ -31,75 +43,49 @@ public class ObjList implements Iterable<Object> {
     }
 
     // implementing the iterator interface which is a requirement after
-    // implementing iterable
+    // implementing iterable. Since every node knows the node before it,
+    // remove() unlinks the last returned node directly, and any other
+    // change to the objList makes next() and remove() throw
     private class linkedObjectList implements Iterator<Object> {
-        private Node current = head;// current points to first node in
-        // objectList
-        private Node prev = null;// prev points to node before current
-        private Node prev2 = null;// prev2 points to node before prev
-        private boolean nextCalled = false;// boolean to make sure next() is
-        // called before remove()
+        private Node current = head;// node next() returns
+        private Node lastReturned = null;// node remove() takes out, if any
+        private int expectedModCount = modCount;// modCount when last in step
 
         @Override
         public boolean hasNext() {
-            boolean status = false;
-
-            // checks if first node is not empty, and checks if current node is
-            // not at the end of list
-            if (current != null && head != null) {
-                status = true; // status is set to true
-            }
-
-            //if current node is not null, it returns the state of the node
-            // after current and quits immediately
-            else if (current != null)
-                return current.link != null;
-
-            return status;
+            return current != null;
         }
 
         @Override
         public Object next() throws NoSuchElementException {
-            Object currentElem;// This returns the data of current element
+            checkForModification();
 
             //Condition that takes care of when current is null
             if (current == null) {
                 throw new NoSuchElementException();
             }
 
-            currentElem = current.data;// stores the data of the current element
-            prev2 = prev; // Node before previous is set to previous
-            prev = current;// previous is set to current
+            lastReturned = current;
             current = current.link;//current. to next element in objectList
 
-            nextCalled = true;// if nextCalled is false, means link() wasn't
-            // called
-            return currentElem;
+            return lastReturned.data;
         }
 
-
         @Override
         public void remove() throws IllegalStateException {
-            if (prev == null || !nextCalled)
+            // next() must be called before every remove()
+            if (lastReturned == null)
                 throw new IllegalStateException();
+            checkForModification();
 
-                //Makes sure that first element is removed
-            else if (prev == head) {
-                head = head.link;//moves head to the next position
-                if (head != null)//makes sure that prev is set correctly
-                    head.prev = null;
-            } else //removes element at any position current is
-            {
-                prev2.link = current;
-                prev = prev2;
-
-                //checks if current is valid and legal before updating its previous
-                if (current != null)
-                    current.prev = prev2;
-            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;// this change was made by the iterator
+        }
 
-            objCount--;//reducing the number of object present because it is removed
-            nextCalled = false;//changes this to make sure next() is called properly
+        private void checkForModification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
         }
     }
 
@@ -107,6 +93,16 @@ public class ObjList implements Iterable<Object> {
     private Node tail;
     private int objCount;// counts number of objects in ObjList. i.e.
     // length
+    private int modCount;// changes whenever the objList is changed
+
+    /*optional pool of removed nodes, chained through link. insertion()
+    takes nodes from it before making new ones, so a list that is filled
+    and cleared in a loop keeps reusing the same nodes*/
+    private Node pool;// first pooled node, or null
+    private int pooled;// number of nodes in the pool
+    private int poolCapacity;// most nodes the pool keeps, 0 when off
+    private long poolHits;// nodes taken from the pool
+    private long poolMisses;// nodes made because the pool was empty
 
 
     public ObjList() {
@@ -119,6 +115,112 @@ public class ObjList implements Iterable<Object> {
         return new linkedObjectList();
     }
 
+    /**This method returns a spliterator over the objList. It knows its exact
+     * size and splits in half, by walking to the middle of the part being
+     * split. Parts smaller than 2048 objects are not split, so the walking
+     * is small next to the work done on the objects
+     *
+     * @return spliterator over the objList
+     */
+    @Override
+    public Spliterator<Object> spliterator() {
+        return new ObjSpliterator(head, objCount, modCount);
+    }
+
+    /**This method returns a sequential stream of the objects in the objList
+     *
+     * @return stream of the objects in order
+     */
+    public Stream<Object> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**This method returns a parallel stream of the objects in the objList
+     *
+     * @return parallel stream of the objects
+     */
+    public Stream<Object> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // spliterator over remaining nodes, starting at first. Like the
+    // iterator, it throws ConcurrentModificationException before handing
+    // out an object once the objList was changed
+    private class ObjSpliterator implements Spliterator<Object> {
+        private static final int MIN_SPLIT = 1 << 10;// smallest part to split
+
+        private Node first;// next node to return
+        private int remaining;// number of nodes left to return
+        private final int expectedModCount;// modCount when it was made
+
+        private ObjSpliterator(Node first, int remaining, int expectedModCount) {
+            this.first = first;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            Objects.requireNonNull(action);// required by Spliterator
+            if (remaining == 0)
+                return false;
+            checkForModification();
+
+            Object data = first.data;
+            first = first.link;
+            remaining--;
+            action.accept(data);
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Object> action) {
+            Objects.requireNonNull(action);
+            Node current = first;
+
+            for (int i = 0; i < remaining; i++) {
+                checkForModification();
+                action.accept(current.data);
+                current = current.link;
+            }
+
+            first = current;
+            remaining = 0;
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            if (remaining < MIN_SPLIT * 2)
+                return null;
+
+            int half = remaining / 2;// nodes given to the new spliterator
+            ObjSpliterator prefix = new ObjSpliterator(first, half,
+                    expectedModCount);
+
+            for (int i = 0; i < half; i++)
+                first = first.link;
+            remaining -= half;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+        private void checkForModification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
     // appends newObject to the doubly nested list of objects being stored,
     // but just does nothing if newObject is null
     public void insertion(Object newObject) {
@@ -129,7 +231,7 @@ public class ObjList implements Iterable<Object> {
 
         else
         {
-            newNode = new Node();
+            newNode = takeNode();
             newNode.data = newObject;
 
             newNode.prev = tail;// Node before is set to tail
@@ -144,6 +246,7 @@ public class ObjList implements Iterable<Object> {
             tail = newNode;
 
             objCount++;// increase length because element is added
+            modCount++;
         }
     }
 
@@ -197,6 +300,121 @@ public class ObjList implements Iterable<Object> {
         return result.toString();
     }
 
+    /**This method writes the same text as toString() to out, one element
+     * at a time, so the whole text is never held in memory. out should be
+     * buffered, such as a BufferedWriter or a StringBuilder
+     *
+     * @param out (where the text is written)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeTo(Appendable out) throws IOException {
+        return writeTo(out, Integer.MAX_VALUE);
+    }
+
+    /**This method writes the first limit elements to out, the same way
+     * writeTo(out) does. Every element is written if there are fewer
+     *
+     * @param out   (where the text is written)
+     * @param limit (most elements to write)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeTo(Appendable out, int limit) throws IOException {
+        return write(out, limit, false);
+    }
+
+    /**This method writes the same text as toStringReversal() to out, one
+     * element at a time, starting from the last element
+     *
+     * @param out (where the text is written)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeReversedTo(Appendable out) throws IOException {
+        return writeReversedTo(out, Integer.MAX_VALUE);
+    }
+
+    /**This method writes the last limit elements to out, starting from the
+     * last one, the same way writeReversedTo(out) does
+     *
+     * @param out   (where the text is written)
+     * @param limit (most elements to write)
+     * @return number of elements written
+     * @throws IOException if out fails
+     */
+    public int writeReversedTo(Appendable out, int limit) throws IOException {
+        return write(out, limit, true);
+    }
+
+    /**This method writes the same text as toString() to channel as UTF-8.
+     * The text goes through one 8 KB buffer that is written to the channel
+     * whenever it is full, so memory use does not depend on the length of
+     * the objList. The channel is not closed
+     *
+     * @param channel (where the text is written, such as a file or socket)
+     * @param limit   (most elements to write)
+     * @return number of elements written
+     * @throws IOException if channel fails
+     */
+    public int writeTo(WritableByteChannel channel, int limit)
+            throws IOException {
+        return writeToChannel(channel, limit, false);
+    }
+
+    /**This method writes the same text as toStringReversal() to channel as
+     * UTF-8, through one 8 KB buffer. The channel is not closed
+     *
+     * @param channel (where the text is written, such as a file or socket)
+     * @param limit   (most elements to write)
+     * @return number of elements written
+     * @throws IOException if channel fails
+     */
+    public int writeReversedTo(WritableByteChannel channel, int limit)
+            throws IOException {
+        return writeToChannel(channel, limit, true);
+    }
+
+    // writes up to limit elements to out with spaces between them, from
+    // head forwards or from tail backwards
+    private int write(Appendable out, int limit, boolean reversed)
+            throws IOException {
+        // checking for valid parameters
+        if (out == null)
+            throw new IllegalArgumentException("Invalid object detected");
+        if (limit < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        Node current = reversed ? tail : head;
+        int written = 0;
+
+        while (current != null && written < limit) {
+            if (written > 0)
+                out.append(' ');
+            out.append(String.valueOf(current.data));
+            written++;
+
+            current = reversed ? current.prev : current.link;
+        }
+
+        return written;
+    }
+
+    // writes to channel through an encoding writer that is flushed, but not
+    // closed, since closing it would close the channel
+    private int writeToChannel(WritableByteChannel channel, int limit,
+                               boolean reversed) throws IOException {
+        // checking for valid parameters
+        if (channel == null)
+            throw new IllegalArgumentException("Invalid object detected");
+
+        Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8);
+        int written = write(out, limit, reversed);
+        out.flush();
+
+        return written;
+    }
+
     /**
      * This method removes any element that is only greater than the parameter
      * boundary
@@ -211,28 +429,67 @@ public class ObjList implements Iterable<Object> {
      * @param boundary parameter to compare and serve as filter
      */
     public void intFilter(int boundary) {
+        removeIf(data -> (Integer) data > boundary);
+    }
 
-        /* local variables are used here, current is set to second element,
-        while prev is set to first element*/
-        Node current = head;
-
+    /**
+     * This method removes every element that matches filter, in a single
+     * walk through the objList. The elements that are kept are linked to
+     * each other as they are found, so it does not matter how many elements
+     * are removed, and tail ends up at the last element kept. If filter
+     * throws an exception, the elements checked so far stay removed, and the
+     * rest of the objList is left as it was
+     *
+     * @param filter (test an element must pass to be removed)
+     * @return true if any element was removed
+     */
+    public boolean removeIf(Predicate<Object> filter) {
+        // checking for valid parameters
+        if (filter == null)
+            throw new IllegalArgumentException("Invalid object detected");
 
-        while (current != null) {
-            // checking the head data to see if it should be cutoff
-            if ((Integer) head.data > boundary) {// compares the first element
-                head = head.link;
-                objCount--;
+        Node current = head;
+        Node lastKept = null;// last node that stays in the objList
+        int removed = 0;
+
+        head = null;
+        try {
+            while (current != null) {
+                Node following = current.link;
+
+                if (filter.test(current.data)) {
+                    recycle(current, current);
+                    removed++;
+                } else {
+                    // linking the kept node after the last one kept
+                    current.prev = lastKept;
+                    if (lastKept == null)
+                        head = current;
+                    else
+                        lastKept.link = current;
+                    lastKept = current;
+                }
+
+                current = following;
             }
+        } finally {
+            // the nodes that were not checked, if any, follow the kept ones
+            if (lastKept == null)
+                head = current;
+            else
+                lastKept.link = current;
 
-            /*Compares every other element and removes if current element
-             * is greater than the boundary*/
-            else if ((Integer) current.data > boundary) {
-                current.prev.link = current.link;
-                objCount--;
-            }
+            if (current == null)
+                tail = lastKept;
+            else
+                current.prev = lastKept;
 
-            current = current.link;// moves current to next one
+            objCount -= removed;
+            if (removed > 0)
+                modCount++;
         }
+
+        return removed > 0;
     }
 
     /**
@@ -266,31 +523,38 @@ public class ObjList implements Iterable<Object> {
                 previous node needs to be the new end of the list*/
                 prev.link = null;
                 tail.link = head;// set end of ObjList to head
+                head.prev = tail;
+                newHead.prev = null;
                 /*Changing head and tail reference to reflect modified
                 objectList*/
                 tail = prev;
                 head = newHead;
+                modCount++;
             }
         }
     }
 
 
     /*This method modifies the current object list, by moving the
-    last node to the beginning. This is the opposite of moveEnd*/
+    last node to the beginning. This is the opposite of moveEnd. Nothing
+    happens if there are fewer than two nodes*/
     public void moveLastToBegin() {
         //use of local variables instead of global ones
-        Node current = tail, newHead;
+        Node current = tail;
 
-        /* sets the last element and the newHead and changes the pointer
-         from null to the first element in the list. The actual head of the
-         list is then changed newHead*/
-        newHead = current;
-        current.link = head;// changes the pinter of tail from null to head
-        head = newHead;// head becomes newHead
+        if (objCount < 2)
+            return;
 
-        current.prev.link = null;//detaches the pointer of prev and changes it
-                                 // to null
+        /* the node before the last one becomes the end of the list, and the
+        last node is put before head and becomes the new head*/
+        tail = current.prev;
+        tail.link = null;// detaches the last node
 
+        current.prev = null;
+        current.link = head;// changes the pointer of tail from null to head
+        head.prev = current;
+        head = current;// head becomes the last node
+        modCount++;
     }
 
 
@@ -314,7 +578,9 @@ public class ObjList implements Iterable<Object> {
             throw new IllegalArgumentException("Invalid object detected");
 
         Node current = head;// set current node to the head
+        Node previous = null;// node before current
         Node begin = null, end = null;
+        Node beforeBegin = null;// node before begin, null if begin is head
 
         // while loop to iterate through object list
         while(current != null && end == null){
@@ -323,6 +589,7 @@ public class ObjList implements Iterable<Object> {
             the beginning position to remove*/
             if(current.data.equals(x) && begin == null){
                 begin = current;// begin stores position to start removing
+                beforeBegin = previous;
             }
 
             /* if the ending position is found, end stores the position. This
@@ -337,35 +604,103 @@ public class ObjList implements Iterable<Object> {
             if(begin != null)
                 count++;
 
+            previous = current;
             current = current.link;// current node is set to next one in objList
         }
 
-        // if position to start removing is the head, then there is no
-        // previous element, which means prev cannot be accessed
-        if(begin == head){
-            head = end.link;
-            objCount -= count;
-        }
-
         // both positions must be found to be able to do any kind of removal
-        else if(begin!= null && end != null){
-            begin.prev.link = end.link;
+        if(end != null){
+            // if position to start removing is the head, then there is no
+            // previous element, which means prev cannot be accessed
+            if(beforeBegin == null)
+                head = end.link;
+            else
+                beforeBegin.link = end.link;
+
+            // the node after end, or tail, now has to point back past them
+            if(end.link == null)
+                tail = beforeBegin;
+            else
+                end.link.prev = beforeBegin;
+
             // reduces number of element by wha was removed
             objCount = objCount - count;
+            modCount++;
+            recycle(begin, end);
         }
 
-
     }
 
     /**This method clears the object list and removes every element in the
-     * current objectList. It does this by changing the pointer of head to
-     * the reference the pointer of tail, which is null. In terms of memory
-     * storage, these are not actually removed. There are simply de-referenced
+     * current objectList. It does this by setting head and tail to null. In
+     * terms of memory storage, these are not actually removed. There are
+     * simply de-referenced, or put in the node pool if it is on
      *
      */
     public void clear(){
-        head = tail.link;
+        if(head != null)
+            recycle(head, tail);
+
+        head = tail = null;
         objCount = 0;// resets length of current objectList
+        modCount++;
+    }
+
+    /**This method turns the node pool on, off, or changes how many nodes it
+     * keeps. Nodes removed by clear(), removeFromTo(), removeIf(),
+     * intFilter() and the iterator go to the pool until it has capacity
+     * nodes, and insertion() takes nodes from it. A capacity of 0 turns the
+     * pool off
+     *
+     * @param capacity (most nodes the pool keeps)
+     */
+    public void setNodePoolCapacity(int capacity){
+        // checking for valid parameters
+        if(capacity < 0)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        poolCapacity = capacity;
+        while(pooled > capacity){
+            pool = pool.link;
+            pooled--;
+        }
+    }
+
+    /**This method returns the number of nodes in the pool right now
+     *
+     * @return number of pooled nodes
+     */
+    public int pooledNodes(){
+        return pooled;
+    }
+
+    /**This method returns the number of nodes insertion() took from the
+     * pool
+     *
+     * @return number of pool hits
+     */
+    public long poolHits(){
+        return poolHits;
+    }
+
+    /**This method returns the number of nodes that had to be made while
+     * the pool was on, because it was empty
+     *
+     * @return number of pool misses
+     */
+    public long poolMisses(){
+        return poolMisses;
+    }
+
+    /**This method returns the share of new nodes that came from the pool,
+     * between 0 and 1
+     *
+     * @return pool hit rate
+     */
+    public double poolHitRate(){
+        long requests = poolHits + poolMisses;
+
+        return requests == 0 ? 0 : (double) poolHits / requests;
     }
 
     /**This method searches the entire current objList for the parameter,"value"
@@ -391,4 +726,59 @@ public class ObjList implements Iterable<Object> {
 
         return found;
     }
+
+    // takes node out of the objList using its prev and link, and puts it in
+    // the pool
+    private void unlink(Node node){
+        if(node.prev == null)
+            head = node.link;
+        else
+            node.prev.link = node.link;
+
+        if(node.link == null)
+            tail = node.prev;
+        else
+            node.link.prev = node.prev;
+
+        objCount--;
+        modCount++;
+        recycle(node, node);
+    }
+
+    // returns a node from the pool, or a new one if the pool is empty
+    private Node takeNode(){
+        if(pool == null){
+            if(poolCapacity > 0)
+                poolMisses++;
+            return new Node();
+        }
+
+        Node node = pool;
+        pool = node.link;
+        node.link = null;
+        pooled--;
+        poolHits++;
+
+        return node;
+    }
+
+    /* puts the nodes from first to last in the pool, until it is full. They
+    must already be removed from the list*/
+    private void recycle(Node first, Node last){
+        Node current = first;
+
+        while(pooled < poolCapacity){
+            Node following = current.link;
+
+            current.data = null;// lets the object be collected
+            current.prev = null;
+            current.link = pool;
+            pool = current;
+            pooled++;
+
+            if(current == last)
+                break;
+            current = following;
+        }
+    }
 }
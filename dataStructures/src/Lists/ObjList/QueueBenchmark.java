@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+// Main to time the queues of objects against ConcurrentLinkedQueue
+package Lists.ObjList;
+
+/*This class times producers and consumers passing objects through an ObjList
+ * behind one lock, ConcurrentObjQueue, MpscObjQueue and the
+ * ConcurrentLinkedQueue of the JDK. Every run is repeated and the best time
+ * is printed, since the first runs also pay for the JIT compiler. The
+ * numbers depend a lot on the number of cores: with fewer cores than
+ * threads, threads mostly take turns and the lock is rarely contended.
+ * Arguments, all optional: producers, consumers, objects per producer*/
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class QueueBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws InterruptedException {
+        int producers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int consumers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int perProducer = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+
+        System.out.println(producers + " producers, " + consumers +
+                " consumers, " + perProducer + " objects each, " +
+                Runtime.getRuntime().availableProcessors() + " cores");
+        System.out.println("--------------------------------------------");
+
+        System.out.println("MPMC, " + producers + " producers and " +
+                consumers + " consumers");
+        run("ObjList with a lock", producers, consumers, perProducer,
+                QueueBenchmark::lockedObjList);
+        run("ConcurrentObjQueue", producers, consumers, perProducer, () -> {
+            ConcurrentObjQueue queue = new ConcurrentObjQueue();
+            return new Queue(queue::insertion, queue::poll);
+        });
+        run("ConcurrentLinkedQueue", producers, consumers, perProducer, () -> {
+            ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+            return new Queue(queue::offer, queue::poll);
+        });
+        System.out.println("--------------------------------------------");
+
+        System.out.println("MPSC, " + producers + " producers and 1 consumer");
+        run("ObjList with a lock", producers, 1, perProducer,
+                QueueBenchmark::lockedObjList);
+        run("ConcurrentObjQueue", producers, 1, perProducer, () -> {
+            ConcurrentObjQueue queue = new ConcurrentObjQueue();
+            return new Queue(queue::insertion, queue::poll);
+        });
+        run("MpscObjQueue", producers, 1, perProducer, () -> {
+            MpscObjQueue queue = new MpscObjQueue();
+            return new Queue(queue::insertion, queue::poll);
+        });
+        run("ConcurrentLinkedQueue", producers, 1, perProducer, () -> {
+            ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+            return new Queue(queue::offer, queue::poll);
+        });
+    }
+
+    /*a queue is only the way objects go in and come out*/
+    private static final class Queue {
+        private final Consumer<Object> add;
+        private final Supplier<Object> take;
+
+        private Queue(Consumer<Object> add, Supplier<Object> take) {
+            this.add = add;
+            this.take = take;
+        }
+    }
+
+    /*the work queue as it was used before: insertion() at the tail, and
+     * the first object taken through the iterator, all behind one lock*/
+    private static Queue lockedObjList() {
+        ObjList list = new ObjList();
+
+        return new Queue(value -> {
+            synchronized (list) {
+                list.insertion(value);
+            }
+        }, () -> {
+            synchronized (list) {
+                Iterator<Object> iterator = list.iterator();
+                if (!iterator.hasNext())
+                    return null;
+
+                Object value = iterator.next();
+                iterator.remove();
+                return value;
+            }
+        });
+    }
+
+    /*prints the best time of ROUNDS runs, in objects per millisecond*/
+    private static void run(String name, int producers, int consumers,
+                            int perProducer, Supplier<Queue> queues)
+            throws InterruptedException {
+        long best = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++)
+            best = Math.min(best, time(queues.get(), producers, consumers,
+                    perProducer));
+
+        long total = (long) producers * perProducer;
+        System.out.printf("%-24s %8d ms %10d objects/ms%n", name,
+                best / 1_000_000, total * 1_000_000 / Math.max(1, best));
+    }
+
+    /*returns the nanoseconds it takes for every object to be taken*/
+    private static long time(Queue queue, int producers, int consumers,
+                             int perProducer) throws InterruptedException {
+        long total = (long) producers * perProducer;
+        AtomicLong taken = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers + consumers];
+        Integer object = 42;
+
+        for (int i = 0; i < producers; i++) {
+            threads[i] = new Thread(() -> {
+                await(start);
+                for (int j = 0; j < perProducer; j++)
+                    queue.add.accept(object);
+            });
+        }
+        for (int i = producers; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                await(start);
+                while (taken.get() < total) {
+                    if (queue.take.get() != null)
+                        taken.incrementAndGet();
+                    else
+                        Thread.onSpinWait();
+                }
+            });
+        }
+
+        for (Thread thread : threads)
+            thread.start();
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        return System.nanoTime() - begin;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
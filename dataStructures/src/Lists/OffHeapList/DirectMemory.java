@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.OffHeapList;
+
+/*This class gives the memory of direct and mapped ByteBuffers back straight
+ * away, instead of when the garbage collector finds they are no longer used.
+ * It uses Unsafe.invokeCleaner(), which is looked up once. If the runtime
+ * does not allow it, free() does nothing and the buffers are freed by the
+ * garbage collector as usual*/
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+final class DirectMemory {
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectMemory() {
+    }
+
+    /*gives the memory of buffer back. buffer must be a direct buffer that
+     * is not a slice or duplicate, and must never be used again*/
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null)
+            return;
+
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // the buffer is freed when it is collected instead
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.OffHeapList;
+
+/*This interface represents the way the elements of a MappedLogList are
+ * turned into bytes and back. Unlike RecordCodec, elements do not all have
+ * to take the same number of bytes: encodedSize() says how many bytes an
+ * element takes, and the list keeps that length next to it*/
+
+import java.nio.ByteBuffer;
+
+public interface ElementCodec<T> {
+
+    /**This method returns the number of bytes write() uses for value
+     *
+     * @param value (value to measure)
+     * @return size of value in bytes, 0 or more
+     */
+    int encodedSize(T value);
+
+    /**This method writes value into buffer, from byte offset up to, but not
+     * including, offset + encodedSize(value). It must only use the absolute
+     * put methods, the ones that take an index, so the position of buffer
+     * is never changed
+     *
+     * @param value (value to write)
+     * @param buffer (buffer the element is written to)
+     * @param offset (index of the first byte of the element)
+     */
+    void write(T value, ByteBuffer buffer, int offset);
+
+    /**This method makes a value from the length bytes that start at byte
+     * offset of buffer, using the absolute get methods only
+     *
+     * @param buffer (buffer the element is read from)
+     * @param offset (index of the first byte of the element)
+     * @param length (number of bytes of the element)
+     * @return value the bytes hold
+     */
+    T read(ByteBuffer buffer, int offset, int length);
+}
@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.OffHeapList;
+
+/*This class is a list that lives in a file, so its elements are still there
+ * after the program stops. Elements can only be added to the end, the same
+ * way a log is written. The file is memory mapped, so adding an element is
+ * writing its bytes into memory, and reading one is reading memory: the
+ * operating system moves the pages to and from the file.
+ * The file is mapped in segments of the same size, a power of two. Every
+ * element is written as its length, then its bytes, and never crosses the
+ * end of a segment; when it does not fit, the rest of the segment is marked
+ * as padding and the element goes at the start of the next one. The position
+ * of every element is kept in an array, so valueAtIndex() reads the element
+ * straight from the mapped file, and search() compares the bytes in the file
+ * with the bytes of the value without making any values.
+ * The file starts with two header slots. Each holds the number of elements,
+ * where the data ends, where the index is, a sequence number and a checksum.
+ * They are written in turns, so if a crash leaves one half written, the other
+ * one is still whole, and the one with the highest sequence number that has
+ * a correct checksum is used. An element is written before the header that
+ * counts it, so after a crash the list has every element that was completely
+ * added, and nothing that was half written.
+ * close() writes the positions of all elements after the data, as a trailing
+ * index, and records it in the header. Opening the file again then only
+ * maps it and reads that index, without reading a single element. If the
+ * program stopped without close(), there is no index, and the positions are
+ * found again by reading the length of every element.
+ * Elements written before a crash of the program are kept, since the pages
+ * are already in the operating system. sync() forces them to the disk, so
+ * they also survive a crash of the operating system or the machine*/
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class MappedLogList<T> implements Iterable<T>, AutoCloseable {
+    private static final long MAGIC = 0x4D4C6F674C697374L;// "MLogList"
+    private static final int SLOT_SIZE = 64;// bytes of one header slot
+    private static final int HEADER_SIZE = 2 * SLOT_SIZE;// both slots
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 26;// 64 MB
+    private static final int MIN_SEGMENT_SIZE = 1 << 12;
+    private static final int PADDING = -1;// length that marks padding
+
+    private final ElementCodec<T> codec;
+    private final FileChannel channel;
+    private final int segmentSize;// bytes in one segment
+    private final int shift;// position >>> shift is the segment
+
+    private MappedByteBuffer[] segments;// mapped segments, null if not yet
+    private long[] offsets;// position of every element in the file
+    private int elemCount;// keeps track of size or number of elements
+    private long dataEnd;// position after the last element
+    private long indexPosition;// position of the trailing index, or -1
+    private long sequence;// sequence number of the last header written
+    private int modCount;// number of times the list has been changed
+    private boolean closed;// true once the file was closed
+
+    /**
+     * Constructor that opens the list stored in file, or makes a new empty
+     * one if the file does not exist or is empty. New files are mapped in
+     * segments of 64 MB
+     *
+     * @param file  (file the list is kept in)
+     * @param codec (way elements are turned into bytes and back)
+     * @throws IOException if the file cannot be used, or is not a list
+     */
+    public MappedLogList(Path file, ElementCodec<T> codec) throws IOException {
+        this(file, codec, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor that opens the list stored in file, or makes a new empty
+     * one that is mapped in segments of segmentSize bytes. An existing file
+     * keeps the segment size it was made with. No element can be bigger
+     * than a segment
+     *
+     * @param file        (file the list is kept in)
+     * @param codec       (way elements are turned into bytes and back)
+     * @param segmentSize (bytes in one segment, a power of two of 4096 or more)
+     * @throws IOException if the file cannot be used, or is not a list
+     */
+    public MappedLogList(Path file, ElementCodec<T> codec, int segmentSize)
+            throws IOException {
+        // checking for valid parameters
+        if (file == null || codec == null)
+            throw new IllegalArgumentException("Value cannot be null");
+        if (segmentSize < MIN_SEGMENT_SIZE || Integer.bitCount(segmentSize) != 1)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        this.codec = codec;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() == 0) {
+                this.segmentSize = segmentSize;
+                shift = Integer.numberOfTrailingZeros(segmentSize);
+                segments = new MappedByteBuffer[4];
+                offsets = new long[16];
+                dataEnd = HEADER_SIZE;
+                indexPosition = -1;
+                writeHeader();
+            } else {
+                ByteBuffer header = readHeader();
+                this.segmentSize = header.getInt(40);
+                shift = Integer.numberOfTrailingZeros(this.segmentSize);
+                segments = new MappedByteBuffer[4];
+                elemCount = (int) header.getLong(16);
+                dataEnd = header.getLong(24);
+                indexPosition = header.getLong(32);
+                sequence = header.getLong(8);
+                offsets = new long[Math.max(16, elemCount)];
+
+                if (indexPosition != -1)
+                    readIndex();
+                else
+                    findElements();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * This method adds newValue to the end of the list. Its bytes are
+     * written first, then the header that counts it, so a crash never
+     * leaves half an element in the list
+     *
+     * @param newValue (Value to be added to the list)
+     * @throws IOException if the file cannot grow
+     */
+    public void insertion(T newValue) throws IOException {
+        // checking if newValue is null and throwing an exception
+        if (newValue == null) {
+            throw new IllegalArgumentException("null values cannot be added");
+        }
+        checkOpen();
+
+        int size = codec.encodedSize(newValue);
+        if (size < 0 || size > segmentSize - HEADER_SIZE - Integer.BYTES)
+            throw new IllegalArgumentException("Element is too big for a segment");
+
+        // the trailing index is about to be written over
+        if (indexPosition != -1) {
+            indexPosition = -1;
+            writeHeader();
+        }
+
+        int frame = align(Integer.BYTES + size, Integer.BYTES);
+        long position = dataEnd;
+
+        // an element that does not fit goes at the start of the next segment
+        if (offsetOf(position) + frame > segmentSize) {
+            segment(position).putInt(offsetOf(position), PADDING);
+            position = (position >>> shift) + 1 << shift;
+        }
+
+        MappedByteBuffer segment = segment(position);
+        int offset = offsetOf(position);
+        segment.putInt(offset, size);
+        codec.write(newValue, segment, offset + Integer.BYTES);
+
+        if (elemCount == offsets.length)
+            offsets = Arrays.copyOf(offsets, elemCount * 2);
+        offsets[elemCount++] = position;
+        dataEnd = position + frame;
+        modCount++;
+        writeHeader();
+    }
+
+    /**
+     * This method returns the number of elements in the list
+     *
+     * @return number of elements in the list
+     */
+    public int length() {
+        return elemCount;
+    }
+
+    /**
+     * This method returns the value at index position, made by the codec
+     * straight from the mapped file
+     *
+     * @param position (index of element to return)
+     * @return element that is at index "position"
+     * @throws IOException if the file cannot be mapped
+     */
+    public T valueAtIndex(int position) throws IOException {
+        // checking if position can be a valid number to use.
+        if (position < 0 || position > length() - 1)
+            throw new IndexOutOfBoundsException("Invalid Position");
+        checkOpen();
+
+        return read(position);
+    }
+
+    /**
+     * This method returns the index of the first element with the same
+     * bytes as value, or -1 if there is none. The bytes are compared in the
+     * mapped file, so no element is made
+     *
+     * @param value (The value to search for and find the position)
+     * @return Index (The index of value to be returned)
+     * @throws IOException if the file cannot be mapped
+     */
+    public int getIndex(T value) throws IOException {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        checkOpen();
+
+        return find(encode(value), 0);
+    }
+
+    /**
+     * This method checks if an element with the same bytes as value is in
+     * the list
+     *
+     * @param value (element to search for in the list)
+     * @return true if element is found
+     *          false otherwise.
+     * @throws IOException if the file cannot be mapped
+     */
+    public boolean search(T value) throws IOException {
+        return getIndex(value) != -1;
+    }
+
+    /**
+     * This method returns the number of elements with the same bytes as
+     * value
+     *
+     * @param value (value to count)
+     * @return frequency (number of times that value appears in the list)
+     * @throws IOException if the file cannot be mapped
+     */
+    public int valueFrequency(T value) throws IOException {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        checkOpen();
+
+        ByteBuffer key = encode(value);
+        int frequency = 0;
+
+        for (int i = find(key, 0); i != -1; i = find(key, i + 1))
+            frequency++;
+
+        return frequency;
+    }
+
+    /**
+     * This method forces every element added so far to the disk, so they
+     * survive a crash of the operating system as well
+     */
+    public void sync() {
+        checkOpen();
+
+        // the first segment, which has the header, goes last
+        for (int i = segments.length - 1; i >= 0; i--) {
+            if (segments[i] != null)
+                segments[i].force();
+        }
+    }
+
+    /**
+     * This method writes the trailing index, forces everything to the disk
+     * and closes the file. Opening the file again then takes no time,
+     * however many elements it has. Calling it again does nothing
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+
+        try {
+            // the index starts at the first multiple of 8 after the data
+            long position = align(dataEnd, Long.BYTES);
+            for (int i = 0; i < elemCount; i++) {
+                segment(position).putLong(offsetOf(position), offsets[i]);
+                position += Long.BYTES;
+            }
+
+            sync();
+            indexPosition = align(dataEnd, Long.BYTES);
+            writeHeader();
+            segment(0).force();
+
+            for (int i = 0; i < segments.length; i++) {
+                DirectMemory.free(segments[i]);
+                segments[i] = null;
+            }
+            channel.truncate(Math.max(position, HEADER_SIZE));
+        } finally {
+            closed = true;
+            modCount++;
+            channel.close();
+        }
+    }
+
+    /**
+     * This method returns an iterator over the elements, from the first to
+     * the last. Adding to the list while it is in use makes it throw
+     * ConcurrentModificationException
+     *
+     * @return iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+
+        return new Iterator<T>() {
+            private int next = 0;// index of the element next() returns
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next < elemCount;
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (next >= elemCount)
+                    throw new NoSuchElementException();
+
+                try {
+                    return read(next++);
+                } catch (IOException e) {
+                    throw new IllegalStateException("File cannot be read", e);
+                }
+            }
+        };
+    }
+
+    /**
+     * This method returns the elements of the list with a space in between
+     * them, the same way LinkedList does
+     *
+     * @return String representation of current object
+     */
+    @Override
+    public String toString() {
+        StringBuilder printList = new StringBuilder();
+
+        for (T value : this) {
+            if (printList.length() > 0)
+                printList.append(" ");
+            printList.append(value);
+        }
+
+        return printList.toString();
+    }
+
+    /*makes the element at index from the mapped file*/
+    private T read(int index) throws IOException {
+        long position = offsets[index];
+        MappedByteBuffer segment = segment(position);
+        int offset = offsetOf(position);
+
+        return codec.read(segment, offset + Integer.BYTES, segment.getInt(offset));
+    }
+
+    /*returns the index of the first element from index start onwards whose
+     * bytes are the same as key, or -1*/
+    private int find(ByteBuffer key, int start) throws IOException {
+        int size = key.capacity();
+
+        for (int i = start; i < elemCount; i++) {
+            MappedByteBuffer segment = segment(offsets[i]);
+            int offset = offsetOf(offsets[i]);
+
+            if (segment.getInt(offset) == size &&
+                    sameBytes(segment, offset + Integer.BYTES, key))
+                return i;
+        }
+
+        return -1;
+    }
+
+    /*compares the bytes at offset of segment with key, eight at a time*/
+    private static boolean sameBytes(ByteBuffer segment, int offset,
+                                     ByteBuffer key) {
+        int size = key.capacity();
+        int i = 0;
+
+        for (; i + Long.BYTES <= size; i += Long.BYTES) {
+            if (segment.getLong(offset + i) != key.getLong(i))
+                return false;
+        }
+        for (; i < size; i++) {
+            if (segment.get(offset + i) != key.get(i))
+                return false;
+        }
+
+        return true;
+    }
+
+    /*returns the bytes of value in a heap buffer*/
+    private ByteBuffer encode(T value) {
+        ByteBuffer key = ByteBuffer.allocate(codec.encodedSize(value));
+        codec.write(value, key, 0);
+
+        return key;
+    }
+
+    /*This is a private method that reads the positions of the elements
+     * from the trailing index that close() wrote*/
+    private void readIndex() throws IOException {
+        long position = indexPosition;
+
+        for (int i = 0; i < elemCount; i++) {
+            offsets[i] = segment(position).getLong(offsetOf(position));
+            position += Long.BYTES;
+        }
+    }
+
+    /*This is a private method that finds the position of every element by
+     * reading their lengths, for a file that was not closed. Only the
+     * elements the header counts are read*/
+    private void findElements() throws IOException {
+        long position = HEADER_SIZE;
+        int found = 0;
+
+        while (position < dataEnd && found < elemCount) {
+            int size = segment(position).getInt(offsetOf(position));
+
+            if (size == PADDING) {
+                position = (position >>> shift) + 1 << shift;
+                continue;
+            }
+            if (size < 0 || offsetOf(position) + Integer.BYTES + size > segmentSize)
+                throw new IOException("File is damaged");
+
+            offsets[found++] = position;
+            position += align(Integer.BYTES + size, Integer.BYTES);
+        }
+
+        if (found != elemCount)
+            throw new IOException("File is damaged");
+    }
+
+    /*This is a private method that writes the header into the slot after
+     * the last one written, with a sequence number one higher*/
+    private void writeHeader() throws IOException {
+        sequence++;
+        MappedByteBuffer first = segment(0);
+        int slot = (int) (sequence & 1) * SLOT_SIZE;
+
+        first.putLong(slot, MAGIC);
+        first.putLong(slot + 8, sequence);
+        first.putLong(slot + 16, elemCount);
+        first.putLong(slot + 24, dataEnd);
+        first.putLong(slot + 32, indexPosition);
+        first.putInt(slot + 40, segmentSize);
+        first.putInt(slot + 44, 0);
+        first.putLong(slot + 48, checksum(first, slot));
+    }
+
+    /*This is a private method that reads both header slots and returns
+     * the newest one that is whole, as a buffer starting at that slot*/
+    private ByteBuffer readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .order(ByteOrder.BIG_ENDIAN);
+        channel.read(header, 0);
+
+        int best = -1;
+        for (int slot = 0; slot < HEADER_SIZE; slot += SLOT_SIZE) {
+            boolean whole = header.getLong(slot) == MAGIC &&
+                    header.getLong(slot + 48) == checksum(header, slot);
+
+            if (whole && (best == -1 ||
+                    header.getLong(slot + 8) > header.getLong(best + 8)))
+                best = slot;
+        }
+
+        if (best == -1)
+            throw new IOException("File is not a list, or its header is damaged");
+
+        return header.position(best).slice();
+    }
+
+    /*mixes the fields of the header slot at slot into one number*/
+    private static long checksum(ByteBuffer buffer, int slot) {
+        long hash = 17;
+
+        for (int field = 0; field < 48; field += Long.BYTES) {
+            hash = (hash + buffer.getLong(slot + field)) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 29;
+        }
+
+        return hash;
+    }
+
+    /*returns the segment holding position, mapping it first if needed*/
+    private MappedByteBuffer segment(long position) throws IOException {
+        int index = (int) (position >>> shift);
+
+        if (index >= segments.length)
+            segments = Arrays.copyOf(segments,
+                    Math.max(index + 1, segments.length * 2));
+        if (segments[index] == null)
+            segments[index] = channel.map(FileChannel.MapMode.READ_WRITE,
+                    (long) index << shift, segmentSize);
+
+        return segments[index];
+    }
+
+    /*returns where position is inside its segment*/
+    private int offsetOf(long position) {
+        return (int) (position & (segmentSize - 1));
+    }
+
+    /*rounds value up to a multiple of alignment, a power of two*/
+    private static long align(long value, int alignment) {
+        return (value + alignment - 1) & -alignment;
+    }
+
+    private static int align(int value, int alignment) {
+        return (value + alignment - 1) & -alignment;
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("List is closed");
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.OffHeapList;
+
+/*This class is a list of fixed size records kept outside the Java heap, in
+ * direct ByteBuffers. A LinkedList keeps a node and a value object for every
+ * element, each with its own header, and the garbage collector has to go
+ * through all of them. Here an element is only its recordSize() bytes, laid
+ * out one after the other, and the heap only holds this object and one
+ * ByteBuffer for every chunk of records, however many records there are.
+ * A single ByteBuffer cannot hold more than 2 GB, so the records are split
+ * into chunks of the same number of records, a power of two, and the record
+ * at index i is record (i & mask) of chunk (i >>> shift). While the list is
+ * smaller than one chunk, the first chunk starts small and doubles, so small
+ * lists do not take a whole chunk.
+ * Values are made by the RecordCodec whenever they are read, so changing a
+ * value that was read does not change the list. Two values are the same when
+ * their records have the same bytes, so searching never makes a value.
+ * Direct memory is normally only given back when the garbage collector finds
+ * the ByteBuffer is no longer used. close() gives it back straight away,
+ * through the cleaner of the buffer, and removing or clearing gives back the
+ * chunks that are no longer needed the same way*/
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class OffHeapList<T> implements Iterable<T>, AutoCloseable {
+    /*largest chunk, in bytes, unless a single record is bigger*/
+    private static final int MAX_CHUNK_BYTES = 1 << 24;
+    /*records the first chunk has room for when the list is made*/
+    private static final int INITIAL_RECORDS = 64;
+
+    private final RecordCodec<T> codec;
+    private final int recordSize;// bytes in one record
+    private final int shift;// index >>> shift is the chunk of a record
+    private final int mask;// index & mask is the record inside its chunk
+
+    private ByteBuffer[] chunks;// chunks in use, null after them
+    private int chunkCount;// number of chunks allocated
+    private int elemCount;// keeps track of size or number of elements
+    private int modCount;// number of times the list has been changed
+    private boolean closed;// true once the memory was given back
+
+    /**
+     * Constructor for an OffHeapList whose records are made and read by
+     * codec
+     *
+     * @param codec (layout of one record)
+     */
+    public OffHeapList(RecordCodec<T> codec) {
+        // checking for valid parameters
+        if (codec == null)
+            throw new IllegalArgumentException("Value cannot be null");
+        if (codec.recordSize() < 1)
+            throw new IllegalArgumentException("Invalid parameter found");
+
+        this.codec = codec;
+        recordSize = codec.recordSize();
+
+        int recordsPerChunk = Integer.highestOneBit(
+                Math.max(1, MAX_CHUNK_BYTES / recordSize));
+        shift = Integer.numberOfTrailingZeros(recordsPerChunk);
+        mask = recordsPerChunk - 1;
+
+        chunks = new ByteBuffer[4];
+        chunks[0] = ByteBuffer.allocateDirect(
+                Math.min(INITIAL_RECORDS, recordsPerChunk) * recordSize);
+        chunkCount = 1;
+    }
+
+    /**
+     * This method adds newValue to the end of the list. A new chunk is only
+     * allocated when the last one is full
+     *
+     * @param newValue (Value to be added to the list)
+     */
+    public void insertion(T newValue) {
+        // checking if newValue is null and throwing an exception
+        if (newValue == null) {
+            throw new IllegalArgumentException("null values cannot be added");
+        }
+        checkOpen();
+
+        ensureCapacity(elemCount + 1);
+        codec.write(newValue, chunks[elemCount >>> shift],
+                (elemCount & mask) * recordSize);
+        elemCount++;
+        modCount++;
+    }
+
+    /**
+     * This method returns the number of records in the list
+     *
+     * @return number of records in the list
+     */
+    public int length() {
+        return elemCount;
+    }
+
+    /**
+     * This method returns the number of bytes of direct memory the list has
+     * allocated, which is more than length() * recordSize when the last
+     * chunk is not full
+     *
+     * @return bytes allocated outside the heap
+     */
+    public long offHeapBytes() {
+        long bytes = 0;
+
+        for (int i = 0; i < chunkCount; i++)
+            bytes += chunks[i].capacity();
+
+        return bytes;
+    }
+
+    /**
+     * This method returns the value at index position, made by the codec
+     * from its record
+     *
+     * @param position (index of record to return)
+     * @return value of the record at index "position"
+     */
+    public T valueAtIndex(int position) {
+        // checking if position can be a valid number to use.
+        if (position < 0 || position > length() - 1)
+            throw new IndexOutOfBoundsException("Invalid Position");
+        checkOpen();
+
+        return codec.read(chunks[position >>> shift],
+                (position & mask) * recordSize);
+    }
+
+    /**
+     * This method returns the index of the first record with the same bytes
+     * as value, or -1 if there is none
+     *
+     * @param value (The value to search for and find the position)
+     * @return Index (The index of value to be returned)
+     */
+    public int getIndex(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        checkOpen();
+
+        return find(encode(value), 0);
+    }
+
+    /**
+     * This method checks if a record with the same bytes as value is in the
+     * list
+     *
+     * @param value (value to search for in the list)
+     * @return true if value is found
+     *          false otherwise.
+     */
+    public boolean search(T value) {
+        return getIndex(value) != -1;
+    }
+
+    /**
+     * This method returns the number of records with the same bytes as
+     * value
+     *
+     * @param value (value to count)
+     * @return frequency (number of times that value appears in the list)
+     */
+    public int valueFrequency(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        checkOpen();
+
+        ByteBuffer key = encode(value);
+        int frequency = 0;
+
+        for (int i = find(key, 0); i != -1; i = find(key, i + 1))
+            frequency++;
+
+        return frequency;
+    }
+
+    /**
+     * This method removes all the records from the first occurrence of
+     * fromValue to the first occurrence of toValue that comes at or after
+     * it, with fromValue and toValue included, the same as
+     * LinkedList.removeFromTo(). Nothing is removed if either is not found
+     *
+     * @param fromValue (value to start removing from)
+     * @param toValue   (value to end removing)
+     */
+    public void removeFromTo(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        checkOpen();
+
+        int begin = find(encode(fromValue), 0);
+        int end = begin == -1 ? -1 : find(encode(toValue), begin);
+
+        if (end != -1)
+            removePositions(begin, end + 1);
+    }
+
+    /**
+     * This method removes the records from index from up to, but not
+     * including, index to. The records after them are moved down with bulk
+     * copies, and chunks that are no longer needed are freed
+     *
+     * @param from (index of the first record to remove)
+     * @param to   (index after the last record to remove)
+     */
+    public void removePositions(int from, int to) {
+        // checking if the positions can be valid numbers to use
+        if (from < 0 || to > elemCount || from > to)
+            throw new IndexOutOfBoundsException("Invalid Position");
+        checkOpen();
+
+        if (from == to)
+            return;
+
+        int source = to;
+        int target = from;
+
+        // copying as many records at once as both chunks allow
+        while (source < elemCount) {
+            int sourceOffset = source & mask;
+            int targetOffset = target & mask;
+            int records = Math.min(elemCount - source, Math.min(
+                    chunkLength(source >>> shift) - sourceOffset,
+                    chunkLength(target >>> shift) - targetOffset));
+
+            chunks[target >>> shift].put(targetOffset * recordSize,
+                    chunks[source >>> shift], sourceOffset * recordSize,
+                    records * recordSize);
+
+            source += records;
+            target += records;
+        }
+
+        elemCount -= to - from;
+        modCount++;
+        freeChunksAfter(elemCount);
+    }
+
+    /**
+     * This method removes all records from the list, and frees every chunk
+     * but the first one
+     */
+    public void clear() {
+        checkOpen();
+
+        elemCount = 0;
+        modCount++;
+        freeChunksAfter(0);
+    }
+
+    /**
+     * This method frees all the memory of the list straight away. The list
+     * cannot be used afterwards. Calling it again does nothing
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+
+        for (int i = 0; i < chunkCount; i++) {
+            DirectMemory.free(chunks[i]);
+            chunks[i] = null;
+        }
+
+        chunkCount = 0;
+        elemCount = 0;
+        modCount++;
+        closed = true;
+    }
+
+    /**
+     * This method returns an iterator over the values, from the first
+     * record to the last. Changing the list while it is in use makes it
+     * throw ConcurrentModificationException
+     *
+     * @return iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+
+        return new Iterator<T>() {
+            private int next = 0;// index of the record next() returns
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next < elemCount;
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (next >= elemCount)
+                    throw new NoSuchElementException();
+
+                T value = codec.read(chunks[next >>> shift],
+                        (next & mask) * recordSize);
+                next++;
+
+                return value;
+            }
+        };
+    }
+
+    /**
+     * This method returns the values of the list with a space in between
+     * them, the same way LinkedList does
+     *
+     * @return String representation of current object
+     */
+    @Override
+    public String toString() {
+        StringBuilder printList = new StringBuilder();
+
+        for (int i = 0; i < elemCount; i++) {
+            if (i > 0)
+                printList.append(" ");
+            printList.append(codec.read(chunks[i >>> shift],
+                    (i & mask) * recordSize));
+        }
+
+        return printList.toString();
+    }
+
+    /*This is a private method that makes sure there is room for count
+     * records. The first chunk doubles until it is a full chunk, after that
+     * full chunks are added*/
+    private void ensureCapacity(int count) {
+        int recordsPerChunk = mask + 1;
+
+        if (chunkCount == 1 && chunkLength(0) < recordsPerChunk) {
+            if (count <= chunkLength(0))
+                return;
+
+            // the first chunk is replaced by one twice as big
+            int records = Math.min(recordsPerChunk,
+                    Math.max(count, chunkLength(0) * 2));
+            ByteBuffer larger = ByteBuffer.allocateDirect(records * recordSize);
+            larger.put(0, chunks[0], 0, elemCount * recordSize);
+
+            DirectMemory.free(chunks[0]);
+            chunks[0] = larger;
+            return;
+        }
+
+        while ((long) chunkCount * recordsPerChunk < count) {
+            if (chunkCount == chunks.length)
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(
+                    recordsPerChunk * recordSize);
+        }
+    }
+
+    /*frees the chunks that are not needed to hold count records, always
+     * keeping the first one*/
+    private void freeChunksAfter(int count) {
+        int needed = Math.max(1, (count + mask) >>> shift);
+
+        while (chunkCount > needed) {
+            chunkCount--;
+            DirectMemory.free(chunks[chunkCount]);
+            chunks[chunkCount] = null;
+        }
+    }
+
+    /*returns the index of the first record from index start onwards whose
+     * bytes are the same as key, or -1*/
+    private int find(ByteBuffer key, int start) {
+        for (int i = start; i < elemCount; i++) {
+            if (sameBytes(chunks[i >>> shift], (i & mask) * recordSize, key))
+                return i;
+        }
+
+        return -1;
+    }
+
+    /*compares the record at offset of chunk with key, eight bytes at a time*/
+    private boolean sameBytes(ByteBuffer chunk, int offset, ByteBuffer key) {
+        int i = 0;
+
+        for (; i + Long.BYTES <= recordSize; i += Long.BYTES) {
+            if (chunk.getLong(offset + i) != key.getLong(i))
+                return false;
+        }
+        for (; i < recordSize; i++) {
+            if (chunk.get(offset + i) != key.get(i))
+                return false;
+        }
+
+        return true;
+    }
+
+    /*returns the record of value in a heap buffer*/
+    private ByteBuffer encode(T value) {
+        ByteBuffer key = ByteBuffer.allocate(recordSize);
+        codec.write(value, key, 0);
+
+        return key;
+    }
+
+    /*returns the number of records chunk index can hold*/
+    private int chunkLength(int index) {
+        return chunks[index].capacity() / recordSize;
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("List is closed");
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+package Lists.OffHeapList;
+
+/*This interface represents the layout of one record of an OffHeapList.
+ * Every record takes exactly recordSize() bytes, so the record at index i
+ * always starts at byte i * recordSize() and no object is kept for it. The
+ * codec turns a value into those bytes when it is added, and back into a
+ * value when it is read*/
+
+import java.nio.ByteBuffer;
+
+public interface RecordCodec<T> {
+
+    /**This method returns the number of bytes every record takes. It must
+     * always return the same number
+     *
+     * @return size of one record in bytes, at least 1
+     */
+    int recordSize();
+
+    /**This method writes value into buffer, from byte offset up to, but not
+     * including, offset + recordSize(). It must only use the absolute put
+     * methods, the ones that take an index, so the position of buffer is
+     * never changed
+     *
+     * @param value (value to write)
+     * @param buffer (buffer the record is written to)
+     * @param offset (index of the first byte of the record)
+     */
+    void write(T value, ByteBuffer buffer, int offset);
+
+    /**This method makes a value from the record that starts at byte offset
+     * of buffer, using the absolute get methods only
+     *
+     * @param buffer (buffer the record is read from)
+     * @param offset (index of the first byte of the record)
+     * @return value the record holds
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+/*This class is a list that never changes once it is made. insertion(),
+ * removeFromTo() and the other methods that would change a LinkedList
+ * return a new PersistentList instead, and leave this one as it was.
+ * The elements are kept in a balanced binary tree, in order from left to
+ * right, where every node knows the number of nodes under it. The node for
+ * index i is found by comparing i with the size of the left side, so reading
+ * any index takes O(log n) time.
+ * A new version only makes new copies of the O(log n) nodes on the path it
+ * changes, and shares every other node with the version it came from. Keeping
+ * an old version is therefore free, and a reader that holds one always sees
+ * the same elements, however many versions are made after it. Since nothing
+ * is ever changed, versions can be read by any number of threads at the same
+ * time without locks.
+ * The tree is kept balanced the same way an AVL tree is, so the two sides of
+ * every node differ in height by at most one. Every change is made from two
+ * operations: split(), which cuts a tree into the elements before an index
+ * and the rest, and join(), which puts two trees back together with one
+ * element between them. Both take O(log n) time*/
+package Lists.PersistentList;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class PersistentList<T extends Comparable<T>>
+        implements Comparable<PersistentList<T>>, Iterable<T> {
+    @SuppressWarnings("rawtypes")
+    private static final PersistentList EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;// null for the empty list
+
+    /*A node of the tree. It is never changed after it is made, so it can be
+     * shared by many versions*/
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;// elements before value
+        private final Node<T> right;// elements after value
+        private final int height;// levels from this node down, 1 for a leaf
+        private final int size;// number of nodes under it, itself included
+
+        private Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            height = Math.max(height(left), height(right)) + 1;
+            size = size(left) + size(right) + 1;
+        }
+    }
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * This method returns the empty list. There is only one, since it can
+     * never change
+     *
+     * @param <T> (type of the elements)
+     * @return empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * This method returns a list holding values in the order they are
+     * given. The tree is built balanced in one pass, which takes O(n) time,
+     * so it is the quickest way to make a snapshot of an existing list
+     *
+     * @param values (elements of the new list)
+     * @param <T>    (type of the elements)
+     * @return list of values
+     */
+    public static <T extends Comparable<T>> PersistentList<T> copyOf(
+            Iterable<? extends T> values) {
+        // checking for valid parameters
+        if (values == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        ArrayList<T> copy = new ArrayList<>();
+        for (T value : values) {
+            if (value == null)
+                throw new IllegalArgumentException("null values cannot be added");
+            copy.add(value);
+        }
+
+        if (copy.isEmpty())
+            return empty();
+
+        Object[] array = copy.toArray();
+        Node<T> root = build(array, 0, array.length);
+        return new PersistentList<>(root);
+    }
+
+    /**
+     * This method returns a new list with newValue added to the end. This
+     * list is not changed
+     *
+     * @param newValue (Value to be added to the list)
+     * @return new version of the list
+     */
+    public PersistentList<T> insertion(T newValue) {
+        // checking if newValue is null and throwing an exception
+        if (newValue == null) {
+            throw new IllegalArgumentException("null values cannot be added");
+        }
+
+        return new PersistentList<>(join(root, newValue, null));
+    }
+
+    /**
+     * This method returns a new list with newValue added at index position,
+     * so the elements from position onwards move up by one. This list is
+     * not changed
+     *
+     * @param position (index newValue will have, from 0 to length())
+     * @param newValue (Value to be added to the list)
+     * @return new version of the list
+     */
+    public PersistentList<T> insertion(int position, T newValue) {
+        // checking if newValue is null and throwing an exception
+        if (newValue == null) {
+            throw new IllegalArgumentException("null values cannot be added");
+        }
+        if (position < 0 || position > length())
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        Node<T>[] parts = split(root, position);
+        return new PersistentList<>(join(parts[0], newValue, parts[1]));
+    }
+
+    /**
+     * This method returns a new list without the element at index position.
+     * This list is not changed
+     *
+     * @param position (index of element to remove)
+     * @return new version of the list
+     */
+    public PersistentList<T> remove(int position) {
+        // checking if position can be a valid number to use.
+        if (position < 0 || position > length() - 1)
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        return removePositions(position, position + 1);
+    }
+
+    /**
+     * This method returns a new list without the values from the first
+     * occurrence of fromValue to the first occurrence of toValue at or after
+     * it, both included, the same as LinkedList.removeFromTo(). Values are
+     * the same if compareTo() returns 0. If either is not found, this list
+     * is returned. Finding the values takes O(n) time, and removing them
+     * O(log n), however many there are
+     *
+     * @param fromValue (value to start removing from)
+     * @param toValue   (value to end removing)
+     * @return new version of the list, or this list if nothing is removed
+     */
+    public PersistentList<T> removeFromTo(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int begin = -1;// index of fromValue
+        int index = 0;
+
+        for (T value : this) {
+            if (begin == -1 && value.compareTo(fromValue) == 0)
+                begin = index;
+            if (begin != -1 && value.compareTo(toValue) == 0)
+                return removePositions(begin, index + 1);
+            index++;
+        }
+
+        return this;
+    }
+
+    /**
+     * This method returns the empty list, the same way clear() empties a
+     * LinkedList. This list is not changed
+     *
+     * @return empty list
+     */
+    public PersistentList<T> clear() {
+        return empty();
+    }
+
+    /**
+     * This method returns the number of elements in the list. It takes O(1)
+     * time
+     *
+     * @return number of elements in the list
+     */
+    public int length() {
+        return size(root);
+    }
+
+    /**
+     * This method returns the value at index position in O(log n) time
+     *
+     * @param position (index of element to return)
+     * @return element that is at index "position"
+     */
+    public T valueAtIndex(int position) {
+        // checking if position can be a valid number to use.
+        if (position < 0 || position > length() - 1)
+            throw new IndexOutOfBoundsException("Invalid Position");
+
+        Node<T> current = root;
+
+        while (true) {
+            int leftSize = size(current.left);
+
+            if (position == leftSize)
+                return current.value;
+            if (position < leftSize)
+                current = current.left;
+            else {
+                position -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * This method returns the index of the first occurrence of value, or -1
+     * if it is not present. The first element is at index 0
+     *
+     * @param value (The value to search for and find the position)
+     * @return Index (The index of value to be returned)
+     */
+    public int getIndex(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int index = 0;
+
+        for (T current : this) {
+            if (current.compareTo(value) == 0)
+                return index;
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * This method checks if value is in the list
+     *
+     * @param value (element to search for in the list)
+     * @return true if element is found
+     *          false otherwise.
+     */
+    public boolean search(T value) {
+        return getIndex(value) != -1;
+    }
+
+    /**
+     * This method returns the number of times value is in the list, using
+     * compareTo() to check if values are the same
+     *
+     * @param value (Object to check to see if it exists )
+     * @return frequency (number of times that value appears in the list)
+     */
+    public int valueFrequency(T value) {
+        // checking if value is valid
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int frequency = 0;
+
+        for (T current : this) {
+            if (current.compareTo(value) == 0)
+                frequency++;
+        }
+
+        return frequency;
+    }
+
+    /**
+     * This method returns an iterator over the elements in order. The list
+     * never changes, so the iterator can never fail
+     *
+     * @return iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            // nodes whose value and right side are still to be returned
+            @SuppressWarnings("unchecked")
+            private final Node<T>[] stack =
+                    (Node<T>[]) new Node<?>[height(root)];
+            private int depth = pushLeft(root, 0);
+
+            @Override
+            public boolean hasNext() {
+                return depth > 0;
+            }
+
+            @Override
+            public T next() {
+                if (depth == 0)
+                    throw new NoSuchElementException();
+
+                Node<T> current = stack[--depth];
+                depth = pushLeft(current.right, depth);
+
+                return current.value;
+            }
+
+            /*pushes node and the nodes down its left side*/
+            private int pushLeft(Node<T> node, int top) {
+                while (node != null) {
+                    stack[top++] = node;
+                    node = node.left;
+                }
+
+                return top;
+            }
+        };
+    }
+
+    /**
+     * This method returns the elements of the list with a space in between
+     * them, the same way LinkedList does
+     *
+     * @return String representation of current object
+     */
+    @Override
+    public String toString() {
+        StringBuilder printList = new StringBuilder();
+
+        for (T value : this) {
+            if (printList.length() > 0)
+                printList.append(" ");
+            printList.append(value);
+        }
+
+        return printList.toString();
+    }
+
+    /**
+     * The compareTo() method compares two lists element by element, and
+     * returns the result of the first pair that is different. If one list
+     * runs out first, the shorter list is the smaller one. 0 is returned if
+     * both have the same elements in the same order
+     *
+     * @param otherList (list to compare against)
+     * @return result (negative, zero or positive)
+     */
+    @Override
+    public int compareTo(PersistentList<T> otherList) {
+        // versions that share their whole tree are equal
+        if (root == otherList.root)
+            return 0;
+
+        int result = 0;
+        Iterator<T> current = iterator();
+        Iterator<T> other = otherList.iterator();
+
+        while (result == 0 && current.hasNext() && other.hasNext())
+            result = Integer.signum(current.next().compareTo(other.next()));
+
+        if (result == 0)
+            result = Integer.compare(length(), otherList.length());
+
+        return result;
+    }
+
+    /*returns a new list without the elements from index from up to, not
+     * including, index to*/
+    private PersistentList<T> removePositions(int from, int to) {
+        Node<T> before = split(root, from)[0];
+        Node<T> after = split(root, to)[1];
+
+        return new PersistentList<>(concat(before, after));
+    }
+
+    /*This is a private method that builds a balanced tree from the values
+     * from index from up to, not including, index to*/
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] values, int from, int to) {
+        if (from == to)
+            return null;
+
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(values, from, middle), (T) values[middle],
+                build(values, middle + 1, to));
+    }
+
+    /*This is a private method that returns a tree with the elements of
+     * left, then value, then the elements of right. When one side is more
+     * than one level taller, value and the shorter side are joined further
+     * down the taller side, where the heights match, and the path back up is
+     * rebalanced. This takes time in proportion to the difference in height*/
+    private static <T> Node<T> join(Node<T> left, T value, Node<T> right) {
+        if (height(left) > height(right) + 1)
+            return joinRight(left, value, right);
+        if (height(right) > height(left) + 1)
+            return joinLeft(left, value, right);
+
+        return new Node<>(left, value, right);
+    }
+
+    /*join() for a left side more than one level taller than the right*/
+    private static <T> Node<T> joinRight(Node<T> left, T value, Node<T> right) {
+        Node<T> inner = left.right;
+
+        if (height(inner) <= height(right) + 1) {
+            Node<T> joined = new Node<>(inner, value, right);
+
+            if (height(joined) <= height(left.left) + 1)
+                return new Node<>(left.left, left.value, joined);
+
+            return rotateLeft(new Node<>(left.left, left.value,
+                    rotateRight(joined)));
+        }
+
+        Node<T> joined = joinRight(inner, value, right);
+        Node<T> result = new Node<>(left.left, left.value, joined);
+
+        return height(joined) <= height(left.left) + 1 ? result
+                : rotateLeft(result);
+    }
+
+    /*join() for a right side more than one level taller than the left*/
+    private static <T> Node<T> joinLeft(Node<T> left, T value, Node<T> right) {
+        Node<T> inner = right.left;
+
+        if (height(inner) <= height(left) + 1) {
+            Node<T> joined = new Node<>(left, value, inner);
+
+            if (height(joined) <= height(right.right) + 1)
+                return new Node<>(joined, right.value, right.right);
+
+            return rotateRight(new Node<>(rotateLeft(joined), right.value,
+                    right.right));
+        }
+
+        Node<T> joined = joinLeft(left, value, inner);
+        Node<T> result = new Node<>(joined, right.value, right.right);
+
+        return height(joined) <= height(right.right) + 1 ? result
+                : rotateRight(result);
+    }
+
+    /*This is a private method that cuts node into a tree of the first
+     * position elements and a tree of the rest, and returns both. Only the
+     * nodes on the path to position are copied*/
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] split(Node<T> node, int position) {
+        if (node == null)
+            return (Node<T>[]) new Node<?>[2];
+
+        int leftSize = size(node.left);
+        Node<T>[] parts;
+
+        if (position <= leftSize) {
+            parts = split(node.left, position);
+            parts[1] = join(parts[1], node.value, node.right);
+        } else {
+            parts = split(node.right, position - leftSize - 1);
+            parts[0] = join(node.left, node.value, parts[0]);
+        }
+
+        return parts;
+    }
+
+    /*returns a tree with the elements of left followed by those of right*/
+    private static <T> Node<T> concat(Node<T> left, Node<T> right) {
+        if (left == null)
+            return right;
+        if (right == null)
+            return left;
+
+        // the first element of right goes between them
+        Node<T> first = right;
+        while (first.left != null)
+            first = first.left;
+
+        return join(left, first.value, split(right, 1)[1]);
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+
+        return new Node<>(new Node<>(node.left, node.value, right.left),
+                right.value, right.right);
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+
+        return new Node<>(left.left, left.value,
+                new Node<>(left.right, node.value, node.right));
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
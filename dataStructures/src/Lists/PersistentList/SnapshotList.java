@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022. Do not use without permission. All Rights Reserved. Simi Ojeyomi
+ */
+
+/*This class is a list that writers change with insertion() and
+ * removeFromTo() like a LinkedList, while readers take snapshots of it. It
+ * holds the current PersistentList in an AtomicReference. A writer makes the
+ * next version from the current one and swaps it in with compareAndSet(),
+ * starting again if another writer swapped first. A reader only reads the
+ * reference, which takes O(1) time, and gets a version that no later change
+ * can touch. Readers never wait for writers, and writers never wait for
+ * readers, so there is no lock and no copy of the whole list*/
+package Lists.PersistentList;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SnapshotList<T extends Comparable<T>> {
+    private final AtomicReference<PersistentList<T>> current;
+
+    /**Default Constructor for the SnapshotList, starting empty*/
+    public SnapshotList() {
+        current = new AtomicReference<>(PersistentList.empty());
+    }
+
+    /**
+     * Constructor for a SnapshotList that starts with the values of
+     * initial, in the same order
+     *
+     * @param initial (values to start with)
+     */
+    public SnapshotList(Iterable<? extends T> initial) {
+        current = new AtomicReference<>(PersistentList.copyOf(initial));
+    }
+
+    /**
+     * This method returns the current version of the list in O(1) time. It
+     * never changes, whatever is done to this SnapshotList afterwards
+     *
+     * @return current version
+     */
+    public PersistentList<T> snapshot() {
+        return current.get();
+    }
+
+    /**
+     * This method adds newValue to the end of the list in O(log n) time
+     *
+     * @param newValue (Value to be added to the list)
+     */
+    public void insertion(T newValue) {
+        // checking if newValue is null and throwing an exception
+        if (newValue == null) {
+            throw new IllegalArgumentException("null values cannot be added");
+        }
+
+        current.updateAndGet(list -> list.insertion(newValue));
+    }
+
+    /**
+     * This method removes the values from the first occurrence of fromValue
+     * to the first occurrence of toValue at or after it, both included, the
+     * same as LinkedList.removeFromTo()
+     *
+     * @param fromValue (value to start removing from)
+     * @param toValue   (value to end removing)
+     */
+    public void removeFromTo(T fromValue, T toValue) {
+        // check if fromValue and toValue are parameters that are valid
+        if (fromValue == null || toValue == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        current.updateAndGet(list -> list.removeFromTo(fromValue, toValue));
+    }
+
+    /**This method removes all values from the list*/
+    public void clear() {
+        current.set(PersistentList.empty());
+    }
+
+    /**
+     * This method returns the number of values in the current version
+     *
+     * @return number of values in the list
+     */
+    public int length() {
+        return current.get().length();
+    }
+
+    /**
+     * This method returns the values of the current version with a space in
+     * between them
+     *
+     * @return String representation of current object
+     */
+    @Override
+    public String toString() {
+        return current.get().toString();
+    }
+}
@@ -9,6 +9,9 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 
 // this is a test for the MapGraph class
 public class MapGraphTest {
@@ -160,6 +163,126 @@ public class MapGraphTest {
         assertEquals(4, graph.edgeWeight("E", "A"));
     }
 
+    // testing induced subgraph, which leaves the current graph alone
+    @Test
+    public void testInducedSubgraph() {
+        MapGraph<Integer> graph = new MapGraph<>();
+        for (int i = 0; i < 50; i++) {
+            graph.makeEdge(i, (i + 1) % 50, i);
+            graph.makeEdge(i, (i + 7) % 50, i + 100);
+        }
+
+        Collection<Integer> sevens = new ArrayList<>();
+        for (int i = 0; i < 70; i += 7)
+            sevens.add(i);// 56 and 63 are not in the graph
+
+        MapGraph<Integer> sequential = graph.inducedSubgraph(sevens, false);
+        MapGraph<Integer> parallel = graph.inducedSubgraph(sevens, true);
+
+        assertEquals(8, sequential.getVertexCount());
+        assertEquals(8, parallel.getVertexCount());
+        assertEquals(50, graph.getVertexCount());// not modified
+
+        // i -> i + 7 stays for i up to 42, and 49 -> 0 wraps around
+        int edges = 0;
+        for (int i = 0; i < 50; i += 7) {
+            Collection<Integer> neighbors = sequential.verticesNeighbors(i);
+            assertEquals(new HashSet<>(neighbors),
+                    new HashSet<>(parallel.verticesNeighbors(i)));
+            for (int neighbor : neighbors) {
+                assertEquals(graph.edgeWeight(i, neighbor),
+                        sequential.edgeWeight(i, neighbor));
+                assertEquals(sequential.edgeWeight(i, neighbor),
+                        parallel.edgeWeight(i, neighbor));
+                edges++;
+            }
+        }
+        assertEquals(8, edges);
+        assertEquals(100, parallel.edgeWeight(0, 7));
+        assertEquals(142, parallel.edgeWeight(42, 49));
+        assertEquals(49, parallel.edgeWeight(49, 0));
+
+        Collection<Integer> block = new ArrayList<>();
+        for (int i = 10; i < 20; i++)
+            block.add(i);
+
+        MapGraph<Integer> sub = graph.inducedSubgraph(block);
+        assertEquals(10, sub.getVertexCount());
+        assertEquals(1, sub.verticesNeighbors(13).size());
+        assertEquals(2, sub.verticesNeighbors(12).size());
+        assertEquals(12, sub.edgeWeight(12, 13));
+        assertEquals(112, sub.edgeWeight(12, 19));
+        assertEquals(-1, sub.edgeWeight(19, 20));
+
+        // splitting removes the edges of the block from the current graph
+        graph.spiltGraph(block);
+        assertEquals(40, graph.getVertexCount());
+        assertEquals(0, graph.verticesNeighbors(9).size());
+        assertEquals(1, graph.verticesNeighbors(5).size());
+        assertEquals(0, graph.verticesPredecessors(20).size());
+        assertFalse(graph.toString().contains("edge910"));
+    }
+
+    // a vertex with many neighbors keeps them in order and finds them fast
+    @Test
+    public void testHighDegreeVertex() {
+        MapGraph<Integer> graph = new MapGraph<>();
+        for (int i = 1; i <= 100; i++)
+            graph.makeEdge(0, i, i);
+
+        // making an existing edge again only changes its weight
+        graph.makeEdge(0, 50, 500);
+        assertEquals(100, graph.verticesNeighbors(0).size());
+        assertEquals(500, graph.edgeWeight(0, 50));
+
+        for (int i = 2; i <= 100; i += 2)
+            assertTrue(graph.removeEdge(0, i));
+        assertFalse(graph.removeEdge(0, 2));
+
+        Collection<Integer> neighbors = graph.verticesNeighbors(0);
+        assertEquals(50, neighbors.size());
+        int expected = 1;
+        for (int neighbor : neighbors) {
+            assertEquals(expected, neighbor);// order is kept
+            expected += 2;
+        }
+
+        assertEquals(1, graph.verticesPredecessors(99).size());
+        assertEquals(0, graph.verticesPredecessors(98).size());
+
+        graph.deleteVertex(99);
+        assertEquals(49, graph.verticesNeighbors(0).size());
+        assertFalse(graph.verticesNeighbors(0).contains(99));
+    }
+
+    // removing and adding edges of a high degree vertex in random order
+    // keeps every lookup right
+    @Test
+    public void testHighDegreeChurn() {
+        MapGraph<String> graph = new MapGraph<>();
+        Random random = new Random(30);
+        List<String> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20000; step++) {
+            String vertex = "v" + random.nextInt(400);
+
+            if (expected.contains(vertex)) {
+                assertTrue(graph.removeEdge("hub", vertex));
+                expected.remove(vertex);
+            } else {
+                assertTrue(graph.makeEdge("hub", vertex, 1));
+                expected.add(vertex);
+            }
+        }
+
+        assertEquals(expected, new ArrayList<>(graph.verticesNeighbors("hub")));
+        for (int i = 0; i < 400; i++) {
+            String vertex = "v" + i;
+            assertEquals(expected.contains(vertex),
+                    graph.verticesPredecessors(vertex).contains("hub"));
+        }
+    }
+
     // This tests the method predecessorsOfVertices
     @Test
     public void testPredecessors() {
@@ -0,0 +1,127 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+package GraphsTest;
+
+// importing libraries required
+import Graphs.ListGraph.ListGraph;
+import Graphs.MapGraph.MapGraph;
+import Graphs.Pregel.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Map;
+
+// this is a test for the PregelEngine class and the programs that come with it
+class PregelEngineTest {
+
+    // builds the same weighted graph used in the traversal tests
+    private MapGraph<Character> alphabet() {
+        MapGraph<Character> alphabet = new MapGraph<>();
+        alphabet.makeEdge('A','B', 1);
+        alphabet.makeEdge('A','E', 8);
+        alphabet.makeEdge('B','C', 2);
+        alphabet.makeEdge('B','E', 5);
+        alphabet.makeEdge('C','F', 3);
+        alphabet.makeEdge('C','H', 6);
+        alphabet.makeEdge('D','G', 9);
+        alphabet.makeEdge('E','C', 4);
+        alphabet.makeEdge('E','D', 7);
+        alphabet.makeEdge('E','F', 3);
+        alphabet.makeEdge('E','G', 5);
+        alphabet.makeEdge('F','G', 8);
+        alphabet.makeEdge('G','H', 6);
+        alphabet.makeEdge('H','F', 1);
+        alphabet.addVertex('Z');// not connected to anything
+
+        return alphabet;
+    }
+
+    // shortest paths must be the same on every executor
+    @Test
+    void testShortestPaths() {
+        MapGraph<Character> graph = alphabet();
+        ComputeExecutor[] executors = {ComputeExecutor.singleThread(),
+                ComputeExecutor.forkJoin(), ComputeExecutor.virtualThreads()};
+
+        for (ComputeExecutor executor : executors) {
+            PregelEngine<Character> engine = new PregelEngine<>(graph, executor);
+            Map<Character, Integer> distance = engine.run(
+                    new ShortestPaths<>('A', graph::edgeWeight));
+
+            assertEquals(0, (int) distance.get('A'));
+            assertEquals(1, (int) distance.get('B'));
+            assertEquals(3, (int) distance.get('C'));
+            assertEquals(13, (int) distance.get('D'));
+            assertEquals(6, (int) distance.get('E'));
+            assertEquals(6, (int) distance.get('F'));
+            assertEquals(11, (int) distance.get('G'));
+            assertEquals(9, (int) distance.get('H'));
+            assertEquals(Integer.MAX_VALUE, (int) distance.get('Z'));
+            executor.close();
+        }
+
+        // without weights, the distance is the number of edges
+        Map<Character, Integer> hops = new PregelEngine<>(graph)
+                .run(new ShortestPaths<>('A'));
+        assertEquals(2, (int) hops.get('D'));
+        assertEquals(2, (int) hops.get('G'));
+    }
+
+    // connected components works on a list graph too
+    @Test
+    void testConnectedComponents() {
+        ListGraph<Integer> graph = new ListGraph<>();
+        for (int i = 0; i < 10; i++)
+            graph.addEdge(i, i + 1);// 0 to 10 is one component
+        graph.addEdge(25, 20);
+        graph.addEdge(21, 20);// 20, 21 and 25 form another one
+        graph.addVertex(30);
+
+        PregelEngine<Integer> engine = new PregelEngine<>(graph);
+        Map<Integer, Integer> component = engine.run(new ConnectedComponents<>());
+
+        for (int i = 0; i <= 10; i++)
+            assertEquals(0, (int) component.get(i));
+        assertEquals(20, (int) component.get(25));
+        assertEquals(20, (int) component.get(21));
+        assertEquals(30, (int) component.get(30));
+        assertEquals(15, component.size());
+
+        /* label 0 reaches vertex 10 in superstep 10, and one more
+         * superstep is needed for vertex 9 to hear back from it*/
+        assertEquals(12, engine.getSuperstepCount());
+
+        // stopping early leaves the end of the chain with a bigger label
+        Map<Integer, Integer> early = engine.run(new ConnectedComponents<>(), 3);
+        assertEquals(3, engine.getSuperstepCount());
+        assertEquals(8, (int) early.get(10));
+    }
+
+    // two triangles joined by one edge become two communities
+    @Test
+    void testLabelPropagation() {
+        MapGraph<Integer> graph = new MapGraph<>();
+        int[][] edges = {{1, 2}, {2, 3}, {3, 1}, {4, 5}, {5, 6}, {6, 4}, {3, 4}};
+        for (int[] edge : edges)
+            graph.makeEdge(edge[0], edge[1], 1);
+
+        Map<Integer, Integer> community = new PregelEngine<>(graph,
+                ComputeExecutor.singleThread()).run(new LabelPropagation<>(5));
+
+        assertEquals(community.get(1), community.get(2));
+        assertEquals(community.get(1), community.get(3));
+        assertEquals(community.get(4), community.get(5));
+        assertEquals(community.get(4), community.get(6));
+    }
+
+    // testing null parameters
+    @Test
+    void testNullEvents() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PregelEngine<Integer>(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PregelEngine<>(new MapGraph<Integer>()).run(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShortestPaths<Integer>(null));
+    }
+}
@@ -0,0 +1,134 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+package GraphsTest;
+
+// importing libraries required
+import Graphs.MapGraph.MapGraph;
+import Graphs.Partitioning.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Map;
+
+// this is a test for the ShardedGraph class and the partitioners
+class ShardedGraphTest {
+
+    // builds two rings of 10 vertices each, joined by a single edge
+    private MapGraph<Integer> twoRings() {
+        MapGraph<Integer> graph = new MapGraph<>();
+
+        for (int i = 0; i < 10; i++) {
+            graph.makeEdge(i, (i + 1) % 10, i + 1);
+            graph.makeEdge(10 + i, 10 + (i + 1) % 10, 10 + i);
+        }
+        graph.makeEdge(9, 10, 100);
+
+        return graph;
+    }
+
+    // every edge must survive the split, either in a shard or as a boundary
+    @Test
+    void testNoEdgeIsLost() {
+        MapGraph<Integer> graph = twoRings();
+        ShardedGraph<Integer> sharded = new ShardedGraph<>(graph,
+                new HashPartitioner<>(), 3);
+
+        assertEquals(3, sharded.getShardCount());
+        assertEquals(20, sharded.getVertexCount());
+
+        for (int v = 0; v < 20; v++) {
+            assertTrue(sharded.findVertex(v));
+            assertEquals(graph.verticesNeighbors(v).size(),
+                    sharded.verticesNeighbors(v).size());
+
+            for (int n : graph.verticesNeighbors(v))
+                assertEquals(graph.edgeWeight(v, n), sharded.edgeWeight(v, n));
+        }
+        assertEquals(100, sharded.edgeWeight(9, 10));
+        assertEquals(-1, sharded.edgeWeight(10, 9));
+
+        // the original graph is not modified
+        assertEquals(20, graph.getVertexCount());
+    }
+
+    // range and label propagation keep the rings together
+    @Test
+    void testPartitioners() {
+        MapGraph<Integer> graph = twoRings();
+
+        Map<Integer, Integer> range = new RangePartitioner<Integer>()
+                .partition(graph, 2);
+        for (int v = 0; v < 20; v++)
+            assertEquals(v < 10 ? 0 : 1, (int) range.get(v));
+
+        ShardedGraph<Integer> balanced = new ShardedGraph<>(graph,
+                new LabelPropagationPartitioner<>(), 2);
+        // only the edge joining the two rings crosses shards
+        assertEquals(1, balanced.getBoundaryEdgeCount());
+        assertEquals(10, balanced.getShard(0).getVertexCount());
+        assertEquals(10, balanced.getShard(1).getVertexCount());
+
+        ShardedGraph<Integer> hashed = new ShardedGraph<>(graph,
+                new HashPartitioner<>(), 2);
+        assertTrue(hashed.getBoundaryEdgeCount() > 1);
+    }
+
+    // adding and removing vertices and edges after the split
+    @Test
+    void testModifyShardedGraph() {
+        ShardedGraph<Integer> sharded = new ShardedGraph<>(twoRings(),
+                new RangePartitioner<>(), 2);
+
+        assertTrue(sharded.makeEdge(3, 15, 7));// boundary edge
+        assertTrue(sharded.makeEdge(3, 4, 8));// edge inside shard 0
+        assertFalse(sharded.makeEdge(3, 5, -1));
+        assertEquals(7, sharded.edgeWeight(3, 15));
+        assertEquals(8, sharded.edgeWeight(3, 4));
+        assertEquals(2, sharded.getBoundaryEdgeCount());
+
+        assertTrue(sharded.removeEdge(3, 15));
+        assertFalse(sharded.removeEdge(3, 15));
+        assertEquals(1, sharded.getBoundaryEdgeCount());
+
+        assertTrue(sharded.addVertex(42));
+        assertFalse(sharded.addVertex(42));
+        assertTrue(sharded.shardOf(42) >= 0);
+
+        // deleting a vertex removes its boundary edges too
+        assertTrue(sharded.deleteVertex(10));
+        assertFalse(sharded.findVertex(10));
+        assertEquals(0, sharded.getBoundaryEdgeCount());
+        assertEquals(-1, sharded.shardOf(10));
+        assertNull(sharded.verticesNeighbors(10));
+    }
+
+    // traversal across shards must give the same levels as a normal bfs
+    @Test
+    void testShardParallelBFS() {
+        ShardedGraph<Integer> sharded = new ShardedGraph<>(twoRings(),
+                new HashPartitioner<>(), 4);
+        ShardedTraverse<Integer> traverse = new ShardedTraverse<>(2);
+
+        Map<Integer, Integer> levels = traverse.BFS(sharded, 0);
+        assertEquals(20, levels.size());
+        for (int v = 0; v < 10; v++)
+            assertEquals(v, (int) levels.get(v));
+        for (int v = 10; v < 20; v++)
+            assertEquals(v, (int) levels.get(v));
+
+        // nothing can be reached from the second ring back into the first
+        assertEquals(10, traverse.BFS(sharded, 15).size());
+        assertTrue(traverse.BFS(sharded, 99).isEmpty());
+    }
+
+    // testing null parameters
+    @Test
+    void testNullEvents() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedGraph<>(null, new HashPartitioner<Integer>(), 2));
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedGraph<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedTraverse<Integer>().BFS(null, 1));
+    }
+}
@@ -0,0 +1,100 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+package GraphsTest;
+
+// importing libraries required
+import Graphs.ListGraph.ListGraph;
+import Graphs.MapGraph.MapGraph;
+import Graphs.TriangleCounting.TriangleCounter;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+// this is a test for the TriangleCounter class
+class TriangleCounterTest {
+
+    // four vertices all connected to each other, and one hanging off them
+    @Test
+    void testCompleteGraph() {
+        MapGraph<Integer> graph = new MapGraph<>();
+        graph.makeEdge(1, 2, 1);
+        graph.makeEdge(2, 1, 1);// same edge in the other direction
+        graph.makeEdge(1, 3, 1);
+        graph.makeEdge(4, 1, 1);
+        graph.makeEdge(2, 3, 1);
+        graph.makeEdge(4, 2, 1);
+        graph.makeEdge(3, 4, 1);
+        graph.makeEdge(3, 3, 1);// self loops are ignored
+        graph.makeEdge(5, 1, 1);
+
+        TriangleCounter<Integer> counter = new TriangleCounter<>(graph);
+
+        assertEquals(4, counter.triangleCount());
+        assertEquals(3, counter.triangleCount(1));
+        assertEquals(3, counter.triangleCount(3));
+        assertEquals(0, counter.triangleCount(5));
+        assertEquals(-1, counter.triangleCount(6));
+
+        assertEquals(0.5, counter.clusteringCoefficient(1), 1e-9);
+        assertEquals(1.0, counter.clusteringCoefficient(2), 1e-9);
+        assertEquals(0.0, counter.clusteringCoefficient(5), 1e-9);
+        assertEquals(0.7, counter.averageClusteringCoefficient(), 1e-9);
+        assertEquals(0.8, counter.globalClusteringCoefficient(), 1e-9);
+    }
+
+    // the counts must match checking every group of three vertices
+    @Test
+    void testRandomGraph() {
+        ListGraph<Integer> graph = new ListGraph<>();
+        Random random = new Random(7);
+        int n = 40;
+        boolean[][] connected = new boolean[n][n];
+
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        for (int e = 0; e < 250; e++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            graph.addEdge(u, v);
+            connected[u][v] = connected[v][u] = u != v;
+        }
+
+        long expected = 0;
+        long[] perVertex = new long[n];
+        for (int a = 0; a < n; a++)
+            for (int b = a + 1; b < n; b++)
+                for (int c = b + 1; c < n; c++)
+                    if (connected[a][b] && connected[b][c] && connected[a][c]) {
+                        expected++;
+                        perVertex[a]++;
+                        perVertex[b]++;
+                        perVertex[c]++;
+                    }
+
+        TriangleCounter<Integer> parallel = new TriangleCounter<>(graph, true);
+        TriangleCounter<Integer> sequential = new TriangleCounter<>(graph, false);
+
+        assertEquals(expected, parallel.triangleCount());
+        assertEquals(expected, sequential.triangleCount());
+        for (int i = 0; i < n; i++) {
+            assertEquals(perVertex[i], parallel.triangleCount(i));
+            assertEquals(perVertex[i], (long) sequential.triangleCounts().get(i));
+        }
+    }
+
+    // testing an empty graph and null parameters
+    @Test
+    void testEmptyAndNull() {
+        TriangleCounter<String> counter =
+                new TriangleCounter<>(new MapGraph<String>());
+
+        assertEquals(0, counter.triangleCount());
+        assertEquals(0.0, counter.averageClusteringCoefficient(), 1e-9);
+        assertEquals(0.0, counter.globalClusteringCoefficient(), 1e-9);
+        assertThrows(IllegalArgumentException.class,
+                () -> counter.triangleCount(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriangleCounter<String>(null));
+    }
+}
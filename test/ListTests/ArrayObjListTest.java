@@ -0,0 +1,238 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+package ListTests;
+
+import Lists.ObjList.ArrayObjList;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// test for the arrayObjList class
+
+class ArrayObjListTest {
+    // testing events where null could come up or as null parameters
+    @Test
+    void testNullEvents() {
+        ArrayObjList list = new ArrayObjList();
+        assertThrows(IllegalArgumentException.class, () -> list.insertion(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.removeFromTo(null, "alpha"));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayObjList(-1));
+        assertEquals(0, list.length());
+        assertEquals("", list.toString());
+    }
+
+    @Test
+    void insertion() {
+        ArrayObjList animal = new ArrayObjList(2);
+        animal.insertion("ant");
+        animal.insertion("bat");
+        animal.insertion("cat");
+        animal.insertion("dogs");
+        animal.insertion("elephant");
+        animal.insertion("fox");
+        animal.insertion("goat");
+
+        assertEquals(7, animal.length());
+        assertEquals("ant bat cat dogs elephant fox goat", animal.toString());
+        assertEquals("goat fox elephant dogs cat bat ant",
+                animal.toStringReversal());
+        assertTrue(animal.search("dogs"));
+        assertFalse(animal.search("turkey"));
+    }
+
+    // rotating both ways, with and without a full array
+    @Test
+    void rotation() {
+        ArrayObjList alphabets = new ArrayObjList();
+        alphabets.insertion('A');
+        alphabets.insertion('D');
+        alphabets.insertion('C');
+        alphabets.insertion('B');
+
+        alphabets.makeNewList(0);
+        assertEquals("A D C B", alphabets.toString());
+        alphabets.makeNewList(3);
+        assertEquals("B A D C", alphabets.toString());
+        alphabets.makeNewList(1);
+        assertEquals("A D C B", alphabets.toString());
+        alphabets.moveLastToBegin();
+        assertEquals("B A D C", alphabets.toString());
+        assertEquals("C D A B", alphabets.toStringReversal());
+
+        ArrayObjList full = new ArrayObjList();
+        for (int i = 0; i < 16; i++)
+            full.insertion(i);
+        full.makeNewList(10);
+        full.moveLastToBegin();
+        full.insertion(16);// grows with head in the middle of the array
+        assertEquals("9 10 11 12 13 14 15 0 1 2 3 4 5 6 7 8 16",
+                full.toString());
+    }
+
+    @Test
+    void removeFromTo() {
+        ArrayObjList streaming = new ArrayObjList();
+        streaming.insertion("Netflix");
+        streaming.insertion("Disney");
+        streaming.insertion("Hulu");
+        streaming.insertion("123Movies");
+        streaming.insertion("Peacock");
+        streaming.insertion("HBOMax");
+        streaming.insertion("Prime Video");
+        streaming.insertion("Crunchy-roll");
+
+        streaming.removeFromTo("Hulu", "HBOMax");
+        assertEquals("Netflix Disney Prime Video Crunchy-roll",
+                streaming.toString());
+
+        streaming.removeFromTo("Netflix", "Netflix");
+        assertEquals(3, streaming.length());
+
+        // nothing is removed when the end is not found
+        streaming.removeFromTo("Disney", "Hulu");
+        assertEquals("Disney Prime Video Crunchy-roll", streaming.toString());
+    }
+
+    @Test
+    void filtration() {
+        ArrayObjList numbers = new ArrayObjList();
+
+        for (int i = 10; i >= 0; i--)
+            numbers.insertion(i);
+
+        numbers.intFilter(6);
+        assertEquals("6 5 4 3 2 1 0", numbers.toString());
+        numbers.intFilter(0);
+        assertEquals(1, numbers.length());
+        numbers.intFilter(-1);
+        assertEquals(0, numbers.length());
+
+        // an element that is not an integer stops the filter, and the list
+        // is left with every element from it onwards, once
+        ArrayObjList mixed = new ArrayObjList();
+        mixed.insertion(5);
+        mixed.insertion(100);
+        mixed.insertion(3);
+        mixed.insertion("x");
+        mixed.insertion(50);
+        assertThrows(ClassCastException.class, () -> mixed.intFilter(10));
+        assertEquals("5 3 x 50", mixed.toString());
+        assertEquals(4, mixed.length());
+    }
+
+    // removing through the iterator, and changing the list during iteration
+    @Test
+    void iteratorRemove() {
+        ArrayObjList numbers = new ArrayObjList();
+        for (int i = 0; i < 10; i++)
+            numbers.insertion(i);
+
+        Iterator<Object> iterator = numbers.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            if ((Integer) iterator.next() % 3 != 0)
+                iterator.remove();
+        }
+        assertEquals("0 3 6 9", numbers.toString());
+
+        Iterator<Object> stale = numbers.iterator();
+        stale.next();
+        numbers.insertion(12);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+
+    // comparing against an ArrayList after many random changes
+    @Test
+    void randomOperations() {
+        Random random = new Random(41);
+        ArrayObjList list = new ArrayObjList();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int choice = random.nextInt(6);
+
+            if (choice < 3) {
+                int value = random.nextInt(100);
+                list.insertion(value);
+                expected.add(value);
+            } else if (choice == 3 && expected.size() > 0) {
+                int count = random.nextInt(expected.size());
+                list.makeNewList(count);
+                if (count > 0)
+                    expected.addAll(expected.subList(0, count));
+                expected.subList(0, count).clear();
+            } else if (choice == 4 && expected.size() > 1) {
+                list.moveLastToBegin();
+                expected.add(0, expected.remove(expected.size() - 1));
+            } else {
+                Integer x = random.nextInt(100);
+                Integer y = random.nextInt(100);
+                list.removeFromTo(x, y);
+                int begin = expected.indexOf(x);
+                if (begin != -1) {
+                    int end = expected.subList(begin, expected.size()).indexOf(y);
+                    if (end != -1)
+                        expected.subList(begin, begin + end + 1).clear();
+                }
+            }
+
+            assertEquals(expected.size(), list.length());
+        }
+
+        StringBuilder printed = new StringBuilder();
+        for (Object value : list)
+            printed.append(printed.length() > 0 ? " " : "").append(value);
+        assertEquals(printed.toString(), list.toString());
+        assertEquals(expected.stream().map(String::valueOf)
+                .collect(Collectors.joining(" ")), list.toString());
+    }
+
+    @Test
+    void streams() {
+        ArrayObjList list = new ArrayObjList();
+        for (int i = 0; i < 10000; i++)
+            list.insertion(i);
+        list.makeNewList(5000);
+
+        assertEquals(49995000L,
+                list.parallelStream().mapToLong(x -> (Integer) x).sum());
+        assertEquals(list.toString(), list.parallelStream().map(String::valueOf)
+                .collect(Collectors.joining(" ")));
+        list.clear();
+        assertEquals(0, list.stream().count());
+    }
+
+    @Test
+    void writeTo() throws IOException {
+        ArrayObjList list = new ArrayObjList();
+        for (int i = 0; i < 40; i++)
+            list.insertion(i);
+        list.makeNewList(30);
+
+        StringBuilder forward = new StringBuilder();
+        assertEquals(40, list.writeTo(forward));
+        assertEquals(list.toString(), forward.toString());
+
+        StringBuilder backward = new StringBuilder();
+        assertEquals(2, list.writeReversedTo(backward, 2));
+        assertEquals("29 28", backward.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeReversedTo(Channels.newChannel(bytes), 100);
+        assertEquals(list.toStringReversal(),
+                bytes.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,133 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+// This class contains test written for the ConcurrentObjQueue
+package ListTests;
+
+// importing all necessary libraries
+import Lists.ObjList.ConcurrentObjQueue;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class ConcurrentObjQueueTest {
+
+    // on one thread it behaves like a first in, first out ObjList
+    @Test
+    public void testSingleThread() {
+        ConcurrentObjQueue queue = new ConcurrentObjQueue();
+        assertThrows(IllegalArgumentException.class, () -> queue.insertion(null));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+
+        queue.insertion("giraffe");
+        queue.insertion(12345);
+        queue.insertion('w');
+        queue.insertion(false);
+
+        assertEquals("giraffe 12345 w false", queue.toString());
+        assertEquals(4, queue.length());
+        assertEquals("giraffe", queue.peek());
+        assertEquals("giraffe", queue.poll());
+        assertEquals(12345, (int) (Integer) queue.poll());
+        assertEquals("w false", queue.toString());
+
+        queue.poll();
+        queue.poll();
+        assertTrue(queue.isEmpty());
+        assertEquals("", queue.toString());
+        queue.insertion("gerbil");
+        assertEquals("gerbil", queue.toString());
+    }
+
+    // an iterator keeps going while the objects before it are taken
+    @Test
+    public void testWeaklyConsistentIterator() {
+        ConcurrentObjQueue queue = new ConcurrentObjQueue();
+        for (int i = 0; i < 10; i++)
+            queue.insertion(i);
+
+        Iterator<Object> iterator = queue.iterator();
+        assertEquals(0, (int) (Integer) iterator.next());
+        assertEquals(1, (int) (Integer) iterator.next());
+
+        // the node iterator stands on is taken, so it starts again from head
+        for (int i = 0; i < 5; i++)
+            queue.poll();
+        queue.insertion(10);
+
+        List<Object> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+        assertEquals("[2, 5, 6, 7, 8, 9, 10]", rest.toString());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    // every object added by the producers is taken exactly once
+    @Test
+    public void testProducersAndConsumers() throws Exception {
+        ConcurrentObjQueue queue = new ConcurrentObjQueue();
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 20000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers + consumers);
+        List<Future<long[]>> taken = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            pool.submit(() -> {
+                for (int i = 0; i < perProducer; i++)
+                    queue.insertion(producer * perProducer + i);
+            });
+        }
+
+        // every consumer sums what it takes, and checks each producer's
+        // objects come out in the order they were added
+        for (int c = 0; c < consumers; c++) {
+            taken.add(pool.submit(() -> {
+                long[] result = new long[2];
+                int[] last = new int[producers];
+                Arrays.fill(last, -1);
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+                while (result[0] < (long) producers * perProducer / consumers &&
+                        System.nanoTime() < deadline) {
+                    Object value = queue.poll();
+                    if (value == null) {
+                        Thread.yield();
+                        continue;
+                    }
+
+                    int number = (Integer) value;
+                    assertTrue(number > last[number / perProducer]);
+                    last[number / perProducer] = number;
+                    result[0]++;
+                    result[1] += number;
+                }
+                return result;
+            }));
+        }
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        long count = 0;
+        long sum = 0;
+        for (Future<long[]> result : taken) {
+            count += result.get()[0];
+            sum += result.get()[1];
+        }
+
+        long total = (long) producers * perProducer;
+        assertEquals(total, count);
+        assertEquals(total * (total - 1) / 2, sum);
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,111 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+// This class contains test written for the ConcurrentSortedList
+package ListTests;
+
+// importing all necessary libraries
+import Lists.LinkedList.ConcurrentSortedList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class ConcurrentSortedListTest {
+
+    // on one thread it behaves like a SortedLinkedList
+    @Test
+    public void testSingleThread() {
+        int[] testArray = {52, 66, 10, 92, 81, 89,
+                64, 33, 34, 92,  9, 58,
+                96, 92, 92, 35, 24, 96,22};
+        ConcurrentSortedList<Integer> list = new ConcurrentSortedList<>();
+
+        for (int j : testArray)
+            list.insertion(j);
+
+        assertEquals("9 10 22 24 33 34 35 52 58 64 66 81 89 92 92 92"
+                + " 92 96 96", list.toString());
+        assertEquals(19, list.length());
+        assertEquals(4, list.valueFrequency(92));
+        assertTrue(list.search(35));
+        assertFalse(list.search(36));
+
+        // every value between 24 and 58 is removed
+        assertEquals(6, list.removeFromTo(24, 58));
+        assertEquals("9 10 22 64 66 81 89 92 92 92 92 96 96", list.toString());
+        assertEquals(0, list.removeFromTo(40, 50));
+        assertEquals(0, list.removeFromTo(96, 9));
+
+        list.clear();
+        assertEquals("", list.toString());
+        assertEquals(0, list.length());
+        assertThrows(IllegalArgumentException.class, () -> list.insertion(null));
+    }
+
+    // many producers adding while another thread removes a range
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        ConcurrentSortedList<Integer> list = new ConcurrentSortedList<>();
+        int threads = 16;
+        int perThread = 5000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        List<Future<Integer>> removers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int producer = t;
+            pool.submit(() -> {
+                for (int i = 0; i < perThread; i++)
+                    list.insertion(i * threads + producer);// all distinct
+            });
+        }
+
+        // removing the negative values, while they are being added
+        for (int i = 0; i < 1000; i++)
+            list.insertion(-1 - i);
+        removers.add(pool.submit(() -> list.removeFromTo(-1000, -1)));
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        int removed = removers.get(0).get();
+        assertEquals(1000, removed);
+        assertEquals(threads * perThread, list.length());
+
+        // the values must be in order, with every value exactly once
+        int expected = 0;
+        for (int value : list)
+            assertEquals(expected++, value);
+        assertEquals(threads * perThread, expected);
+    }
+
+    // threads adding and removing the same values
+    @Test
+    public void testConcurrentRemoval() throws Exception {
+        ConcurrentSortedList<Integer> list = new ConcurrentSortedList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> removed = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++)
+            list.insertion(i % 100);
+
+        // every value is removed by exactly one of the threads
+        for (int t = 0; t < 8; t++)
+            removed.add(pool.submit(() -> list.removeFromTo(0, 99)));
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        int total = 0;
+        for (Future<Integer> count : removed)
+            total += count.get();
+
+        assertEquals(2000, total);
+        assertEquals(0, list.length());
+        assertEquals("", list.toString());
+    }
+}
@@ -0,0 +1,95 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+package ListTests;
+
+import Lists.ObjList.IntList;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// test for the intList class
+
+class IntListTest {
+    @Test
+    void insertion() {
+        IntList list = new IntList(0);
+        for (int i = 1; i <= 5; i++)
+            list.insertion(i * 10);
+
+        assertEquals(5, list.length());
+        assertEquals("10 20 30 40 50", list.toString());
+        assertEquals("50 40 30 20 10", list.toStringReversal());
+        assertEquals(30, list.valueAtIndex(2));
+        assertTrue(list.search(40));
+        assertFalse(list.search(45));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.valueAtIndex(5));
+        assertThrows(IllegalArgumentException.class, () -> new IntList(-1));
+    }
+
+    // same results as ObjList.intFilter, including the extreme boundaries
+    @Test
+    void filtration() {
+        IntList numbers = new IntList();
+        for (int i = 10; i >= 0; i--)
+            numbers.insertion(i);
+
+        numbers.intFilter(6);
+        assertEquals("6 5 4 3 2 1 0", numbers.toString());
+        numbers.intFilter(0);
+        assertEquals(1, numbers.length());
+        numbers.intFilter(-1);
+        assertEquals(0, numbers.length());
+
+        numbers.insertion(Integer.MIN_VALUE);
+        numbers.insertion(Integer.MAX_VALUE);
+        numbers.intFilter(Integer.MAX_VALUE);
+        assertEquals(2, numbers.length());
+        numbers.intFilter(Integer.MIN_VALUE);
+        assertEquals("" + Integer.MIN_VALUE, numbers.toString());
+    }
+
+    @Test
+    void filterRemoveIfPartition() {
+        IntList numbers = new IntList();
+        for (int i = 0; i < 10; i++)
+            numbers.insertion(i);
+
+        IntList even = numbers.filter(x -> x % 2 == 0);
+        assertEquals("0 2 4 6 8", even.toString());
+        assertEquals(10, numbers.length());
+
+        assertEquals(4, numbers.partition(x -> x % 3 == 0));
+        assertEquals("0 3 6 9 1 2 4 5 7 8", numbers.toString());
+
+        assertEquals(4, numbers.removeIf(x -> x > 5));
+        assertEquals("0 3 1 2 4 5", numbers.toString());
+        assertThrows(IllegalArgumentException.class, () -> numbers.removeIf(null));
+
+        even.insertion(10);
+        assertEquals("0 2 4 6 8 10", even.toString());
+    }
+
+    @Test
+    void randomFiltering() {
+        Random random = new Random(42);
+        IntList numbers = new IntList();
+        for (int i = 0; i < 100000; i++)
+            numbers.insertion(random.nextInt());
+
+        int[] before = numbers.toArray();
+        long expected = Arrays.stream(before).filter(x -> x <= 12345).count();
+
+        IntList copy = numbers.filter(x -> true);
+        copy.intFilter(12345);
+        assertEquals(expected, copy.length());
+        assertEquals((int) expected, numbers.partition(x -> x <= 12345));
+        assertArrayEquals(copy.toArray(),
+                Arrays.copyOf(numbers.toArray(), (int) expected));
+        assertEquals(Arrays.stream(before).asLongStream().sum(),
+                numbers.stream().asLongStream().sum());
+    }
+}
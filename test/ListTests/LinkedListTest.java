@@ -8,6 +8,19 @@ package ListTests;
 import Lists.LinkedList.*;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 class LinkedListTest {
     // testing addSorted. This tests the SortedLinkedList to see if objects
@@ -72,6 +85,25 @@ class LinkedListTest {
         assertEquals("52 66 10 81 89 92 9 58 96 "
                 + "92 92 35 24 96 22",list1.toString());
 
+        // a range that starts at the first element
+        list1.removeFromTo(52, 10);
+        assertEquals("81 89 92 9 58 96 92 92 35 24 96 22", list1.toString());
+        assertEquals(12, list1.length());
+        assertEquals(0, list1.getIndex(81));
+
+        LinkedList<Integer> list2 = new LinkedList<>(true, true);
+        for (int i = 1; i <= 5; i++)
+            list2.insertion(i);
+        list2.removeFromTo(1, 2);
+        assertEquals("3 4 5", list2.toString());
+        assertEquals(3, list2.valueAtIndex(0).intValue());
+        assertFalse(list2.search(1));
+
+        // and one that takes every element, after which the tail is head
+        list2.removeFromTo(3, 5);
+        assertEquals(0, list2.length());
+        list2.insertion(6);
+        assertEquals("6", list2.toString());
     }
     // tests how many times  data occurs
     @Test
@@ -341,4 +373,510 @@ class LinkedListTest {
       streaming.removeEveryOther();
       assertEquals(2,streaming.length());
   }
+
+  // testing valueAtIndex with the positional index, after every kind of change
+  @Test
+    public void testPositionIndex(){
+      LinkedList<Integer> list = new LinkedList<>(true);
+      LinkedList<Integer> sorted = new SortedLinkedList<>(true);
+
+      for (int i = 0; i < 500; i++) {
+          list.insertion(i % 70);
+          sorted.insertion((i * 37) % 101);
+      }
+      list.removeFromTo(5, 64);
+      sorted.removeFromTo(10, 20);
+      list.removeEveryOther();
+
+      for (LinkedList<Integer> current : List.of(list, sorted)) {
+          String[] values = current.toString().split(" ");
+          assertEquals(values.length, current.length());
+
+          // duplicates are returned at their own index
+          for (int i = 0; i < values.length; i++)
+              assertEquals(values[i], current.valueAtIndex(i).toString());
+      }
+
+      // adding to the end after the index was rebuilt
+      list.insertion(1000);
+      assertEquals(1000, (int) list.valueAtIndex(list.length() - 1));
+      assertEquals(list.length() - 1, list.getIndex(1000));
+
+      // a sorted list finds the first copy from the closest checkpoint
+      List<String> sortedValues = List.of(sorted.toString().split(" "));
+      for (int value = -1; value <= 101; value++)
+          assertEquals(sortedValues.indexOf(String.valueOf(value)),
+                  sorted.getIndex(value));
+      assertEquals(-1, new SortedLinkedList<Integer>(true).getIndex(3));
+  }
+
+  // testing the cursor
+  @Test
+    public void testCursor(){
+      LinkedList<String> animal = new LinkedList<>(true);
+      animal.insertion("ant");
+      animal.insertion("bat");
+      animal.insertion("cat");
+      animal.insertion("dogs");
+
+      LinkedList<String>.Cursor cursor = animal.cursor(1);
+      assertEquals(1, cursor.nextIndex());
+      assertEquals("bat", cursor.next());
+      assertEquals("cat", cursor.next());
+      assertEquals("dogs", cursor.next());
+      assertFalse(cursor.hasNext());
+      assertThrows(NoSuchElementException.class, cursor::next);
+
+      assertFalse(animal.cursor(4).hasNext());
+      assertThrows(IndexOutOfBoundsException.class, () -> animal.cursor(5));
+
+      // changing the list makes the cursor throw
+      LinkedList<String>.Cursor old = animal.cursor();
+      animal.insertion("elephant");
+      assertThrows(ConcurrentModificationException.class, old::next);
+
+      // a skip list starts its cursor with the widths of its links
+      LinkedList<Integer> skip = new SortedSkipList<>();
+      for (int i = 100; i > 0; i--)
+          skip.insertion(i);
+      LinkedList<Integer>.Cursor fromMiddle = skip.cursor(49);
+      assertEquals(50, (int) fromMiddle.next());
+      assertEquals(51, (int) fromMiddle.next());
+  }
+
+  // the value index must give the same answers as walking the list
+  @Test
+    public void testValueIndex(){
+      Random random = new Random(36);
+      LinkedList<Integer> plain = new LinkedList<>();
+      LinkedList<Integer> indexed = new LinkedList<>(false, true);
+      LinkedList<Integer> sortedPlain = new SortedLinkedList<>();
+      LinkedList<Integer> sortedIndexed = new SortedLinkedList<>(true, true);
+      List<LinkedList<Integer>> lists =
+              List.of(plain, indexed, sortedPlain, sortedIndexed);
+
+      for (int round = 0; round < 5; round++) {
+          for (int i = 0; i < 300; i++) {
+              int value = random.nextInt(60);
+              for (LinkedList<Integer> list : lists)
+                  list.insertion(value);
+          }
+
+          int from = random.nextInt(60);
+          int to = random.nextInt(60);
+          for (LinkedList<Integer> list : lists)
+              list.removeFromTo(from, to);
+          if (round % 2 == 1)
+              for (LinkedList<Integer> list : lists)
+                  list.removeEveryOther();
+
+          for (int value = -1; value <= 60; value++) {
+              assertEquals(plain.search(value), indexed.search(value));
+              assertEquals(plain.valueFrequency(value),
+                      indexed.valueFrequency(value));
+              assertEquals(plain.getIndex(value), indexed.getIndex(value));
+              assertEquals(sortedPlain.valueFrequency(value),
+                      sortedIndexed.valueFrequency(value));
+              assertEquals(sortedPlain.getIndex(value),
+                      sortedIndexed.getIndex(value));
+          }
+          assertEquals(plain.toString(), indexed.toString());
+          assertEquals(sortedPlain.toString(), sortedIndexed.toString());
+      }
+
+      indexed.clear();
+      assertFalse(indexed.search(5));
+      assertEquals(0, indexed.valueFrequency(5));
+      assertFalse(new LinkedList<Integer>().search(5));// empty list
+  }
+
+  // removing every other element from a list of odd length keeps the tail
+  @Test
+    public void testRemoveEveryOtherOddLength(){
+      LinkedList<Integer> list = new LinkedList<>();
+      for (int i = 0; i < 5; i++)
+          list.insertion(i);
+
+      list.removeEveryOther();
+      assertEquals("0 2 4", list.toString());
+      list.insertion(5);
+      assertEquals("0 2 4 5", list.toString());
+      assertEquals(5, (int) list.valueAtIndex(3));
+  }
+
+  // testing adding many values at once and merging two sorted lists
+  @Test
+    public void testInsertAllAndMerge(){
+      List<Integer> batch = new ArrayList<>();
+      for (int j : new int[] {52, 66, 10, 92, 81, 89, 64, 33, 34, 92})
+          batch.add(j);
+
+      SortedLinkedList<Integer> list = new SortedLinkedList<>(true, true);
+      list.insertion(50);
+      list.insertion(92);
+      list.insertAll(batch);
+      assertEquals("10 33 34 50 52 64 66 81 89 92 92 92", list.toString());
+      assertEquals(12, list.length());
+      assertEquals(3, list.valueFrequency(92));
+      assertEquals(92, (int) list.valueAtIndex(11));
+
+      SortedLinkedList<Integer> other = new SortedLinkedList<>();
+      for (int j : new int[] {9, 58, 96, 92, 35, 24, 96, 22})
+          other.insertion(j);
+
+      list.mergeFrom(other);
+      assertEquals("9 10 22 24 33 34 35 50 52 58 64 66 81 89 92 92 92 92 96 96",
+              list.toString());
+      assertEquals(20, list.length());
+      assertEquals(4, list.valueFrequency(92));
+      assertEquals(96, (int) list.valueAtIndex(19));
+      assertEquals("", other.toString());
+      assertEquals(0, other.length());
+
+      // the emptied list can be used again, and merging it does nothing
+      list.mergeFrom(other);
+      other.insertion(1);
+      assertEquals("1", other.toString());
+      list.insertion(100);
+      assertEquals(21, list.length());
+
+      // a skip list gives the same result
+      SortedLinkedList<Integer> skip = new SortedSkipList<>();
+      skip.insertAll(batch);
+      skip.insertion(50);
+      skip.insertion(92);
+      SortedLinkedList<Integer> more = new SortedSkipList<>();
+      more.insertAll(List.of(9, 58, 96, 92, 35, 24, 96, 22));
+      skip.mergeFrom(more);
+      assertEquals("9 10 22 24 33 34 35 50 52 58 64 66 81 89 92 92 92 92 96 96",
+              skip.toString());
+      assertEquals(14, skip.getIndex(92));
+      assertEquals(0, more.length());
+
+      assertThrows(IllegalArgumentException.class, () -> list.mergeFrom(list));
+      assertThrows(IllegalArgumentException.class,
+              () -> list.insertAll(Arrays.asList(1, null)));
+      assertEquals(21, list.length());// nothing was added
+  }
+
+  // a value that is only compared by its key, to check equal keys keep order
+  private static class Item implements Comparable<Item> {
+      private final int key;
+      private final int order;
+
+      private Item(int key, int order) {
+          this.key = key;
+          this.order = order;
+      }
+
+      @Override
+      public int compareTo(Item other) {
+          return Integer.compare(key, other.key);
+      }
+  }
+
+  // sorting on one thread and in parallel
+  @Test
+    public void testSort(){
+      LinkedList<Integer> small = new LinkedList<>(true, true);
+      for (int j : new int[] {52, 66, 10, 92, 81, 89, 64, 33, 34, 92})
+          small.insertion(j);
+
+      small.sort();
+      assertEquals("10 33 34 52 64 66 81 89 92 92", small.toString());
+      assertEquals(92, (int) small.valueAtIndex(9));
+      assertEquals(8, small.getIndex(92));
+      small.insertion(1);// the tail must be the last node
+      assertEquals("10 33 34 52 64 66 81 89 92 92 1", small.toString());
+
+      Random random = new Random(39);
+      for (boolean parallel : new boolean[] {false, true}) {
+          LinkedList<Item> list = new LinkedList<>();
+          for (int i = 0; i < 50000; i++)
+              list.insertion(new Item(random.nextInt(1000), i));
+
+          if (parallel) {
+              ForkJoinPool pool = new ForkJoinPool(4);
+              try {
+                  list.parallelSort(pool);
+              } finally {
+                  pool.shutdown();
+              }
+          } else
+              list.sort();
+
+          assertEquals(50000, list.length());
+          LinkedList<Item>.Cursor cursor = list.cursor();
+          Item previous = cursor.next();
+          while (cursor.hasNext()) {
+              Item current = cursor.next();
+              assertTrue(previous.key <= current.key);
+              if (previous.key == current.key)
+                  assertTrue(previous.order < current.order);// stable
+              previous = current;
+          }
+          assertEquals(previous, list.valueAtIndex(49999));
+      }
+
+      // sorting an empty or sorted list does nothing
+      LinkedList<Integer> empty = new LinkedList<>();
+      empty.sort();
+      assertEquals("", empty.toString());
+      LinkedList<Integer> sorted = new SortedLinkedList<>();
+      sorted.insertion(2);
+      sorted.insertion(1);
+      sorted.parallelSort();
+      assertEquals("1 2", sorted.toString());
+  }
+
+  // testing iteration and streams, sequential and parallel
+  @Test
+    public void testStreams(){
+      LinkedList<Integer> plain = new LinkedList<>();
+      LinkedList<Integer> indexed = new LinkedList<>(true);
+      SortedLinkedList<Integer> skip = new SortedSkipList<>();
+      List<Integer> values = new ArrayList<>();
+
+      for (int i = 0; i < 30000; i++) {
+          values.add((i * 7919) % 30000);
+          plain.insertion(values.get(i));
+          indexed.insertion(values.get(i));
+      }
+      skip.insertAll(values);
+      long expected = 30000L * 29999 / 2;
+
+      for (LinkedList<Integer> list : List.of(plain, indexed, skip)) {
+          assertEquals(expected, list.stream().mapToLong(x -> x).sum());
+          assertEquals(expected, list.parallelStream().mapToLong(x -> x).sum());
+          assertEquals(30000, list.parallelStream().count());
+
+          // parallel streams keep the order of the list
+          List<Integer> collected = list.parallelStream()
+                  .collect(Collectors.toList());
+          int i = 0;
+          for (int value : list)
+              assertEquals(value, (int) collected.get(i++));
+      }
+
+      Spliterator<Integer> sorted = skip.spliterator();
+      assertTrue(sorted.hasCharacteristics(Spliterator.SORTED));
+      assertNull(sorted.getComparator());
+      assertFalse(plain.spliterator()
+              .hasCharacteristics(Spliterator.SORTED));
+      assertEquals(30000, plain.spliterator().getExactSizeIfKnown());
+
+      // changing the list while streaming is detected
+      assertThrows(ConcurrentModificationException.class,
+              () -> plain.stream().forEach(x -> {
+                  if (x == 0)
+                      plain.insertion(1);
+              }));
+      assertEquals(0, new LinkedList<String>().stream().count());
+
+      // a null action is refused even when nothing is left
+      assertThrows(NullPointerException.class,
+              () -> plain.spliterator().tryAdvance(null));
+      assertThrows(NullPointerException.class,
+              () -> new LinkedList<String>().spliterator().forEachRemaining(null));
+  }
+
+  // nodes removed by clear and the removal methods are reused by insertion
+  @Test
+  public void testNodePool(){
+      LinkedList<Integer> list = new LinkedList<>(true, true);
+      list.setNodePoolCapacity(100);
+
+      for (int i = 0; i < 50; i++)
+          list.insertion(i);
+      assertEquals(0L, list.poolHits());
+      assertEquals(50L, list.poolMisses());
+
+      list.removeFromTo(10, 19);
+      list.removeEveryOther();
+      assertEquals(10 + 20, list.pooledNodes());
+      assertEquals("0 2 4 6 8 20 22 24 26 28 30 32 34 36 38 40 42 44 46 48",
+              list.toString());
+
+      list.clear();
+      assertEquals(50, list.pooledNodes());
+      for (int cycle = 0; cycle < 3; cycle++) {
+          for (int i = 0; i < 50; i++)
+              list.insertion(i);
+          assertEquals(49, list.valueAtIndex(49).intValue());
+          assertEquals(1, list.valueFrequency(7));
+          list.clear();
+      }
+      assertEquals(150L, list.poolHits());
+      assertEquals(0.75, list.poolHitRate(), 1e-9);
+
+      // the pool never keeps more than its capacity
+      list.setNodePoolCapacity(20);
+      assertEquals(20, list.pooledNodes());
+      for (int i = 0; i < 30; i++)
+          list.insertion(i);
+      list.clear();
+      assertEquals(20, list.pooledNodes());
+      list.setNodePoolCapacity(0);
+      assertEquals(0, list.pooledNodes());
+      assertThrows(IllegalArgumentException.class,
+              () -> list.setNodePoolCapacity(-1));
+
+      // a stream over a list that is cleared into the pool stops with
+      // ConcurrentModificationException instead of reading pooled nodes
+      LinkedList<Integer> streamed = new LinkedList<>();
+      streamed.setNodePoolCapacity(100);
+      for (int i = 0; i < 10; i++)
+          streamed.insertion(i);
+      List<Integer> seen = new ArrayList<>();
+      assertThrows(ConcurrentModificationException.class,
+              () -> streamed.stream().forEach(x -> {
+                  seen.add(x);
+                  streamed.clear();
+              }));
+      assertEquals(List.of(0), seen);
+      for (int i = 0; i < 10; i++)
+          streamed.insertion(i);
+      assertThrows(ConcurrentModificationException.class,
+              () -> streamed.spliterator().tryAdvance(x -> streamed.clear()));
+
+      // sorted lists pool too, and moved nodes are not pooled twice
+      SortedLinkedList<Integer> first = new SortedLinkedList<>();
+      SortedLinkedList<Integer> second = new SortedLinkedList<>();
+      second.setNodePoolCapacity(10);
+      for (int i = 0; i < 5; i++) {
+          first.insertion(i * 2);
+          second.insertion(i * 2 + 1);
+      }
+      first.mergeFrom(second);
+      assertEquals(0, second.pooledNodes());
+      second.insertion(100);
+      assertEquals("0 1 2 3 4 5 6 7 8 9", first.toString());
+      assertEquals(3, first.removeRange(2, 4));
+
+      // a skip list pools its nodes by tower height
+      SortedSkipList<Integer> skip = new SortedSkipList<>();
+      skip.setNodePoolCapacity(1000);
+      for (int i = 0; i < 1000; i++)
+          skip.insertion(i);
+      skip.clear();
+      assertEquals(1000, skip.pooledNodes());
+      for (int i = 999; i >= 0; i--)
+          skip.insertion(i);
+      assertEquals(2000L, skip.poolHits() + skip.poolMisses());
+      assertTrue(skip.poolHits() > 500);// most heights are 1 or 2
+      assertEquals(1000 - skip.poolHits(), skip.pooledNodes());
+      for (int i = 0; i < 1000; i++)
+          assertEquals(i, skip.valueAtIndex(i).intValue());
+
+      // removed ranges are pooled, and reused nodes keep working towers
+      int before = skip.pooledNodes();
+      assertEquals(100, skip.removeRange(200, 299));
+      assertEquals(before + 100, skip.pooledNodes());
+      for (int i = 200; i < 300; i++)
+          skip.insertion(i);
+      for (int i = 0; i < 1000; i++)
+          assertEquals(i, skip.getIndex(i));
+      skip.setNodePoolCapacity(10);
+      assertEquals(10, skip.pooledNodes());
+      assertThrows(IllegalArgumentException.class,
+              () -> skip.setNodePoolCapacity(-1));
+  }
+
+  // writing gives the same text as toString, without building it first
+  @Test
+  public void testWriteTo() throws IOException {
+      LinkedList<String> list = new LinkedList<>();
+      StringBuilder empty = new StringBuilder();
+      list.insertion("x");
+      list.clear();
+      assertEquals(0, list.writeTo(empty));
+      assertEquals("", empty.toString());
+
+      for (int i = 0; i < 3000; i++)
+          list.insertion("\u00fcber" + i);
+
+      StringBuilder all = new StringBuilder();
+      assertEquals(3000, list.writeTo(all));
+      assertEquals(list.toString(), all.toString());
+
+      StringBuilder first = new StringBuilder();
+      assertEquals(2, list.writeTo(first, 2));
+      assertEquals("\u00fcber0 \u00fcber1", first.toString());
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      assertEquals(3000, list.writeTo(Channels.newChannel(bytes),
+              Integer.MAX_VALUE));
+      assertEquals(list.toString(),
+              bytes.toString(StandardCharsets.UTF_8));
+
+      // the buffer is reused, and elements longer than it are split
+      StringBuilder longValue = new StringBuilder();
+      for (int i = 0; i < 5000; i++)
+          longValue.append("\u20ac");// three bytes each
+      list.insertion(longValue.toString());
+      list.insertion("a\ud800b");// a lone surrogate is replaced
+      for (int round = 0; round < 2; round++) {
+          bytes.reset();
+          assertEquals(3002, list.writeTo(Channels.newChannel(bytes)));
+          assertEquals(list.toString().replace('\ud800', '?'),
+                  bytes.toString(StandardCharsets.UTF_8));
+      }
+      bytes.reset();
+      assertEquals(1, list.writeTo(Channels.newChannel(bytes), 1));
+      assertEquals("\u00fcber0", bytes.toString(StandardCharsets.UTF_8));
+      assertThrows(IllegalArgumentException.class,
+              () -> list.writeTo(Channels.newChannel(bytes), -1));
+  }
+
+  // ordering stops at the first difference, and equality is decided by
+  // the length and the fingerprint before any walk
+  @Test
+  public void testCompareAndFingerprint() {
+      LinkedList<Integer> first = new LinkedList<>();
+      LinkedList<Integer> second = new SortedLinkedList<>();
+      LinkedList<Integer> empty = new LinkedList<>();
+
+      for (int i = 0; i < 100; i++) {
+          first.insertion(i);
+          second.insertion(i);
+      }
+
+      assertEquals(0, first.compareTo(second));
+      assertTrue(first.contentEquals(second));
+      assertEquals(first.fingerprint(), second.fingerprint());
+      assertEquals(-1, empty.compareTo(first));
+      assertEquals(1, first.compareTo(empty));
+
+      // a prefix is less, and the first difference decides the order
+      first.removeFromTo(99, 99);
+      assertEquals(-1, first.compareTo(second));
+      assertFalse(first.contentEquals(second));
+      first.insertion(100);
+      assertEquals(1, first.compareTo(second));
+      assertTrue(first.fingerprint() != second.fingerprint());
+
+      // a stale fingerprint is rebuilt the same as one kept up to date
+      first.removeFromTo(100, 100);
+      first.insertion(99);
+      assertTrue(first.contentEquals(second));
+      second.removeEveryOther();
+      LinkedList<Integer> evens = new LinkedList<>();
+      for (int i = 0; i < 100; i += 2)
+          evens.insertion(i);
+      assertEquals(evens.fingerprint(), second.fingerprint());
+      assertTrue(evens.contentEquals(second));
+
+      // the order of the values changes the fingerprint
+      LinkedList<Integer> reversed = new LinkedList<>();
+      for (int i = 98; i >= 0; i -= 2)
+          reversed.insertion(i);
+      assertFalse(reversed.contentEquals(evens));
+      reversed.sort();
+      assertTrue(reversed.contentEquals(evens));
+
+      first.clear();
+      assertEquals(empty.fingerprint(), first.fingerprint());
+      assertTrue(first.contentEquals(empty));
+      assertThrows(IllegalArgumentException.class, () -> first.contentEquals(null));
+  }
 }
@@ -0,0 +1,195 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+package ListTests;
+
+import Lists.OffHeapList.ElementCodec;
+import Lists.OffHeapList.MappedLogList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// test for the mappedLogList class
+
+class MappedLogListTest {
+    // strings of any length, as their UTF-8 bytes
+    static final ElementCodec<String> STRINGS = new ElementCodec<String>() {
+        @Override
+        public int encodedSize(String value) {
+            return value.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        @Override
+        public void write(String value, ByteBuffer buffer, int offset) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < bytes.length; i++)
+                buffer.put(offset + i, bytes[i]);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int offset, int length) {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++)
+                bytes[i] = buffer.get(offset + i);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    static final int SEGMENT = 4096;
+
+    @Test
+    void testNullEvents() throws IOException {
+        Path file = Files.createTempFile("mapped", ".log");
+        try (MappedLogList<String> list = new MappedLogList<>(file, STRINGS, SEGMENT)) {
+            assertThrows(IllegalArgumentException.class, () -> list.insertion(null));
+            assertThrows(IllegalArgumentException.class, () -> list.search(null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> list.insertion("x".repeat(SEGMENT)));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.valueAtIndex(0));
+            assertEquals(0, list.length());
+            assertEquals("", list.toString());
+        } finally {
+            Files.delete(file);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedLogList<>(file, STRINGS, 5000));
+    }
+
+    @Test
+    void insertion() throws IOException {
+        Path file = Files.createTempFile("mapped", ".log");
+        try (MappedLogList<String> list = new MappedLogList<>(file, STRINGS, SEGMENT)) {
+            list.insertion("ant");
+            list.insertion("");
+            list.insertion("bat");
+            list.insertion("caf\u00e9");
+            list.insertion("ant");
+
+            assertEquals(5, list.length());
+            assertEquals("ant  bat caf\u00e9 ant", list.toString());
+            assertEquals("caf\u00e9", list.valueAtIndex(3));
+            assertEquals(1, list.getIndex(""));
+            assertEquals(2, list.valueFrequency("ant"));
+            assertTrue(list.search("bat"));
+            assertFalse(list.search("ba"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    // elements that do not fit go to the next segment, and come back the same
+    @Test
+    void reopenAfterClose() throws IOException {
+        Path file = Files.createTempFile("mapped", ".log");
+        try {
+            try (MappedLogList<String> list = new MappedLogList<>(file, STRINGS, SEGMENT)) {
+                for (int i = 0; i < 2000; i++)
+                    list.insertion(i + ":" + "x".repeat(i % 300));
+            }
+            assertThrows(IllegalStateException.class, () -> {
+                MappedLogList<String> closed = new MappedLogList<>(file, STRINGS);
+                closed.close();
+                closed.valueAtIndex(0);
+            });
+
+            // the segment size of the file is kept
+            try (MappedLogList<String> list = new MappedLogList<>(file, STRINGS)) {
+                assertEquals(2000, list.length());
+                for (int i = 0; i < 2000; i += 7)
+                    assertEquals(i + ":" + "x".repeat(i % 300), list.valueAtIndex(i));
+                assertEquals(1999, list.getIndex("1999:" + "x".repeat(199)));
+
+                list.insertion("last");
+            }
+
+            try (MappedLogList<String> list = new MappedLogList<>(file, STRINGS)) {
+                assertEquals(2001, list.length());
+                assertEquals("last", list.valueAtIndex(2000));
+                assertEquals("1999:" + "x".repeat(199), list.valueAtIndex(1999));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    // a list that was never closed is found again by reading the lengths
+    @Test
+    void reopenAfterCrash() throws IOException {
+        Path file = Files.createTempFile("mapped", ".log");
+        try {
+            MappedLogList<String> crashed = new MappedLogList<>(file, STRINGS, SEGMENT);
+            for (int i = 0; i < 500; i++)
+                crashed.insertion("value " + i);
+
+            try (MappedLogList<String> list = new MappedLogList<>(file, STRINGS)) {
+                assertEquals(500, list.length());
+                assertEquals("value 0", list.valueAtIndex(0));
+                assertEquals("value 499", list.valueAtIndex(499));
+                assertEquals(250, list.getIndex("value 250"));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    // a half written header slot falls back to the slot written before it
+    @Test
+    void damagedHeader() throws IOException {
+        Path file = Files.createTempFile("mapped", ".log");
+        try {
+            MappedLogList<String> crashed = new MappedLogList<>(file, STRINGS, SEGMENT);
+            crashed.insertion("first");
+            crashed.insertion("second");
+            crashed.insertion("third");
+
+            // the newest slot is the one with the highest sequence number
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(128);
+                channel.read(header, 0);
+                int newest = header.getLong(8) > header.getLong(72) ? 0 : 64;
+                channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), newest + 20);
+            }
+
+            try (MappedLogList<String> list = new MappedLogList<>(file, STRINGS)) {
+                assertEquals("first second", list.toString());
+            }
+
+            Files.write(file, new byte[200]);
+            assertThrows(IOException.class, () -> new MappedLogList<>(file, STRINGS));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void iterator() throws IOException {
+        Path file = Files.createTempFile("mapped", ".log");
+        try (MappedLogList<String> list = new MappedLogList<>(file, STRINGS, SEGMENT)) {
+            list.insertion("a");
+            list.insertion("b");
+
+            Iterator<String> stale = list.iterator();
+            assertEquals("a", stale.next());
+            list.insertion("c");
+            assertThrows(ConcurrentModificationException.class, stale::next);
+
+            StringBuilder all = new StringBuilder();
+            for (String value : list)
+                all.append(value);
+            assertEquals("abc", all.toString());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
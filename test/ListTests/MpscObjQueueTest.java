@@ -0,0 +1,93 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+// This class contains test written for the MpscObjQueue
+package ListTests;
+
+// importing all necessary libraries
+import Lists.ObjList.MpscObjQueue;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class MpscObjQueueTest {
+
+    // on one thread it behaves like a first in, first out ObjList
+    @Test
+    public void testSingleThread() {
+        MpscObjQueue queue = new MpscObjQueue();
+        assertThrows(IllegalArgumentException.class, () -> queue.insertion(null));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+
+        for (int i = 1; i <= 5; i++)
+            queue.insertion(i);
+
+        assertEquals("1 2 3 4 5", queue.toString());
+        assertEquals(5, queue.length());
+        assertEquals(1, (int) (Integer) queue.peek());
+        assertEquals(1, (int) (Integer) queue.poll());
+
+        Iterator<Object> iterator = queue.iterator();
+        assertEquals(2, (int) (Integer) iterator.next());
+        queue.poll();
+        queue.poll();
+
+        // the iterator skips what was taken behind it
+        List<Object> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+        assertEquals("[3, 4, 5]", rest.toString());
+        assertEquals("4 5", queue.toString());
+        assertEquals(2, queue.length());
+    }
+
+    // one consumer takes every object once, in the order of each producer
+    @Test
+    public void testProducersAndOneConsumer() throws Exception {
+        MpscObjQueue queue = new MpscObjQueue();
+        int producers = 6;
+        int perProducer = 20000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            pool.submit(() -> {
+                for (int i = 0; i < perProducer; i++)
+                    queue.insertion(producer * perProducer + i);
+            });
+        }
+
+        long total = (long) producers * perProducer;
+        long count = 0;
+        long sum = 0;
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        while (count < total && System.nanoTime() < deadline) {
+            Object value = queue.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+
+            int number = (Integer) value;
+            assertTrue(number > last[number / perProducer]);
+            last[number / perProducer] = number;
+            count++;
+            sum += number;
+        }
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+        assertEquals(total, count);
+        assertEquals(total * (total - 1) / 2, sum);
+        assertTrue(queue.isEmpty());
+    }
+}
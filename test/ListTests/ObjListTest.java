@@ -7,6 +7,16 @@ import Lists.ObjList.ObjList;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 // test for the objList class
 
 class ObjListTest {
@@ -199,4 +209,164 @@ class ObjListTest {
         assertTrue(animal.search("bat"));
         assertFalse(animal.search("turkey"));
     }
-}
\ No newline at end of file
+
+    // testing streams, sequential and parallel
+    @Test
+    void streams() {
+        ObjList list = new ObjList();
+        for (int i = 0; i < 10000; i++)
+            list.insertion(i);
+
+        assertEquals(49995000L, list.stream().mapToLong(x -> (Integer) x).sum());
+        assertEquals(49995000L,
+                list.parallelStream().mapToLong(x -> (Integer) x).sum());
+        assertEquals(10000, list.parallelStream().distinct().count());
+        assertEquals(list.toString(), list.parallelStream().map(String::valueOf)
+                .collect(Collectors.joining(" ")));
+        assertEquals(0, new ObjList().stream().count());
+
+        // changing the objList while streaming is detected
+        assertThrows(ConcurrentModificationException.class,
+                () -> list.stream().forEach(x -> {
+                    if ((Integer) x == 0)
+                        list.insertion(1);
+                }));
+        Spliterator<Object> stale = list.spliterator();
+        list.insertion(2);
+        assertThrows(ConcurrentModificationException.class,
+                () -> stale.tryAdvance(x -> { }));
+        assertThrows(NullPointerException.class,
+                () -> list.spliterator().tryAdvance(null));
+        assertThrows(NullPointerException.class,
+                () -> new ObjList().spliterator().forEachRemaining(null));
+    }
+
+    // nodes removed by clear and removeFromTo are reused by insertion
+    @Test
+    void nodePool() {
+        ObjList list = new ObjList();
+        list.setNodePoolCapacity(8);
+
+        for (int i = 0; i < 10; i++)
+            list.insertion(i);
+        list.removeFromTo(7, 9);
+        assertEquals("0 1 2 3 4 5 6", list.toString());
+        assertEquals("6 5 4 3 2 1 0", list.toStringReversal());
+        assertEquals(3, list.pooledNodes());
+
+        list.insertion("seven");
+        assertEquals("seven 6 5 4 3 2 1 0", list.toStringReversal());
+        list.clear();
+        assertEquals(8, list.pooledNodes());
+        assertEquals("", list.toString());
+
+        for (int i = 0; i < 8; i++)
+            list.insertion(i);
+        assertEquals("0 1 2 3 4 5 6 7", list.toString());
+        assertEquals(9L, list.poolHits());
+        assertEquals(10L, list.poolMisses());
+        assertEquals(9.0 / 19, list.poolHitRate(), 1e-9);
+
+        // a stream over an objList that is cleared into the pool stops with
+        // ConcurrentModificationException instead of reading pooled nodes
+        StringBuilder seen = new StringBuilder();
+        assertThrows(ConcurrentModificationException.class,
+                () -> list.stream().forEach(x -> {
+                    seen.append(x);
+                    list.clear();
+                }));
+        assertEquals("0", seen.toString());
+    }
+
+    // removing through the iterator keeps both directions linked
+    @Test
+    void iteratorRemove() {
+        ObjList list = new ObjList();
+        for (int i = 0; i < 10; i++)
+            list.insertion(i);
+
+        Iterator<Object> iterator = list.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            int value = (Integer) iterator.next();
+            if (value < 2 || value % 3 == 0 || value == 9)
+                iterator.remove();
+        }
+        assertEquals("2 4 5 7 8", list.toString());
+        assertEquals("8 7 5 4 2", list.toStringReversal());
+        assertEquals(5, list.length());
+
+        // the tail is correct after its node was removed
+        list.insertion(10);
+        assertEquals("10 8 7 5 4 2", list.toStringReversal());
+
+        Iterator<Object> stale = list.iterator();
+        stale.next();
+        list.insertion(11);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+
+    @Test
+    void removeIf() {
+        ObjList list = new ObjList();
+        list.setNodePoolCapacity(100);
+        for (int i = 0; i < 20; i++)
+            list.insertion(i);
+        list.insertion("twenty");
+
+        assertTrue(list.removeIf(x -> x instanceof Integer && (Integer) x % 2 == 1));
+        assertEquals("0 2 4 6 8 10 12 14 16 18 twenty", list.toString());
+        assertEquals("twenty 18 16 14 12 10 8 6 4 2 0", list.toStringReversal());
+        assertFalse(list.removeIf(x -> x.equals("none")));
+        assertEquals(10, list.pooledNodes());
+
+        // an exception leaves the unchecked elements in place
+        assertThrows(ClassCastException.class, () -> list.intFilter(5));
+        assertEquals("0 2 4 twenty", list.toString());
+        assertEquals("twenty 4 2 0", list.toStringReversal());
+
+        assertTrue(list.removeIf(x -> true));
+        assertEquals(0, list.length());
+        list.insertion("again");
+        assertEquals("again", list.toStringReversal());
+
+        // rotations keep prev links correct
+        for (int i = 1; i <= 4; i++)
+            list.insertion(i);
+        list.makeNewList(2);
+        list.moveLastToBegin();
+        assertEquals("1 2 3 4 again", list.toString());
+        assertEquals("again 4 3 2 1", list.toStringReversal());
+    }
+
+    // writing gives the same text as toString, without building it first
+    @Test
+    void writeTo() throws IOException {
+        ObjList list = new ObjList();
+        StringBuilder empty = new StringBuilder();
+        assertEquals(0, list.writeTo(empty));
+        assertEquals("", empty.toString());
+
+        for (int i = 0; i < 5000; i++)
+            list.insertion(i % 7 == 0 ? "caf\u00e9" + i : i);
+
+        StringBuilder forward = new StringBuilder();
+        assertEquals(5000, list.writeTo(forward));
+        assertEquals(list.toString(), forward.toString());
+
+        StringBuilder backward = new StringBuilder();
+        assertEquals(3, list.writeReversedTo(backward, 3));
+        assertEquals("4999 caf\u00e94998 4997", backward.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel channel =
+                Channels.newChannel(bytes);
+        assertEquals(5000, list.writeReversedTo(channel, Integer.MAX_VALUE));
+        assertEquals(list.toStringReversal(),
+                bytes.toString(StandardCharsets.UTF_8));
+        assertTrue(channel.isOpen());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> list.writeTo(new StringBuilder(), -1));
+    }
+}
@@ -0,0 +1,154 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+package ListTests;
+
+import Lists.OffHeapList.OffHeapList;
+import Lists.OffHeapList.RecordCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// test for the offHeapList class
+
+class OffHeapListTest {
+    // a small fixed layout record: an int id and a long amount
+    static final class Trade {
+        final int id;
+        final long amount;
+
+        Trade(int id, long amount) {
+            this.id = id;
+            this.amount = amount;
+        }
+
+        @Override
+        public String toString() {
+            return id + ":" + amount;
+        }
+    }
+
+    static final RecordCodec<Trade> TRADES = new RecordCodec<Trade>() {
+        @Override
+        public int recordSize() {
+            return 12;
+        }
+
+        @Override
+        public void write(Trade value, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, value.id);
+            buffer.putLong(offset + 4, value.amount);
+        }
+
+        @Override
+        public Trade read(ByteBuffer buffer, int offset) {
+            return new Trade(buffer.getInt(offset), buffer.getLong(offset + 4));
+        }
+    };
+
+    static final RecordCodec<Integer> INTS = new RecordCodec<Integer>() {
+        @Override
+        public int recordSize() {
+            return 4;
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    @Test
+    void testRecords() {
+        try (OffHeapList<Trade> trades = new OffHeapList<>(TRADES)) {
+            for (int i = 0; i < 5; i++)
+                trades.insertion(new Trade(i, i * 100L));
+
+            assertEquals(5, trades.length());
+            assertEquals("0:0 1:100 2:200 3:300 4:400", trades.toString());
+            assertEquals(300L, trades.valueAtIndex(3).amount);
+            assertEquals(2, trades.getIndex(new Trade(2, 200)));
+            assertFalse(trades.search(new Trade(2, 201)));
+
+            trades.removeFromTo(new Trade(1, 100), new Trade(3, 300));
+            assertEquals("0:0 4:400", trades.toString());
+
+            assertThrows(IllegalArgumentException.class, () -> trades.insertion(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> trades.valueAtIndex(2));
+        }
+    }
+
+    // a list bigger than many chunks, compared with an ArrayList
+    @Test
+    void testChunks() {
+        OffHeapList<Integer> list = new OffHeapList<>(INTS);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(47);
+
+        for (int i = 0; i < 9_000_000; i++) {
+            list.insertion(i);
+            if (i % 1000 == 0)
+                expected.add(i);
+        }
+        assertEquals(9_000_000, list.length());
+        assertEquals(8_999_999, (int) list.valueAtIndex(8_999_999));
+        long allocated = list.offHeapBytes();
+
+        // removing across chunk boundaries keeps the order of the rest
+        list.removePositions(1_000_000, 7_500_000);
+        assertEquals(2_500_000, list.length());
+        assertEquals(999_999, (int) list.valueAtIndex(999_999));
+        assertEquals(7_500_000, (int) list.valueAtIndex(1_000_000));
+        assertTrue(list.offHeapBytes() < allocated);
+
+        for (int check = 0; check < 1000; check++) {
+            int index = random.nextInt(list.length());
+            int value = list.valueAtIndex(index);
+            assertEquals(index < 1_000_000 ? index : index + 6_500_000, value);
+        }
+
+        list.removeFromTo(7_500_010, 8_999_999);
+        assertEquals(1_000_010, list.length());
+        assertEquals(1, list.valueFrequency(7_500_009));
+
+        list.clear();
+        assertEquals(0, list.length());
+        list.insertion(5);
+        assertEquals("5", list.toString());
+        list.close();
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.insertion(6));
+    }
+
+    @Test
+    void testIterator() {
+        OffHeapList<Integer> list = new OffHeapList<>(INTS);
+        for (int i = 0; i < 200; i++)
+            list.insertion(i * 3);
+
+        int expected = 0;
+        for (int value : list) {
+            assertEquals(expected, value);
+            expected += 3;
+        }
+        assertEquals(600, expected);
+
+        Iterator<Integer> stale = list.iterator();
+        stale.next();
+        list.insertion(1);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+        list.close();
+    }
+}
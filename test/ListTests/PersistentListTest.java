@@ -0,0 +1,139 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+package ListTests;
+
+import Lists.PersistentList.PersistentList;
+import Lists.PersistentList.SnapshotList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// test for the persistentList and snapshotList classes
+
+class PersistentListTest {
+    @Test
+    void testVersions() {
+        PersistentList<Integer> empty = PersistentList.empty();
+        PersistentList<Integer> first = empty.insertion(1).insertion(2)
+                .insertion(3);
+        PersistentList<Integer> second = first.insertion(1, 9);
+        PersistentList<Integer> third = second.remove(0);
+
+        // every version keeps its own elements
+        assertEquals("", empty.toString());
+        assertEquals("1 2 3", first.toString());
+        assertEquals("1 9 2 3", second.toString());
+        assertEquals("9 2 3", third.toString());
+        assertEquals(0, empty.length());
+        assertEquals(4, second.length());
+
+        assertEquals(9, (int) second.valueAtIndex(1));
+        assertEquals(2, third.getIndex(3));
+        assertTrue(third.search(9));
+        assertFalse(first.search(9));
+        assertSame(first, first.removeFromTo(7, 8));
+        assertSame(empty, first.clear());
+
+        assertThrows(IllegalArgumentException.class, () -> empty.insertion(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> first.valueAtIndex(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> first.insertion(4, 0));
+    }
+
+    @Test
+    void testRemoveFromTo() {
+        PersistentList<String> streaming = PersistentList.copyOf(List.of(
+                "Netflix", "Disney", "Hulu", "123Movies", "Peacock", "HBOMax",
+                "Prime Video", "Crunchy-roll"));
+
+        PersistentList<String> removed = streaming.removeFromTo("Hulu", "HBOMax");
+        assertEquals("Netflix Disney Prime Video Crunchy-roll", removed.toString());
+        assertEquals(8, streaming.length());
+        assertEquals(3, removed.removeFromTo("Netflix", "Netflix").length());
+
+        assertTrue(streaming.compareTo(removed) < 0);
+        assertEquals(0, streaming.compareTo(PersistentList.copyOf(streaming)));
+        assertEquals(1, streaming.valueFrequency("Hulu"));
+    }
+
+    // comparing many versions against ArrayLists after random changes
+    @Test
+    void testRandomOperations() {
+        Random random = new Random(46);
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> model = new ArrayList<>();
+
+        for (int step = 0; step < 4000; step++) {
+            int choice = random.nextInt(10);
+
+            if (choice < 6 || model.isEmpty()) {
+                int position = random.nextInt(model.size() + 1);
+                list = list.insertion(position, step);
+                model.add(position, step);
+            } else if (choice < 8) {
+                int position = random.nextInt(model.size());
+                list = list.remove(position);
+                model.remove(position);
+            } else {
+                int from = random.nextInt(model.size());
+                int to = Math.min(model.size(), from + random.nextInt(50) + 1);
+                list = list.removeFromTo(model.get(from), model.get(to - 1));
+                model.subList(from, to).clear();
+            }
+
+            if (step % 100 == 0) {
+                versions.add(list);
+                expected.add(new ArrayList<>(model));
+            }
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            PersistentList<Integer> version = versions.get(i);
+            List<Integer> values = expected.get(i);
+
+            assertEquals(values.size(), version.length());
+            int index = 0;
+            for (int value : version)
+                assertEquals((int) values.get(index++), value);
+            for (int j = 0; j < values.size(); j += 7)
+                assertEquals((int) values.get(j), (int) version.valueAtIndex(j));
+        }
+    }
+
+    // readers keep a consistent snapshot while a writer changes the list
+    @Test
+    void testSnapshots() throws InterruptedException {
+        SnapshotList<Integer> shared = new SnapshotList<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                shared.insertion(i);
+                if (i % 100 == 99)
+                    shared.removeFromTo(i - 99, i - 50);
+            }
+        });
+        writer.start();
+
+        // every snapshot is a run of 50 removed values, then kept ones
+        while (writer.isAlive()) {
+            PersistentList<Integer> snapshot = shared.snapshot();
+            int previous = -1;
+            for (int value : snapshot) {
+                assertTrue(value > previous);
+                previous = value;
+            }
+            assertEquals(snapshot.length(), snapshot.length());
+        }
+        writer.join();
+
+        assertEquals(10000, shared.length());
+        assertEquals(50, (int) shared.snapshot().valueAtIndex(0));
+        shared.clear();
+        assertEquals("", shared.toString());
+    }
+}
@@ -0,0 +1,120 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+// This class contains test written for the int and long linked lists
+package ListTests;
+
+// importing all necessary libraries
+import Lists.LinkedList.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+class PrimitiveLinkedListTest {
+    private final int[] testArray = {52, 66, 10, 92, 81, 89,
+            64, 33, 34, 92,  9, 58,
+            96, 92, 92, 35, 24, 96,22};
+
+    // the same checks as the LinkedList tests
+    @Test
+    public void testIntLinkedList() {
+        IntLinkedList list = new IntLinkedList(4);// has to grow
+        for (int j : testArray)
+            list.insertion(j);
+
+        assertEquals("52 66 10 92 81 89 "
+                + "64 33 34 92 9 58 "
+                + "96 92 92 35 24 96 22", list.toString());
+        assertEquals(19, list.length());
+        assertEquals(4, list.valueFrequency(92));
+        assertEquals(3, list.getIndex(92));
+        assertEquals(-1, list.getIndex(102));
+        assertEquals(22, list.valueAtIndex(18));
+        assertTrue(list.search(35));
+
+        list.removeFromTo(64, 34);
+        assertEquals("52 66 10 92 81 89 92 9 58 96 "
+                + "92 92 35 24 96 22", list.toString());
+        list.removeFromTo(92, 92);
+        list.removeFromTo(34, 52);// 34 is gone, nothing happens
+        assertEquals(15, list.length());
+
+        list.removeEveryOther();
+        assertEquals("52 10 89 9 96 92 24 22", list.toString());
+
+        // removed slots are used again, and the tail is still right
+        list.insertion(7);
+        assertEquals(7, list.valueAtIndex(8));
+        list.removeFromTo(96, 7);
+        assertEquals("52 10 89 9", list.toString());
+        list.insertion(1);
+        assertEquals("52 10 89 9 1", list.toString());
+
+        list.clear();
+        assertEquals("", list.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.valueAtIndex(0));
+        assertThrows(IllegalArgumentException.class, () -> new IntLinkedList(-1));
+    }
+
+    // the sorted list keeps its values in order
+    @Test
+    public void testSortedIntLinkedList() {
+        SortedIntLinkedList list = new SortedIntLinkedList();
+        for (int j : testArray)
+            list.insertion(j);
+
+        assertEquals("9 10 22 24 33 34 35 52 58 64 66 81 89 "
+                + "92 92 92 92 96 96", list.toString());
+        assertEquals(4, list.valueFrequency(92));
+        assertEquals(13, list.getIndex(92));
+        assertEquals(-1, list.getIndex(90));
+
+        list.removeFromTo(24, 58);
+        assertEquals("9 10 22 64 66 81 89 "
+                + "92 92 92 92 96 96", list.toString());
+        list.removeFromTo(66, 92);
+        assertEquals("9 10 22 64 92 92 92 96 96", list.toString());
+        assertEquals(9, list.length());
+
+        list.removeFromTo(96, 9);// backwards, nothing happens
+        list.removeFromTo(92, 100);
+        assertEquals(9, list.length());
+        assertEquals(3, list.valueFrequency(92));
+
+        // a run of values equal to the tail is appended straight after it
+        for (int i = 0; i < 3; i++)
+            list.insertion(96);
+        list.insertion(97);
+        assertEquals("9 10 22 64 92 92 92 96 96 96 96 96 97", list.toString());
+        assertEquals(12, list.getIndex(97));
+    }
+
+    // long values past the int range, compared with the int lists
+    @Test
+    public void testLongLinkedLists() {
+        Random random = new Random(34);
+        SortedLongLinkedList sorted = new SortedLongLinkedList();
+        SortedIntLinkedList sortedInts = new SortedIntLinkedList();
+        LongLinkedList plain = new LongLinkedList();
+
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(100);
+            sorted.insertion(value);
+            sortedInts.insertion(value);
+            plain.insertion(value);
+        }
+        assertEquals(sortedInts.toString(), sorted.toString());
+        assertEquals(500, plain.length());
+
+        sorted.insertion(Long.MAX_VALUE);
+        sorted.insertion(Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, sorted.valueAtIndex(0));
+        assertEquals(Long.MAX_VALUE, sorted.valueAtIndex(501));
+
+        LongLinkedList other = new LongLinkedList();
+        other.insertion(Long.MIN_VALUE);
+        assertTrue(other.compareTo(sorted) < 0);
+        other.insertion(Long.MAX_VALUE);
+        assertTrue(other.compareTo(sorted) > 0);
+    }
+}
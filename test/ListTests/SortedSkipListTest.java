@@ -0,0 +1,268 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+// This class contains test written for the SortedSkipList
+package ListTests;
+
+// importing all necessary libraries
+import Lists.LinkedList.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+class SortedSkipListTest {
+    private final int[] testArray = {52, 66, 10, 92, 81, 89,
+            64, 33, 34, 92,  9, 58,
+            96, 92, 92, 35, 24, 96,22};
+
+    // the skip list must keep the same order as a SortedLinkedList
+    @Test
+    public void testInsertion() {
+        LinkedList<Integer> list = new SortedSkipList<>();
+        for (int j : testArray)
+            list.insertion(j);
+
+        assertEquals("9 10 22 24 33 34 35 52 58 64 66 81 89 92 92 92"
+                + " 92 96 96", list.toString());
+        assertEquals(19, list.length());
+
+        assertEquals(4, list.valueFrequency(92));
+        assertEquals(2, list.valueFrequency(96));
+        assertEquals(0, list.valueFrequency(100));
+        assertEquals(13, list.getIndex(92));
+        assertEquals(-1, list.getIndex(93));
+        assertEquals(9, (int) list.valueAtIndex(0));
+        assertEquals(96, (int) list.valueAtIndex(18));
+        assertTrue(list.search(35));
+        assertFalse(list.search(36));
+    }
+
+    // removing ranges and alternate elements
+    @Test
+    public void testRemoval() {
+        LinkedList<Integer> list = new SortedSkipList<>();
+        for (int j : testArray)
+            list.insertion(j);
+
+        list.removeFromTo(24, 58);
+        assertEquals("9 10 22 64 66 81 89 "
+                + "92 92 92 92 96 96", list.toString());
+        assertEquals(13, list.length());
+
+        list.removeFromTo(66, 92);
+        assertEquals("9 10 22 64 92 92 92 96 96", list.toString());
+        assertEquals(9, list.length());
+
+        // nothing happens if a value is missing or the range is backwards
+        list.removeFromTo(92, 100);
+        list.removeFromTo(96, 9);
+        assertEquals(9, list.length());
+
+        list.removeEveryOther();
+        assertEquals("9 22 92 92 96", list.toString());
+        assertEquals(92, (int) list.valueAtIndex(3));
+
+        list.removeFromTo(9, 96);
+        assertEquals("", list.toString());
+        assertEquals(0, list.length());
+
+        // the list can be added to again after it is emptied
+        list.insertion(5);
+        list.insertion(1);
+        assertEquals("1 5", list.toString());
+        list.clear();
+        assertEquals(0, list.length());
+        assertFalse(list.search(5));
+    }
+
+    // random operations must give the same results as a SortedLinkedList
+    @Test
+    public void testAgainstSortedLinkedList() {
+        Random random = new Random(31);
+        LinkedList<Integer> expected = new SortedLinkedList<>();
+        LinkedList<Integer> actual = new SortedSkipList<>();
+
+        for (int round = 0; round < 2000; round++) {
+            int value = random.nextInt(300);
+            expected.insertion(value);
+            actual.insertion(value);
+
+            if (round % 100 == 99) {
+                int from = random.nextInt(300);
+                int to = from + random.nextInt(30);
+                // the linked list version only works on distinct bounds
+                if (expected.valueFrequency(from) == 1
+                        && expected.valueFrequency(to) == 1 && from < to) {
+                    expected.removeFromTo(from, to);
+                    actual.removeFromTo(from, to);
+                }
+            }
+        }
+
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.length(), actual.length());
+        assertEquals(0, expected.compareTo(actual));
+        for (int value = 0; value < 300; value++) {
+            assertEquals(expected.valueFrequency(value),
+                    actual.valueFrequency(value));
+            // getIndex() of the linked list gives the last copy of the tail
+            if (value != actual.valueAtIndex(actual.length() - 1))
+                assertEquals(expected.getIndex(value), actual.getIndex(value));
+            assertEquals(expected.search(value), actual.search(value));
+        }
+
+        // valueAtIndex() of the linked list skips duplicates, so the values
+        // are checked against its string instead
+        String[] values = expected.toString().split(" ");
+        for (int i = 0; i < actual.length(); i += 37)
+            assertEquals(values[i], actual.valueAtIndex(i).toString());
+    }
+
+    // testing null and invalid input detection
+    @Test
+    public void testInvalidInput() {
+        LinkedList<Integer> list = new SortedSkipList<>();
+
+        assertThrows(IllegalArgumentException.class, () -> list.insertion(null));
+        assertThrows(IllegalArgumentException.class, () -> list.getIndex(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> list.removeFromTo(1, null));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> list.valueAtIndex(0));
+    }
+
+    // range queries must give the same answers on every sorted list
+    @Test
+    public void testRangeQueries() {
+        Random random = new Random(38);
+        List<SortedLinkedList<Integer>> lists = List.of(
+                new SortedLinkedList<>(), new SortedLinkedList<>(true),
+                new SortedSkipList<>());
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(500);
+            expected.add(value);
+            for (SortedLinkedList<Integer> list : lists)
+                list.insertion(value);
+        }
+        Collections.sort(expected);
+
+        for (int round = 0; round < 50; round++) {
+            int from = random.nextInt(520) - 10;
+            int to = from + random.nextInt(40);
+
+            List<Integer> inRange = new ArrayList<>();
+            Integer floor = null;
+            Integer ceiling = null;
+            for (int value : expected) {
+                if (value >= from && value <= to)
+                    inRange.add(value);
+                if (value <= from)
+                    floor = value;
+                if (value >= to && ceiling == null)
+                    ceiling = value;
+            }
+
+            for (SortedLinkedList<Integer> list : lists) {
+                List<Integer> found = new ArrayList<>();
+                for (int value : list.range(from, to))
+                    found.add(value);
+
+                assertEquals(inRange, found);
+                assertEquals(inRange.size(), list.countInRange(from, to));
+                assertEquals(floor, list.floor(from));
+                assertEquals(ceiling, list.ceiling(to));
+            }
+
+            // every fifth round, the range is removed from all of them
+            if (round % 5 == 0) {
+                for (SortedLinkedList<Integer> list : lists)
+                    assertEquals(inRange.size(), list.removeRange(from, to));
+                expected.removeAll(inRange);
+            }
+        }
+
+        for (SortedLinkedList<Integer> list : lists) {
+            assertEquals(expected.size(), list.length());
+            assertEquals(0, list.countInRange(10, 5));
+            assertEquals(0, list.removeRange(10, 5));
+        }
+
+        // the end of the list is removed and added to again
+        SortedLinkedList<Integer> list = new SortedSkipList<>();
+        list.insertAll(List.of(1, 2, 3, 4, 5));
+        assertEquals(2, list.removeRange(4, 10));
+        assertNull(list.ceiling(4));
+        list.insertion(9);
+        assertEquals("1 2 3 9", list.toString());
+        assertThrows(IllegalArgumentException.class, () -> list.floor(null));
+    }
+
+    // small and big batches, and merges from both kinds of sorted list,
+    // must keep the towers working
+    @Test
+    public void testBulkChanges() {
+        Random random = new Random(37);
+        SortedSkipList<Integer> list = new SortedSkipList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int round = 0; round < 20; round++) {
+            // a few values go in through insertion(), many by linking again
+            List<Integer> batch = new ArrayList<>();
+            int size = round % 2 == 0 ? 3 : 400;
+            for (int i = 0; i < size; i++)
+                batch.add(random.nextInt(1000));
+            list.insertAll(batch);
+            expected.addAll(batch);
+
+            SortedLinkedList<Integer> other = round % 3 == 0
+                    ? new SortedLinkedList<>() : new SortedSkipList<>();
+            for (int i = 0; i < 50; i++) {
+                int value = random.nextInt(1000);
+                other.insertion(value);
+                expected.add(value);
+            }
+            list.mergeFrom(other);
+            assertEquals(0, other.length());
+            assertEquals("", other.toString());
+            other.insertion(5);
+            assertEquals("5", other.toString());
+        }
+        Collections.sort(expected);
+
+        assertEquals(expected.size(), list.length());
+        for (int i = 0; i < expected.size(); i += 7) {
+            assertEquals(expected.get(i), list.valueAtIndex(i));
+            assertEquals(expected.indexOf(expected.get(i)),
+                    list.getIndex(expected.get(i)));
+        }
+
+        list.removeEveryOther();
+        List<Integer> kept = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i += 2)
+            kept.add(expected.get(i));
+        assertEquals(kept.size(), list.length());
+        for (int i = 0; i < kept.size(); i++)
+            assertEquals(kept.get(i), list.valueAtIndex(i));
+        list.insertion(2000);
+        assertEquals(2000, list.valueAtIndex(kept.size()).intValue());
+
+        // merging two skip lists moves the nodes, so none is made
+        SortedSkipList<Integer> first = new SortedSkipList<>();
+        SortedSkipList<Integer> second = new SortedSkipList<>();
+        first.setNodePoolCapacity(10);
+        for (int i = 0; i < 100; i++) {
+            first.insertion(i * 2);
+            second.insertion(i * 2 + 1);
+        }
+        first.mergeFrom(second);
+        assertEquals(100L, first.poolMisses());
+        assertEquals(0L, first.poolHits());
+        for (int i = 0; i < 200; i++)
+            assertEquals(i, first.getIndex(i));
+    }
+}
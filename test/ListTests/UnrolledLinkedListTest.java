@@ -0,0 +1,151 @@
+/*Copyright (c) 2022. Do not use without permission. All Rights Reserved.
+Simi Ojeyomi*/
+
+// This class contains test written for the UnrolledLinkedList
+package ListTests;
+
+// importing all necessary libraries
+import Lists.LinkedList.UnrolledLinkedList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class UnrolledLinkedListTest {
+    private final int[] testArray = {52, 66, 10, 92, 81, 89,
+            64, 33, 34, 92,  9, 58,
+            96, 92, 92, 35, 24, 96,22};
+
+    // the same checks as the LinkedList tests
+    @Test
+    public void testLinkedListBehaviour() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        for (int j : testArray)
+            list.insertion(j);
+
+        assertEquals("52 66 10 92 81 89 "
+                + "64 33 34 92 9 58 "
+                + "96 92 92 35 24 96 22", list.toString());
+        assertEquals(19, list.length());
+        assertEquals(4, list.valueFrequency(92));
+        assertEquals(3, list.getIndex(92));
+        assertEquals(-1, list.getIndex(102));
+        assertEquals(22, (int) list.valueAtIndex(18));
+        assertTrue(list.search(35));
+        assertFalse(list.search(36));
+
+        list.removeFromTo(64, 34);
+        assertEquals(16, list.length());
+        assertEquals("52 66 10 92 81 89 92 9 58 96 "
+                + "92 92 35 24 96 22", list.toString());
+
+        list.removeFromTo(92, 92);
+        assertEquals("52 66 10 81 89 92 9 58 96 "
+                + "92 92 35 24 96 22", list.toString());
+
+        // nothing is removed when a value is missing or comes before
+        list.removeFromTo(92, 100);
+        list.removeFromTo(34, 52);
+        list.removeFromTo(24, 58);
+        assertEquals(15, list.length());
+
+        list.removeEveryOther();
+        assertEquals("52 10 89 9 96 92 24 22", list.toString());
+        assertEquals(8, list.length());
+
+        list.clear();
+        assertEquals("", list.toString());
+        assertEquals(0, list.length());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.valueAtIndex(0));
+        assertThrows(IllegalArgumentException.class, () -> list.insertion(null));
+    }
+
+    // removals across many nodes must match an ArrayList
+    @Test
+    public void testManyNodes() {
+        Random random = new Random(33);
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            list.insertion(i);
+            expected.add(i);
+        }
+
+        for (int round = 0; round < 50; round++) {
+            int from = expected.get(random.nextInt(expected.size()));
+            int to = expected.get(Math.min(expected.size() - 1,
+                    expected.indexOf(from) + random.nextInt(200)));
+            list.removeFromTo(from, to);
+            expected.subList(expected.indexOf(from), expected.indexOf(to) + 1)
+                    .clear();
+        }
+        assertEquals(expected.size(), list.length());
+
+        list.removeEveryOther();
+        List<Integer> kept = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i += 2)
+            kept.add(expected.get(i));
+
+        assertEquals(kept.size(), list.length());
+        for (int i = 0; i < kept.size(); i++)
+            assertEquals(kept.get(i), list.valueAtIndex(i));
+        assertEquals(kept.indexOf(kept.get(kept.size() - 1)),
+                list.getIndex(kept.get(kept.size() - 1)));
+
+        // adding after removals still goes to the end
+        list.insertion(-5);
+        assertEquals(-5, (int) list.valueAtIndex(list.length() - 1));
+    }
+
+    // comparing two lists
+    @Test
+    public void testCompareTo() {
+        UnrolledLinkedList<String> first = new UnrolledLinkedList<>();
+        UnrolledLinkedList<String> second = new UnrolledLinkedList<>();
+
+        for (int i = 0; i < 100; i++) {
+            first.insertion("value" + i);
+            second.insertion("value" + i);
+        }
+        assertEquals(0, first.compareTo(second));
+
+        second.insertion("more");
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(second.compareTo(first) > 0);
+
+        first.insertion("zzz");
+        assertTrue(first.compareTo(second) > 0);
+    }
+
+    // emptying the last node unlinks it, and adding goes after the node
+    // that is now the last one
+    @Test
+    public void testEmptyNodeIsDropped() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            list.insertion(i);
+            expected.add(i);
+        }
+
+        // the third node holds 128 and 129 only
+        list.removeFromTo(128, 129);
+        expected.subList(128, 130).clear();
+        list.insertion(500);
+        expected.add(500);
+        assertEquals(129, list.length());
+        assertEquals(expected.toString().replaceAll("[\\[\\],]", ""),
+                list.toString());
+
+        // emptying a node in the middle merges the next node into it
+        list.removeFromTo(64, 127);
+        expected.subList(64, 128).clear();
+        list.insertion(501);
+        expected.add(501);
+        assertEquals(expected.toString().replaceAll("[\\[\\],]", ""),
+                list.toString());
+        assertEquals(501, (int) list.valueAtIndex(list.length() - 1));
+    }
+}